@@ -0,0 +1,88 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import enumeration.Position;
+import enumeration.Statistic;
+import game.Athlete;
+import game.GameEnvironment;
+import game.Purchasable;
+
+/**
+ * Measures the cost of generating athletes and calculating their match scores.
+ *
+ * @author Findlay Royds
+ * @version 1.2
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AthleteBenchmark {
+	/**
+	 * The position the match score is calculated for
+	 */
+	@Param({ "SHORT_SHOOTER", "DEFENDER" })
+	private Position position;
+
+	/**
+	 * The game environment athletes are generated in
+	 */
+	private GameEnvironment gameEnvironment;
+
+	/**
+	 * The athlete whose match score is calculated
+	 */
+	private Athlete athlete;
+
+	/**
+	 * Creates a headless game environment and an athlete to score.
+	 */
+	@Setup
+	public void setUp() {
+		gameEnvironment = GameFixtures.createGameEnvironment(10);
+		athlete = (Athlete) Athlete.generateAthlete.apply(GameFixtures.QUALITY_LEVEL, gameEnvironment);
+	}
+
+	/**
+	 * @return The athlete's match score
+	 */
+	@Benchmark
+	public int getMatchScore() {
+		return athlete.getMatchScore(position);
+	}
+
+	/**
+	 * Changes a statistic before each score, so the score has to be recalculated
+	 * rather than read from the athlete's remembered scores.
+	 *
+	 * @return The athlete's match score
+	 */
+	@Benchmark
+	public int getMatchScoreAfterStatisticChange() {
+		athlete.setStatistic(Statistic.FITNESS, athlete.getStatistic(Statistic.FITNESS) ^ 1);
+		return athlete.getMatchScore(position);
+	}
+
+	/**
+	 * @return A generated athlete
+	 */
+	@Benchmark
+	public Purchasable generateAthlete() {
+		return Athlete.generateAthlete.apply(GameFixtures.QUALITY_LEVEL, gameEnvironment);
+	}
+}
@@ -0,0 +1,130 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import enumeration.Position;
+import enumeration.Statistic;
+import game.Athlete;
+import game.AthletePool;
+import game.GameEnvironment;
+
+/**
+ * Compares scoring many athletes for every position one athlete at a time with
+ * scoring them all at once through an athlete pool.
+ *
+ * @author Findlay Royds
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AthletePoolBenchmark {
+	/**
+	 * Every position, in ordinal order
+	 */
+	private final static Position[] POSITIONS = Position.values();
+
+	/**
+	 * The number of athletes scored
+	 */
+	@Param({ "100", "10000" })
+	private int numberOfAthletes;
+
+	/**
+	 * The athletes scored
+	 */
+	private List<Athlete> athletes;
+
+	/**
+	 * The athletes packed into a pool
+	 */
+	private AthletePool pool;
+
+	/**
+	 * The scores of the pool, reused between invocations
+	 */
+	private int[][] scores;
+
+	/**
+	 * Generates the athletes and packs them into a pool.
+	 */
+	@Setup
+	public void setUp() {
+		GameEnvironment gameEnvironment = GameFixtures.createGameEnvironment(10);
+		athletes = new ArrayList<Athlete>(numberOfAthletes);
+		for (int i = 0; i < numberOfAthletes; ++i)
+			athletes.add((Athlete) Athlete.generateAthlete.apply(GameFixtures.QUALITY_LEVEL, gameEnvironment));
+		pool = new AthletePool(athletes);
+		scores = new int[POSITIONS.length][numberOfAthletes];
+	}
+
+	/**
+	 * Scores each athlete for every position, reading the scores the athletes
+	 * remember.
+	 *
+	 * @param blackhole Consumes the scores
+	 */
+	@Benchmark
+	public void perAthlete(Blackhole blackhole) {
+		for (Athlete athlete : athletes) {
+			for (Position position : POSITIONS)
+				blackhole.consume(athlete.getMatchScore(position));
+		}
+	}
+
+	/**
+	 * Changes a statistic of each athlete before scoring it for every position,
+	 * so every score has to be recalculated.
+	 *
+	 * @param blackhole Consumes the scores
+	 */
+	@Benchmark
+	public void perAthleteAfterStatisticChange(Blackhole blackhole) {
+		for (Athlete athlete : athletes) {
+			athlete.setStatistic(Statistic.FITNESS, athlete.getStatistic(Statistic.FITNESS) ^ 1);
+			for (Position position : POSITIONS)
+				blackhole.consume(athlete.getMatchScore(position));
+		}
+	}
+
+	/**
+	 * Scores every athlete in the pool for every position.
+	 *
+	 * @return The scores
+	 */
+	@Benchmark
+	public int[][] pool() {
+		for (Position position : POSITIONS)
+			pool.score(position, scores[position.ordinal()]);
+		return scores;
+	}
+
+	/**
+	 * Packs the athletes into a new pool, then scores every athlete for every
+	 * position, so the cost of packing is included.
+	 *
+	 * @return The scores
+	 */
+	@Benchmark
+	public int[][] packAndPool() {
+		return new AthletePool(athletes).scoreAllPositions();
+	}
+}
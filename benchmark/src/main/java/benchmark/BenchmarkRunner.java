@@ -0,0 +1,41 @@
+package benchmark;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler always enabled, so every run reports
+ * allocation rates alongside throughput. Accepts the same command line options
+ * as the standard JMH runner.
+ *
+ * @author Findlay Royds
+ * @version 1.0
+ */
+public class BenchmarkRunner {
+	/**
+	 * Runs the benchmarks selected by the command line options.
+	 *
+	 * @param args JMH command line options, for example a benchmark name regex.
+	 * @throws RunnerException            If a benchmark fails to run.
+	 * @throws CommandLineOptionException If the options are invalid.
+	 * @throws IOException                If the help text could not be printed.
+	 */
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+		CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+		if (commandLineOptions.shouldHelp()) {
+			commandLineOptions.showHelp();
+			return;
+		}
+		if (commandLineOptions.shouldList()) {
+			new Runner(commandLineOptions).list();
+			return;
+		}
+		new Runner(new OptionsBuilder().parent(commandLineOptions).addProfiler(GCProfiler.class).build()).run();
+	}
+}
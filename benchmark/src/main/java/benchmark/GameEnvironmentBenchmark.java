@@ -0,0 +1,109 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import enumeration.Location;
+import game.GameEnvironment;
+import game.location.GameMarket;
+import game.location.GameMatchSelection;
+
+/**
+ * Measures the cost of checking whether the game has ended and of progressing
+ * the game by a week, using a UI environment that displays nothing. Each
+ * benchmark runs with a serial and a parallel weekly tick.
+ *
+ * @author Jake van Keulen
+ * @version 1.2
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameEnvironmentBenchmark {
+	/**
+	 * The game being measured
+	 */
+	private GameEnvironment gameEnvironment;
+
+	/**
+	 * The number of threads used to progress the week
+	 */
+	@Param({ "1", "4" })
+	private int tickParallelism;
+
+	/**
+	 * The market locations of the game
+	 */
+	private static final Location[] MARKETS = { Location.ATHLETE_MARKET, Location.ITEM_MARKET,
+			Location.BLACK_MARKET };
+
+	/**
+	 * Creates a game whose player has 4 active athletes, full reserves and enough
+	 * money to fill the last position. The season never runs out, so hasEnded
+	 * always has to check the athlete market.
+	 */
+	@Setup(Level.Iteration)
+	public void setUp() {
+		gameEnvironment = GameFixtures.createGameEnvironment(Integer.MAX_VALUE);
+		GameFixtures.fillTeam(gameEnvironment.getPlayer().getTeam(), 4, gameEnvironment);
+		gameEnvironment.getPlayer().giveMoney(1000);
+		gameEnvironment.setTickParallelism(tickParallelism);
+		gameEnvironment.progressWeek();
+	}
+
+	/**
+	 * Shuts down the game's tick pool.
+	 */
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		gameEnvironment.setTickParallelism(1);
+	}
+
+	/**
+	 * @return Whether the game has ended
+	 */
+	@Benchmark
+	public boolean hasEnded() {
+		return gameEnvironment.hasEnded();
+	}
+
+	/**
+	 * @return The new week number
+	 */
+	@Benchmark
+	public int progressWeek() {
+		gameEnvironment.progressWeek();
+		return gameEnvironment.getWeek();
+	}
+
+	/**
+	 * Progresses the week and then generates every market and the opponent
+	 * teams, as if the player visited every screen.
+	 *
+	 * @return The number of opponent teams
+	 */
+	@Benchmark
+	public int progressWeekAndVisitAll() {
+		gameEnvironment.progressWeek();
+		for (Location location : MARKETS) {
+			((GameMarket) gameEnvironment.getGameLocation(location)).getAvailablePurchasables();
+		}
+		return ((GameMatchSelection) gameEnvironment.getGameLocation(Location.MATCH_SELECTION)).getTeams().size();
+	}
+}
@@ -0,0 +1,55 @@
+package benchmark;
+
+import enumeration.Position;
+import game.Athlete;
+import game.GameEnvironment;
+import game.Team;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
+
+/**
+ * Builds the game objects shared by the benchmarks.
+ *
+ * @author Findlay Royds
+ * @version 1.0
+ */
+public class GameFixtures {
+	/**
+	 * The quality level athletes and teams are generated with
+	 */
+	public static final int QUALITY_LEVEL = 50;
+
+	/**
+	 * Creates a game environment that doesn't display anything and always selects
+	 * the first option of a popup.
+	 *
+	 * @param seasonLength The length of the season in weeks
+	 * @return A headless game environment with seed 0 on medium difficulty
+	 */
+	public static GameEnvironment createGameEnvironment(int seasonLength) {
+		GameEnvironment gameEnvironment = new GameEnvironment(
+				new HeadlessEnvironment(DecisionProvider.firstOption(), 1));
+		gameEnvironment.setSeed(0);
+		gameEnvironment.setDifficulty(2);
+		gameEnvironment.setSeasonLength(seasonLength);
+		return gameEnvironment;
+	}
+
+	/**
+	 * Fills a team's active positions and reserves with generated athletes.
+	 *
+	 * @param team            The team to fill
+	 * @param numberOfActive  The number of positions to fill, in Position order
+	 * @param gameEnvironment The game environment to generate athletes in
+	 */
+	public static void fillTeam(Team team, int numberOfActive, GameEnvironment gameEnvironment) {
+		Position[] positions = Position.values();
+		for (int i = 0; i < numberOfActive; ++i) {
+			team.addAthleteToActive((Athlete) Athlete.generateAthlete.apply(QUALITY_LEVEL, gameEnvironment),
+					positions[i]);
+		}
+		while (team.getNumberOfFreeReserveSlots() > 0) {
+			team.addAthleteToReserve((Athlete) Athlete.generateAthlete.apply(QUALITY_LEVEL, gameEnvironment));
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import game.GameEnvironment;
+import game.league.League;
+import game.location.MatchResult;
+
+/**
+ * Measures the cost of starting a league of computer controlled teams, and of
+ * playing a week's round of it.
+ *
+ * @author Findlay Royds
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LeagueBenchmark {
+	/**
+	 * The number of teams in the league
+	 */
+	@Param({ "20", "500" })
+	public int numberOfTeams;
+
+	/**
+	 * The game environment the league belongs to
+	 */
+	private GameEnvironment gameEnvironment;
+
+	/**
+	 * The league whose rounds are played
+	 */
+	private League league;
+
+	/**
+	 * Creates a headless game environment and a league without the player.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		gameEnvironment = GameFixtures.createGameEnvironment(10);
+		league = generateLeague();
+	}
+
+	/**
+	 * Generates every team of a league.
+	 *
+	 * @return The new league
+	 */
+	@Benchmark
+	public League generateLeague() {
+		return League.generate(gameEnvironment, null, numberOfTeams, index -> GameFixtures.QUALITY_LEVEL,
+				team -> {
+				}, null);
+	}
+
+	/**
+	 * Plays the next round of the league. The league goes on to the next cycle of
+	 * its schedule when the last round has been played.
+	 *
+	 * @return The results of the round
+	 */
+	@Benchmark
+	public List<MatchResult> playRound() {
+		return league.playRound(null);
+	}
+}
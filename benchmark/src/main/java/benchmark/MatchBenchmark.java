@@ -0,0 +1,130 @@
+package benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import enumeration.Location;
+import enumeration.MatchMode;
+import enumeration.Position;
+import game.Athlete;
+import game.GameEnvironment;
+import game.Team;
+import game.location.GameMatch;
+import game.location.MatchEngine;
+import game.location.MatchEvaluator;
+import game.location.MatchResult;
+
+/**
+ * Measures the cost of deciding the winner of a pairing in a match, of playing
+ * a whole match through the match engine, in either match mode, and of
+ * previewing a match without playing it.
+ *
+ * @author Jake van Keulen
+ * @version 1.3
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchBenchmark {
+	/**
+	 * The match the pairings are played in
+	 */
+	private GameMatch match;
+
+	/**
+	 * The Random object the match engine decides ties with
+	 */
+	private Random rng;
+
+	/**
+	 * The athlete from the first team
+	 */
+	private Athlete athlete1;
+
+	/**
+	 * The athlete from the second team
+	 */
+	private Athlete athlete2;
+
+	/**
+	 * Creates a headless game environment and two teams to play against each
+	 * other.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		GameEnvironment gameEnvironment = GameFixtures.createGameEnvironment(10);
+		Team team1 = Team.generateTeam(GameFixtures.QUALITY_LEVEL, gameEnvironment);
+		Team team2 = Team.generateTeam(GameFixtures.QUALITY_LEVEL, gameEnvironment);
+		match = (GameMatch) gameEnvironment.getGameLocation(Location.MATCH);
+		athlete1 = team1.getActiveAthletes().get(Position.DUNKER);
+		athlete2 = team2.getActiveAthletes().get(Position.DUNKER);
+		match.setTeams(team1, team2);
+		rng = new Random(0);
+	}
+
+	/**
+	 * Resets the team scores so they don't overflow.
+	 */
+	@Setup(Level.Iteration)
+	public void resetScores() {
+		match.setTeams(match.getTeam1(), match.getTeam2());
+	}
+
+	/**
+	 * Plays a pairing. The first athlete's stamina is restored first, because
+	 * every pairing uses some of it up.
+	 *
+	 * @return The athlete who won the pairing
+	 */
+	@Benchmark
+	public Athlete getWinningAthlete() {
+		athlete1.setStamina(100);
+		return match.getWinningAthlete(athlete1, athlete2);
+	}
+
+	/**
+	 * Plays a whole match through the match engine, which changes nothing.
+	 *
+	 * @return The outcome of the match
+	 */
+	@Benchmark
+	public MatchResult playMatch() {
+		return MatchEngine.play(match.getTeam1(), match.getTeam2(), rng);
+	}
+
+	/**
+	 * Plays a whole match possession by possession, which changes nothing.
+	 *
+	 * @return The outcome of the match
+	 */
+	@Benchmark
+	public MatchResult playPossessions() {
+		return MatchEngine.play(match.getTeam1(), match.getTeam2(), rng, MatchMode.POSSESSIONS);
+	}
+
+	/**
+	 * Works out the probability the first team wins the match, as the stadium
+	 * does for every opponent each time it is shown.
+	 *
+	 * @return The probability the first team wins
+	 */
+	@Benchmark
+	public double getWinProbability() {
+		return MatchEvaluator.getWinProbability(match.getTeam1(), match.getTeam2());
+	}
+}
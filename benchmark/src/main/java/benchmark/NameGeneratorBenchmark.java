@@ -0,0 +1,52 @@
+package benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import util.NameGenerator;
+
+/**
+ * Measures how many names can be generated per second.
+ *
+ * @author Jake van Keulen
+ * @version 1.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NameGeneratorBenchmark {
+	/**
+	 * Random object used for generating names
+	 */
+	private Random rng;
+
+	/**
+	 * Creates the Random object.
+	 */
+	@Setup
+	public void setUp() {
+		rng = new Random(0);
+	}
+
+	/**
+	 * @return A generated athlete name
+	 */
+	@Benchmark
+	public String generateName() {
+		return NameGenerator.generateName("playerFirstNames", "playerLastNames", rng);
+	}
+}
@@ -0,0 +1,119 @@
+package benchmark;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import enumeration.Position;
+import game.Athlete;
+import game.GameEnvironment;
+import game.LineupSolver;
+import game.Team;
+
+/**
+ * Measures the cost of generating teams and listing their athletes.
+ *
+ * @author Jake van Keulen
+ * @version 1.3
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TeamBenchmark {
+	/**
+	 * The game environment teams are generated in
+	 */
+	private GameEnvironment gameEnvironment;
+
+	/**
+	 * A full team to list the athletes of
+	 */
+	private Team team;
+
+	/**
+	 * Creates a headless game environment and a full team.
+	 */
+	@Setup
+	public void setUp() {
+		gameEnvironment = GameFixtures.createGameEnvironment(10);
+		team = Team.generateTeam(GameFixtures.QUALITY_LEVEL, gameEnvironment);
+	}
+
+	/**
+	 * @return A generated team
+	 */
+	@Benchmark
+	public Team generateTeam() {
+		return Team.generateTeam(GameFixtures.QUALITY_LEVEL, gameEnvironment);
+	}
+
+	/**
+	 * Swaps the first reserve into the dunker position and back again.
+	 *
+	 * @return The team
+	 */
+	@Benchmark
+	public Team swapReserveIntoActive() {
+		Athlete reserve = team.getReserveAthletes().iterator().next();
+		Athlete active = team.getActiveAthletes().get(Position.DUNKER);
+		team.moveToActive(reserve, Position.DUNKER);
+		team.moveToActive(active, Position.DUNKER);
+		return team;
+	}
+
+	/**
+	 * Removes an athlete from the team and adds them back as a reserve.
+	 *
+	 * @return The team
+	 */
+	@Benchmark
+	public Team removeAndAddReserve() {
+		Athlete reserve = team.getReserveAthletes().iterator().next();
+		team.removeAthlete(reserve);
+		team.addAthleteToReserve(reserve);
+		return team;
+	}
+
+	/**
+	 * @return The best lineup of the team's athletes
+	 */
+	@Benchmark
+	public Map<Position, Athlete> solveLineup() {
+		return LineupSolver.solve(team.getRoster());
+	}
+
+	/**
+	 * @return Every athlete in the team
+	 */
+	@Benchmark
+	public Set<Athlete> getAllAthletes() {
+		return team.getAllAthletes();
+	}
+
+	/**
+	 * @return The total stamina of every athlete in the team, read through the
+	 *         live roster view
+	 */
+	@Benchmark
+	public int iterateRoster() {
+		int totalStamina = 0;
+		for (Athlete athlete : team.getRoster()) {
+			totalStamina += athlete.getStamina();
+		}
+		return totalStamina;
+	}
+}
@@ -0,0 +1,27 @@
+package enumeration;
+
+/**
+ * This enum defines the kinds of event a match publishes as it is played, in
+ * the order they happen for each pairing.
+ *
+ * @author Findlay Royds
+ * @version 1.0, May 2023.
+ */
+public enum MatchEventType {
+	/**
+	 * Two athletes have been paired off against each other
+	 */
+	PAIRING_STARTED,
+	/**
+	 * The winner of a pairing has been decided and the score updated
+	 */
+	WINNER_DECIDED,
+	/**
+	 * The first team's athlete in a pairing has used up stamina
+	 */
+	STAMINA_CHANGED,
+	/**
+	 * Every pairing has been played and the match is over
+	 */
+	MATCH_FINISHED
+}
@@ -0,0 +1,21 @@
+package enumeration;
+
+/**
+ * This enum defines the ways a match can be played. Whichever way is chosen, a
+ * match is made up of a pairing in each position, and a team scores a point for
+ * each pairing it wins.
+ * 
+ * @author Findlay Royds
+ * @version 1.0, May 2023.
+ */
+public enum MatchMode {
+	/**
+	 * Each pairing is won by the athlete with the higher match score
+	 */
+	PAIRINGS,
+	/**
+	 * The match is played possession by possession, and each pairing is won by
+	 * the athlete who scored more points against the other
+	 */
+	POSSESSIONS
+}
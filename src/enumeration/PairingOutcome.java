@@ -0,0 +1,49 @@
+package enumeration;
+
+/**
+ * This enum defines the possible outcomes of a pairing of two athletes in a
+ * match, as seen before the match is played.
+ * 
+ * @author Findlay Royds
+ * @version 1.0, May 2023.
+ */
+public enum PairingOutcome {
+	/**
+	 * The first team's athlete wins the pairing
+	 */
+	TEAM1_WINS(1f),
+	/**
+	 * The second team's athlete wins the pairing
+	 */
+	TEAM2_WINS(0f),
+	/**
+	 * The athletes are tied, so the winner is decided by a coin flip
+	 */
+	TIE(0.5f),
+	/**
+	 * Neither team has an athlete in the position, so nobody wins the pairing
+	 */
+	NO_PAIRING(0f);
+
+	/**
+	 * The probability the first team's athlete wins the pairing.
+	 */
+	private final float team1WinProbability;
+
+	/**
+	 * Constructor for PairingOutcome.
+	 * 
+	 * @param team1WinProbability The probability the first team's athlete wins
+	 *                            the pairing
+	 */
+	PairingOutcome(float team1WinProbability) {
+		this.team1WinProbability = team1WinProbability;
+	}
+
+	/**
+	 * @return The probability the first team's athlete wins the pairing
+	 */
+	public float getTeam1WinProbability() {
+		return team1WinProbability;
+	}
+}
@@ -0,0 +1,45 @@
+package enumeration;
+
+/**
+ * This enum defines the purposes random numbers are drawn for. Each purpose has
+ * its own family of random streams, so drawing numbers for one purpose never
+ * changes the numbers drawn for another.
+ * 
+ * @author Findlay Royds
+ * @version 1.2, May 2023.
+ */
+public enum RandomStream {
+	/**
+	 * Anything without its own stream, such as the starting athletes, items and
+	 * matches
+	 */
+	GAME,
+	/**
+	 * The content of a location in a week, such as the purchasables in a market
+	 */
+	LOCATION,
+	/**
+	 * An opposition team in a week
+	 */
+	OPPONENT_TEAM,
+	/**
+	 * A scheduled random event happening in a week
+	 */
+	RANDOM_EVENT,
+	/**
+	 * The weeks a random event is scheduled to happen in
+	 */
+	EVENT_SCHEDULE,
+	/**
+	 * The drug test in a week
+	 */
+	DRUG_TEST,
+	/**
+	 * A team of the league
+	 */
+	LEAGUE_TEAM,
+	/**
+	 * A fixture between two of the league's computer controlled teams
+	 */
+	LEAGUE_MATCH
+}
@@ -1,15 +1,12 @@
 package game;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Random;
 
 import enumeration.Position;
 import enumeration.Statistic;
-import game.randomevent.AthleteQuits;
-import game.randomevent.RandomEvent;
-import game.randomevent.StatisticIncrease;
+import game.randomevent.EventScheduler;
+import game.randomevent.RandomEventRegistry;
 import util.Function3;
 import util.MiscUtil;
 import util.NameGenerator;
@@ -19,7 +16,7 @@ import util.NameGenerator;
  * several statistics to gauge their performance
  * 
  * @author Findlay Royds, Jake van Keulen
- * @version 1.4, May 2023.
+ * @version 2.2, May 2023.
  */
 public class Athlete extends Purchasable {
 	/**
@@ -33,10 +30,22 @@ public class Athlete extends Purchasable {
 	private Position role;
 
 	/**
-	 * Map of statistic types (from the Statistic enum) to an integer, ranging from
-	 * 0 to 100 (inclusive)
+	 * The athlete's statistics, indexed by the ordinal of each statistic type
+	 * (from the Statistic enum). Each ranges from 0 to 100 (inclusive)
 	 */
-	private Map<Statistic, Integer> statistics;
+	private int[] statistics;
+
+	/**
+	 * The athlete's match score for each position, indexed by position ordinal.
+	 * Only valid for the positions whose bit is clear in dirtyMatchScores.
+	 */
+	private final int[] matchScores = new int[POSITIONS.length];
+
+	/**
+	 * Bitmask of the positions whose entry in matchScores needs recalculating.
+	 * Bit i is set for the position with ordinal i.
+	 */
+	private int dirtyMatchScores = ALL_POSITIONS_DIRTY;
 
 	/**
 	 * The remaining stamina of the athlete Depletes after playing in a match Will
@@ -49,6 +58,12 @@ public class Athlete extends Purchasable {
 	 */
 	private Team team;
 
+	/**
+	 * The index of the slot the athlete occupies on their team, or -1 if they
+	 * don't occupy one. Maintained by Team.
+	 */
+	private int teamSlot = -1;
+
 	/**
 	 * The game environment of the current game Required to show a pop up message
 	 * when an athlete is purchased
@@ -61,41 +76,37 @@ public class Athlete extends Purchasable {
 	private boolean hasUsedSteroids;
 
 	/**
-	 * The athlete's random event for having a statistic increase
+	 * Every statistic type, in ordinal order. Cached because Statistic.values()
+	 * copies the array on every call.
+	 */
+	private final static Statistic[] STATISTICS = Statistic.values();
+
+	/**
+	 * Every position, in ordinal order.
 	 */
-	private RandomEvent statisticIncreaseRandomEvent;
+	private final static Position[] POSITIONS = Position.values();
 
 	/**
-	 * The athlete's random event for quitting their team
+	 * A dirtyMatchScores value marking every position's score as needing
+	 * recalculation.
 	 */
-	private RandomEvent athleteQuitsRandomEvent;
+	private final static int ALL_POSITIONS_DIRTY = (1 << POSITIONS.length) - 1;
 
 	/**
 	 * How much effect each statistic has in a match based on the athlete's
-	 * position. The weight of each statistic is in the range: [0, 100]. The greater
-	 * the weight the more important the statistic is to that position
-	 */
-	private final static Map<Position, Map<Statistic, Integer>> MATCH_POSITION_STATISTIC_WEIGHTS = Map.of(
-			Position.DEFENDER,
-			Map.of(Statistic.DEFENCE, 100, Statistic.DRIBBLING, 10, Statistic.FITNESS, 30, Statistic.HEIGHT, 50,
-					Statistic.JUMPING, 60, Statistic.OFFENCE, 10, Statistic.SHOOTING_ACCURACY, 20,
-					Statistic.SHOOTING_POWER, 30),
-			Position.DRIBBLER,
-			Map.of(Statistic.DEFENCE, 70, Statistic.DRIBBLING, 100, Statistic.FITNESS, 80, Statistic.HEIGHT, 10,
-					Statistic.JUMPING, 10, Statistic.OFFENCE, 70, Statistic.SHOOTING_ACCURACY, 20,
-					Statistic.SHOOTING_POWER, 30),
-			Position.DUNKER,
-			Map.of(Statistic.DEFENCE, 20, Statistic.DRIBBLING, 70, Statistic.FITNESS, 800, Statistic.HEIGHT, 100,
-					Statistic.JUMPING, 100, Statistic.OFFENCE, 90, Statistic.SHOOTING_ACCURACY, 10,
-					Statistic.SHOOTING_POWER, 10),
-			Position.LONG_SHOOTER,
-			Map.of(Statistic.DEFENCE, 20, Statistic.DRIBBLING, 10, Statistic.FITNESS, 10, Statistic.HEIGHT, 60,
-					Statistic.JUMPING, 40, Statistic.OFFENCE, 10, Statistic.SHOOTING_ACCURACY, 100,
-					Statistic.SHOOTING_POWER, 100),
-			Position.SHORT_SHOOTER,
-			Map.of(Statistic.DEFENCE, 30, Statistic.DRIBBLING, 80, Statistic.FITNESS, 40, Statistic.HEIGHT, 80,
-					Statistic.JUMPING, 40, Statistic.OFFENCE, 90, Statistic.SHOOTING_ACCURACY, 80,
-					Statistic.SHOOTING_POWER, 30));
+	 * position, indexed by [position ordinal][statistic ordinal]. The weight of
+	 * each statistic is in the range: [0, 100]. The greater the weight the more
+	 * important the statistic is to that position. Shared with AthletePool, which
+	 * must score athletes the same way.
+	 */
+	final static int[][] MATCH_POSITION_STATISTIC_WEIGHTS = {
+			// FITNESS, OFFENCE, DEFENCE, JUMPING, DRIBBLING, HEIGHT, SHOOTING_ACCURACY,
+			// SHOOTING_POWER
+			/* SHORT_SHOOTER */ { 40, 90, 30, 40, 80, 80, 80, 30 },
+			/* LONG_SHOOTER */ { 10, 10, 20, 40, 10, 60, 100, 100 },
+			/* DUNKER */ { 800, 90, 20, 100, 70, 100, 10, 10 },
+			/* DRIBBLER */ { 80, 70, 70, 10, 100, 10, 20, 30 },
+			/* DEFENDER */ { 30, 10, 100, 60, 10, 50, 20, 30 } };
 
 	/**
 	 * The constructor for the athlete class
@@ -114,15 +125,8 @@ public class Athlete extends Purchasable {
 		this.role = role;
 		this.stamina = stamina;
 		this.gameEnvironment = gameEnvironment;
-		this.statistics = new HashMap<Statistic, Integer>();
-
-		// Initialize all statistics to 0;
-		for (Statistic statistic : Statistic.values()) {
-			statistics.put(statistic, 0);
-		}
-
-		statisticIncreaseRandomEvent = new StatisticIncrease(gameEnvironment, this);
-		athleteQuitsRandomEvent = new AthleteQuits(gameEnvironment, this);
+		// All statistics start at 0
+		this.statistics = new int[STATISTICS.length];
 	}
 
 	/**
@@ -134,7 +138,12 @@ public class Athlete extends Purchasable {
 	public void setStatistic(Statistic statisticToSet, int value) {
 		// Clamp value in range [0, 100]
 		int clampedValue = MiscUtil.clampValue(value);
-		statistics.put(statisticToSet, clampedValue);
+		int index = statisticToSet.ordinal();
+		if (statistics[index] == clampedValue)
+			return;
+		statistics[index] = clampedValue;
+		// Every position weighs every statistic, so every score changes
+		dirtyMatchScores = ALL_POSITIONS_DIRTY;
 	}
 
 	/**
@@ -147,6 +156,9 @@ public class Athlete extends Purchasable {
 		stamina = MiscUtil.clampValue(value);
 		if (stamina == 0 && original != 0)
 			gameEnvironment.getUIEnvironment().displayPopup(this.getName() + " was injured!");
+		// Being injured changes the chance of quitting
+		if ((stamina == 0) != (original == 0) && team != null)
+			team.updateEventSchedule(this);
 	}
 
 	/**
@@ -157,11 +169,22 @@ public class Athlete extends Purchasable {
 	 *                  stamina the athlete loses.
 	 */
 	public void loseStamina(boolean lostMatch) {
+		setStamina(stamina - getStaminaLoss(lostMatch));
+	}
+
+	/**
+	 * Works out the stamina the athlete would use up in a pairing, without using
+	 * it up.
+	 * 
+	 * @param lostMatch Whether or not the athlete lost the pairing.
+	 * @return The stamina the athlete would lose, before clamping to 0.
+	 */
+	public int getStaminaLoss(boolean lostMatch) {
 		int fitnessOffset = getStatistic(Statistic.FITNESS) / 10;
 		int staminaLost = 20 - fitnessOffset;
 		if (lostMatch)
 			staminaLost += 10;
-		setStamina(stamina - staminaLost);
+		return staminaLost;
 	}
 
 	/**
@@ -246,7 +269,7 @@ public class Athlete extends Purchasable {
 	@Override
 	public String getDetails() {
 		String description = "Stamina: " + getStamina();
-		for (Statistic statistic : Statistic.values())
+		for (Statistic statistic : STATISTICS)
 			description += "\n" + statistic.name().toLowerCase().replace("_", " ") + ": " + getStatistic(statistic);
 		return description;
 	}
@@ -259,7 +282,7 @@ public class Athlete extends Purchasable {
 	 * @return The integer value of the given statistic.
 	 */
 	public int getStatistic(Statistic statisticToGet) {
-		return statistics.get(statisticToGet);
+		return statistics[statisticToGet.ordinal()];
 	}
 
 	/**
@@ -271,19 +294,42 @@ public class Athlete extends Purchasable {
 
 	/**
 	 * determines a value representing the athlete's effectiveness in a certain
-	 * position
+	 * position. Scores are remembered until one of the athlete's statistics
+	 * changes, so repeated calls are cheap.
 	 * 
 	 * @param playedPosition the position the athlete is playing
 	 * @return a numerical value for the athlete's effectiveness
 	 */
 	public int getMatchScore(Position playedPosition) {
+		int index = playedPosition.ordinal();
+		int bit = 1 << index;
+		if ((dirtyMatchScores & bit) != 0) {
+			matchScores[index] = calculateMatchScore(playedPosition);
+			dirtyMatchScores &= ~bit;
+		}
+		return matchScores[index];
+	}
+
+	/**
+	 * @return The athlete's match score when playing in their role
+	 */
+	public int getRoleMatchScore() {
+		return getMatchScore(role);
+	}
+
+	/**
+	 * Calculates the athlete's match score for a position from their statistics.
+	 * 
+	 * @param playedPosition the position the athlete is playing
+	 * @return a numerical value for the athlete's effectiveness
+	 */
+	private int calculateMatchScore(Position playedPosition) {
 		int totalScore = 0;
-		Map<Statistic, Integer> statisticWeights = MATCH_POSITION_STATISTIC_WEIGHTS.get(playedPosition);
+		int[] statisticWeights = MATCH_POSITION_STATISTIC_WEIGHTS[playedPosition.ordinal()];
 
 		// add up the athlete's statistics * the statistic's weight for the position
-		for (Statistic statistic : Statistic.values()) {
-			int statisticWeight = statisticWeights.get(statistic);
-			totalScore += getStatistic(statistic) * statisticWeight;
+		for (int i = 0; i < statistics.length; ++i) {
+			totalScore += statistics[i] * statisticWeights[i];
 		}
 
 		// apply a 20% bonus if the athlete's role matches the position being played
@@ -340,6 +386,21 @@ public class Athlete extends Purchasable {
 		team = newTeam;
 	}
 
+	/**
+	 * @return The index of the slot the athlete occupies on their team, or -1
+	 */
+	int getTeamSlot() {
+		return teamSlot;
+	}
+
+	/**
+	 * @param teamSlot The index of the slot the athlete occupies on their team, or
+	 *                 -1
+	 */
+	void setTeamSlot(int teamSlot) {
+		this.teamSlot = teamSlot;
+	}
+
 	/**
 	 * Generates and returns an Athlete with pseudo-random properties.
 	 * 
@@ -367,7 +428,7 @@ public class Athlete extends Purchasable {
 		int price = MiscUtil.nextIntBounds(qualityLevel * priceOffset * 3 / 4, qualityLevel * priceOffset, rng);
 
 		Athlete resultingAthlete = new Athlete(name, role, stamina, gameEnvironment, price);
-		for (Statistic statistic : Statistic.values()) {
+		for (Statistic statistic : STATISTICS) {
 			int statisticValue = MiscUtil.nextIntBounds(qualityLevel * 3 / 4, qualityLevel, rng);
 			resultingAthlete.setStatistic(statistic, statisticValue);
 		}
@@ -387,13 +448,33 @@ public class Athlete extends Purchasable {
 	 */
 	public void setHasUsedSteroids(boolean usedSteroids) {
 		hasUsedSteroids = usedSteroids;
+		if (team != null)
+			team.updateDoping(this);
+	}
+
+	/**
+	 * Starts scheduling the athlete's random events, or refreshes their schedule if
+	 * they are already scheduled.
+	 * 
+	 * @param eventScheduler The scheduler of the athlete's team
+	 */
+	void scheduleRandomEvents(EventScheduler eventScheduler) {
+		eventScheduler.register(this, RandomEventRegistry.ATHLETE_EVENTS);
+	}
+
+	/**
+	 * Stops scheduling the athlete's random events.
+	 * 
+	 * @param eventScheduler The scheduler of the athlete's old team
+	 */
+	void cancelRandomEvents(EventScheduler eventScheduler) {
+		eventScheduler.cancel(this);
 	}
 
 	/**
 	 * Triggers the stat increase and athlete quits random events
 	 */
 	public void triggerRandomEvents() {
-		statisticIncreaseRandomEvent.trigger();
-		athleteQuitsRandomEvent.trigger();
+		RandomEventRegistry.triggerAll(gameEnvironment, this);
 	}
 }
@@ -3,13 +3,19 @@ package game;
 import java.awt.EventQueue;
 import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
 
 import enumeration.Location;
+import enumeration.MatchMode;
+import enumeration.RandomStream;
 import game.item.Item;
 import game.item.Steroid;
+import game.league.League;
 import game.location.GameEnd;
 import game.location.GameInventory;
 import game.location.GameLocation;
@@ -19,18 +25,20 @@ import game.location.GameMarket;
 import game.location.GameMatch;
 import game.location.GameMatchSelection;
 import game.location.GameStart;
-import game.randomevent.DrugTest;
-import game.randomevent.RandomEvent;
+import game.randomevent.EventScheduler;
+import game.randomevent.RandomEventRegistry;
+import game.randomevent.ScheduledEvent;
 import userinterface.UIEnvironment;
 import userinterface.commandline.CLIEnvironment;
 import userinterface.graphical.GUIEnvironment;
+import util.RandomService;
 
 /**
  * This class implements the game environment. It handles setting up and running
  * a game.
  * 
  * @author Jake van Keulen, Findlay Royds
- * @version 1.2, May 2023.
+ * @version 1.6, May 2023.
  */
 public class GameEnvironment {
 	/**
@@ -76,10 +84,53 @@ public class GameEnvironment {
 	private Random rng;
 
 	/**
-	 * drug test random event for checking if any of the player's athletes have used
-	 * steroids
+	 * The Random object each thread should use instead of rng, while running
+	 * runWithRng.
 	 */
-	private RandomEvent drugTestRandomEvent;
+	private final ThreadLocal<Random> rngOverride = new ThreadLocal<Random>();
+
+	/**
+	 * The seed of the game. Used for random number generation.
+	 */
+	private int seed;
+
+	/**
+	 * Hands out the independent random streams of the game.
+	 */
+	private RandomService randomService;
+
+	/**
+	 * The changes to shared game state made by the task running on each thread
+	 * during a parallel weekly tick. Null when changes should be applied
+	 * immediately.
+	 */
+	private final ThreadLocal<List<Runnable>> effectBuffer = new ThreadLocal<List<Runnable>>();
+
+	/**
+	 * The number of threads used to progress the week. With 1 thread everything
+	 * happens in order on the calling thread.
+	 */
+	private int tickParallelism = 1;
+
+	/**
+	 * The pool the weekly tick fans out on when tickParallelism is more than 1.
+	 */
+	private ForkJoinPool tickPool;
+
+	/**
+	 * Schedules the random events of the player's team and its athletes.
+	 */
+	private EventScheduler eventScheduler;
+
+	/**
+	 * The league the player's team plays in, or null if it doesn't play in one.
+	 */
+	private League league;
+
+	/**
+	 * How the game's matches are played.
+	 */
+	private MatchMode matchMode = MatchMode.PAIRINGS;
 
 	/**
 	 * The main method of game environment. Responsible for starting the game.
@@ -101,7 +152,44 @@ public class GameEnvironment {
 	 * @param useCLI whether game should be played through the CLI
 	 */
 	public GameEnvironment(boolean useCLI) {
+		createGameObjects();
+
+		if (useCLI) {
+			uiEnvironment = new CLIEnvironment(gameLocations, this);
+		} else {
+			uiEnvironment = new GUIEnvironment(gameLocations, this);
+			EventQueue.invokeLater(new Runnable() {
+				public void run() {
+					try {
+						((GUIEnvironment) uiEnvironment).getFrame().setVisible(true);
+					} catch (Exception e) {
+						e.printStackTrace();
+					}
+				}
+			});
+		}
+	}
+
+	/**
+	 * Constructor for a game environment that uses an existing UI environment.
+	 * Used for UI environments that don't display the game locations, such as the
+	 * headless UI environment.
+	 * 
+	 * @param uiEnvironment The UI environment the game interacts with.
+	 */
+	public GameEnvironment(UIEnvironment uiEnvironment) {
+		createGameObjects();
+		this.uiEnvironment = uiEnvironment;
+	}
+
+	/**
+	 * Creates the player, game locations and random events required to start the
+	 * game.
+	 */
+	private void createGameObjects() {
+		eventScheduler = new EventScheduler(this);
 		player = new Player(this);
+		player.getTeam().setEventScheduler(eventScheduler);
 
 		// Create game locations
 		gameLocations = new EnumMap<Location, GameLocation>(Location.class);
@@ -119,31 +207,75 @@ public class GameEnvironment {
 		gameLocations.put(Location.BLACK_MARKET,
 				new GameMarket(this, Steroid.generateSteroid, player.getPurchasables, true, 2));
 
-		drugTestRandomEvent = new DrugTest(this);
 		currentWeek = 0;
+	}
 
-		if (useCLI) {
-			uiEnvironment = new CLIEnvironment(gameLocations, this);
-		} else {
-			uiEnvironment = new GUIEnvironment(gameLocations, this);
-			EventQueue.invokeLater(new Runnable() {
-				public void run() {
-					try {
-						((GUIEnvironment) uiEnvironment).getFrame().setVisible(true);
-					} catch (Exception e) {
-						e.printStackTrace();
-					}
-				}
-			});
-		}
+	/**
+	 * @return Random object used for generating random numbers. This is the
+	 *         stream given to runWithRng while it is running on this thread,
+	 *         otherwise the game's general stream.
+	 */
+	public Random getRng() {
+		Random override = rngOverride.get();
+		return override != null ? override : rng;
+	}
 
+	/**
+	 * @return The service handing out the game's random streams.
+	 */
+	public RandomService getRandomService() {
+		return randomService;
 	}
 
 	/**
-	 * @return Random object used for generating random numbers.
+	 * @return The scheduler of the random events of the player's team.
 	 */
-	public Random getRng() {
-		return rng;
+	public EventScheduler getEventScheduler() {
+		return eventScheduler;
+	}
+
+	/**
+	 * @return The league the player's team plays in, or null if it doesn't play
+	 *         in one.
+	 */
+	public League getLeague() {
+		return league;
+	}
+
+	/**
+	 * @return How the game's matches are played.
+	 */
+	public MatchMode getMatchMode() {
+		return matchMode;
+	}
+
+	/**
+	 * Sets how the game's matches are played, both the player's and those
+	 * between the other teams of a league.
+	 * 
+	 * @param matchMode The match mode.
+	 */
+	public void setMatchMode(MatchMode matchMode) {
+		this.matchMode = matchMode;
+	}
+
+	/**
+	 * Starts a league for the player's team to play in, instead of playing
+	 * different opposition teams each week. The other teams are generated now,
+	 * from weakest to strongest across the range of opposition teams faced over a
+	 * season, using the tick pool if there is one. Must be called after the seed
+	 * and difficulty are set.
+	 * 
+	 * @param numberOfTeams The number of teams in the league, including the
+	 *                      player's.
+	 */
+	public void startLeague(int numberOfTeams) {
+		GameMatchSelection matchSelection = (GameMatchSelection) getGameLocation(Location.MATCH_SELECTION);
+		int numberOfOpponents = Math.max(1, numberOfTeams - 1);
+		league = League.generate(this, player.getTeam(), numberOfOpponents,
+				index -> GameMatchSelection.getOpponentQuality(difficulty,
+						numberOfOpponents == 1 ? 0 : index / (float) (numberOfOpponents - 1)),
+				matchSelection::applyOpponentAdjustments, tickPool);
 	}
 
 	/**
@@ -171,7 +303,132 @@ public class GameEnvironment {
 	 * @param seed The seed of the game. Used for random number generation.
 	 */
 	public void setSeed(int seed) {
-		rng = new Random(seed);
+		this.seed = seed;
+		randomService = new RandomService(seed);
+		rng = randomService.getStream(RandomStream.GAME);
+		eventScheduler.resampleAll();
+	}
+
+	/**
+	 * @return The seed of the game.
+	 */
+	public int getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Creates a Random object for generating a location's content in a given week.
+	 * Every combination of seed, week and location gets its own stream, so it
+	 * doesn't matter which locations were generated before it, whether they were
+	 * generated at all, or whether they are being generated on other threads.
+	 * 
+	 * @param gameLocation The location being generated
+	 * @param week         The week the content is for
+	 * @return A Random object seeded from the game's seed, the week and the
+	 *         location
+	 */
+	public Random createLocationRng(GameLocation gameLocation, int week) {
+		// Locations outside the game (such as in tests) share a key
+		long locationKey = -1;
+		for (Map.Entry<Location, GameLocation> entry : gameLocations.entrySet()) {
+			if (entry.getValue() == gameLocation)
+				locationKey = entry.getKey().ordinal();
+		}
+		return randomService.getStream(RandomStream.LOCATION, week, locationKey);
+	}
+
+	/**
+	 * Generates something with getRng returning a different Random object on the
+	 * current thread, so everything the generator draws comes from that stream.
+	 * Other threads aren't affected, so generators using different streams can
+	 * run at the same time.
+	 * 
+	 * @param <T>       The type of thing generated
+	 * @param rng       The Random object to use during generation
+	 * @param generator The function that generates the thing
+	 * @return The generated thing
+	 */
+	public <T> T generateWithRng(Random rng, Supplier<T> generator) {
+		Random previousRng = rngOverride.get();
+		rngOverride.set(rng);
+		try {
+			return generator.get();
+		} finally {
+			if (previousRng == null)
+				rngOverride.remove();
+			else
+				rngOverride.set(previousRng);
+		}
+	}
+
+	/**
+	 * Runs an action with getRng returning a different Random object on the
+	 * current thread. See generateWithRng.
+	 * 
+	 * @param rng    The Random object to use during the action
+	 * @param action The action to run
+	 */
+	public void runWithRng(Random rng, Runnable action) {
+		generateWithRng(rng, () -> {
+			action.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Applies a change to shared game state, such as the player's team or the UI.
+	 * During a parallel weekly tick the change is buffered, and applied after
+	 * every task has finished in the same order a serial tick would apply it.
+	 * Otherwise it is applied immediately.
+	 * 
+	 * @param effect The change to apply
+	 */
+	public void applyEffect(Runnable effect) {
+		List<Runnable> buffer = effectBuffer.get();
+		if (buffer != null)
+			buffer.add(effect);
+		else
+			effect.run();
+	}
+
+	/**
+	 * Runs an action on the current thread, collecting the changes it makes
+	 * through applyEffect instead of applying them.
+	 * 
+	 * @param action The action to run
+	 * @return The changes the action made, in order
+	 */
+	private List<Runnable> collectEffects(Runnable action) {
+		List<Runnable> buffer = new ArrayList<Runnable>();
+		effectBuffer.set(buffer);
+		try {
+			action.run();
+		} finally {
+			effectBuffer.remove();
+		}
+		return buffer;
+	}
+
+	/**
+	 * @return The number of threads used to progress the week.
+	 */
+	public int getTickParallelism() {
+		return tickParallelism;
+	}
+
+	/**
+	 * Sets the number of threads used to progress the week. With more than 1
+	 * thread, the random events of the week happen in parallel and every location
+	 * generates its content for the new week in parallel. The results are the same
+	 * as with 1 thread.
+	 * 
+	 * @param parallelism The number of threads, at least 1
+	 */
+	public void setTickParallelism(int parallelism) {
+		if (tickPool != null)
+			tickPool.shutdown();
+		tickParallelism = Math.max(1, parallelism);
+		tickPool = tickParallelism > 1 ? new ForkJoinPool(tickParallelism) : null;
 	}
 
 	/**
@@ -187,6 +444,7 @@ public class GameEnvironment {
 	 */
 	public void setDifficulty(int difficulty) {
 		this.difficulty = difficulty;
+		eventScheduler.refreshAll();
 	}
 
 	/**
@@ -229,26 +487,13 @@ public class GameEnvironment {
 		}
 
 		Team team = getPlayer().getTeam();
-		int numberOfAthletesNeeded = 5 - team.getAllAthletes().size();
+		int numberOfAthletesNeeded = 5 - team.getNumberOfAthletes();
 
-		// Get list of available athletes in the athlete market and sort by price.
+		// Check if the player can purchase enough athletes to make a full team, by
+		// pricing the cheapest athletes in the athlete market. The market's
+		// optimiser keeps the prices sorted until the market's stock changes.
 		GameMarket athleteMarket = (GameMarket) getGameLocation(Location.ATHLETE_MARKET);
-		ArrayList<Purchasable> availableAthletes = new ArrayList<Purchasable>(athleteMarket.getAvailablePurchasables());
-		availableAthletes.sort((athlete1, athlete2) -> athlete1.getPrice() - athlete2.getPrice());
-
-		// Greedily simulate purchasing the cheapest athletes first,
-		// to see the maximum number of athletes the player can afford.
-		int canPurchase = 0, remainingMoney = getPlayer().getMoney();
-		for (Purchasable athlete : availableAthletes) {
-			if (athlete.getPrice() <= remainingMoney) {
-				++canPurchase;
-				remainingMoney -= athlete.getPrice();
-			} else
-				break;
-		}
-
-		// Check if the player can purchase enough athletes to make a full team.
-		if (canPurchase < numberOfAthletesNeeded) {
+		if (!athleteMarket.canAffordCheapest(numberOfAthletesNeeded, getPlayer().getMoney())) {
 			uiEnvironment.displayPopup("You don't have enough athletes or money to make a full team!");
 			return true;
 		}
@@ -276,27 +521,67 @@ public class GameEnvironment {
 
 	/**
 	 * Progresses the game to the next week, checks if the game has ended, and
-	 * triggers random events.
+	 * triggers random events. In a league, the week's other fixtures are played
+	 * first.
 	 */
 	public void progressWeek() {
+		// The league plays the rest of the week's fixtures once the player has had
+		// the chance to play theirs
+		if (league != null && currentWeek >= 1)
+			league.playRound(tickPool);
+
 		currentWeek += 1;
 
 		// Trigger random events that effect the player. Only trigger if it isn't the
 		// first week.
 		if (currentWeek != 1) {
-			Team playerTeam = player.getTeam();
-			playerTeam.triggerRandomEvents();
-
-			Set<Athlete> playerAthletes = playerTeam.getAllAthletes();
-			for (Athlete athlete : playerAthletes) {
-				athlete.triggerRandomEvents();
+			// Only the events scheduled for this week are visited. Each draws from its
+			// own stream, keyed by the event
+			List<ScheduledEvent<?>> dueEvents = eventScheduler.pollDue(currentWeek);
+			if (tickParallelism > 1)
+				fireEventsInParallel(dueEvents);
+			else {
+				for (ScheduledEvent<?> event : dueEvents)
+					runWithRng(randomService.getStream(RandomStream.RANDOM_EVENT, currentWeek, event.getEventId()),
+							() -> event.fire(this));
 			}
+			eventScheduler.reschedule(dueEvents);
 
-			drugTestRandomEvent.trigger();
+			runWithRng(randomService.getStream(RandomStream.DRUG_TEST, currentWeek),
+					() -> RandomEventRegistry.DRUG_TEST.trigger(this, player.getTeam()));
 		}
 
+		// Locations generate their content for the new week when it is first needed,
+		// unless there are threads to spare to generate it all now
 		for (GameLocation gameLocation : gameLocations.values()) {
 			gameLocation.update(currentWeek);
 		}
+		if (tickParallelism > 1) {
+			List<ForkJoinTask<?>> tasks = new ArrayList<ForkJoinTask<?>>();
+			for (GameLocation gameLocation : gameLocations.values())
+				tasks.add(tickPool.submit(gameLocation::ensureGenerated));
+			for (ForkJoinTask<?> task : tasks)
+				task.join();
+		}
+	}
+
+	/**
+	 * Makes random events happen on the tick pool. The changes each event makes to
+	 * shared state are collected, then applied in the order the events were given
+	 * in once every event has happened.
+	 * 
+	 * @param events The events to make happen
+	 */
+	private void fireEventsInParallel(List<ScheduledEvent<?>> events) {
+		List<ForkJoinTask<List<Runnable>>> tasks = new ArrayList<ForkJoinTask<List<Runnable>>>(events.size());
+		for (ScheduledEvent<?> event : events) {
+			Random rng = randomService.getStream(RandomStream.RANDOM_EVENT, currentWeek, event.getEventId());
+			tasks.add(tickPool.submit(() -> collectEffects(() -> runWithRng(rng, () -> event.fire(this)))));
+		}
+
+		for (ForkJoinTask<List<Runnable>> task : tasks) {
+			for (Runnable effect : task.join())
+				effect.run();
+		}
 	}
 }
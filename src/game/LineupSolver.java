@@ -0,0 +1,126 @@
+package game;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+import enumeration.Position;
+
+/**
+ * Chooses which athletes should play in which positions. Picking the best five
+ * athletes of a team for the five positions is an assignment problem, solved
+ * exactly with dynamic programming over the set of positions already filled.
+ * The athletes are considered one at a time, and for each set of filled
+ * positions the best lineup found so far is kept, so a team of n athletes only
+ * takes n * 2^5 * 5 steps.
+ *
+ * Injured athletes lose their pairing in a match whatever their score, so
+ * lineups are compared first by the number of healthy athletes in them, then
+ * by the number of positions filled, then by the total match score of the
+ * healthy athletes in the positions they play.
+ *
+ * @author Findlay Royds
+ * @version 1.0, May 2023.
+ */
+public class LineupSolver {
+	/**
+	 * Every position, in ordinal order.
+	 */
+	private final static Position[] POSITIONS = Position.values();
+
+	/**
+	 * The set with every position in it, with bit i set for the position with
+	 * ordinal i.
+	 */
+	private final static int ALL_POSITIONS = (1 << POSITIONS.length) - 1;
+
+	/**
+	 * The value a healthy athlete adds to a lineup, on top of their match score.
+	 * Higher than the scores of any full lineup, so more healthy athletes always
+	 * wins.
+	 */
+	private final static long HEALTHY = 1L << 40;
+
+	/**
+	 * The value any athlete adds to a lineup by filling a position. Higher than
+	 * the scores of any full lineup, so filling more positions wins ties between
+	 * numbers of healthy athletes.
+	 */
+	private final static long FILLED = 1L << 32;
+
+	/**
+	 * The value of a set of positions no lineup fills yet.
+	 */
+	private final static long UNREACHABLE = -1;
+
+	/**
+	 * Utility class, not to be constructed.
+	 */
+	private LineupSolver() {
+	}
+
+	/**
+	 * Finds the lineup of the given athletes with the highest total match score.
+	 * Healthy athletes are always chosen over injured ones, and injured athletes
+	 * only fill the positions there aren't enough healthy athletes for. Ties are
+	 * broken in favour of athletes earlier in iteration order.
+	 *
+	 * @param athletes The athletes to choose from
+	 * @return The position each chosen athlete should play in. Positions are
+	 *         missing if there are fewer athletes than positions.
+	 */
+	public static Map<Position, Athlete> solve(Collection<Athlete> athletes) {
+		Athlete[] candidates = athletes.toArray(new Athlete[0]);
+
+		// best[mask] is the value of the best lineup filling the positions in mask
+		long[] best = new long[ALL_POSITIONS + 1];
+		Arrays.fill(best, UNREACHABLE);
+		best[0] = 0;
+		// choices[i][mask] is the position athlete i plays in the best lineup
+		// filling mask out of the first i + 1 athletes, or -1 if they don't play
+		byte[][] choices = new byte[candidates.length][ALL_POSITIONS + 1];
+
+		long[] gains = new long[POSITIONS.length];
+		for (int i = 0; i < candidates.length; ++i) {
+			Athlete athlete = candidates[i];
+			boolean healthy = !athlete.isInjured();
+			for (Position position : POSITIONS)
+				gains[position.ordinal()] = healthy ? HEALTHY + FILLED + athlete.getMatchScore(position) : FILLED;
+
+			byte[] choice = choices[i];
+			Arrays.fill(choice, (byte) -1);
+			// Larger sets first, so the sets this athlete extends are still the
+			// lineups without them
+			for (int mask = ALL_POSITIONS; mask >= 0; --mask) {
+				if (best[mask] == UNREACHABLE)
+					continue;
+				for (int free = ALL_POSITIONS & ~mask; free != 0; free &= free - 1) {
+					int position = Integer.numberOfTrailingZeros(free);
+					int next = mask | (1 << position);
+					long value = best[mask] + gains[position];
+					if (value > best[next]) {
+						best[next] = value;
+						choice[next] = (byte) position;
+					}
+				}
+			}
+		}
+
+		int mask = 0;
+		for (int candidate = 1; candidate <= ALL_POSITIONS; ++candidate) {
+			if (best[candidate] > best[mask])
+				mask = candidate;
+		}
+
+		Map<Position, Athlete> lineup = new EnumMap<Position, Athlete>(Position.class);
+		for (int i = candidates.length - 1; i >= 0 && mask != 0; --i) {
+			int position = choices[i][mask];
+			if (position != -1) {
+				lineup.put(POSITIONS[position], candidates[i]);
+				mask ^= 1 << position;
+			}
+		}
+		return lineup;
+	}
+}
@@ -1,6 +1,7 @@
 package game;
 
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -42,7 +43,7 @@ public class Player {
 	 * Lambda function that returns the items in the Player's inventory as a set of
 	 * Purchasables.
 	 */
-	public Supplier<Set<Purchasable>> getPurchasables = () -> new HashSet<Purchasable>(inventory);
+	public Supplier<Set<Purchasable>> getPurchasables = () -> new LinkedHashSet<Purchasable>(inventory);
 
 	/**
 	 * Constructor for the player class
@@ -52,7 +53,7 @@ public class Player {
 	public Player(GameEnvironment gameEnvironment) {
 		this.money = 0;
 		this.score = 0;
-		this.inventory = new HashSet<Item>();
+		this.inventory = new LinkedHashSet<Item>();
 		this.team = new Team(gameEnvironment, "");
 		this.gameEnvironment = gameEnvironment;
 	}
@@ -1,17 +1,21 @@
 package game;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
-import java.util.EnumMap;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Random;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import enumeration.Position;
-import game.randomevent.AthleteJoins;
-import game.randomevent.RandomEvent;
+import game.randomevent.EventScheduler;
+import game.randomevent.RandomEventRegistry;
 import util.MiscUtil;
 import util.NameGenerator;
 
@@ -20,7 +24,7 @@ import util.NameGenerator;
  * reserves. Active players each occupy a different position on the team.
  * 
  * @author Jake van Keulen, Findlay Royds
- * @version 1.4
+ * @version 2.1
  */
 public class Team {
 	/**
@@ -29,30 +33,96 @@ public class Team {
 	private GameEnvironment gameEnvironment;
 
 	/**
-	 * Map of Positions to the athlete that has been assigned that position on the
-	 * Team.
+	 * Every position, in ordinal order. Cached because Position.values() copies
+	 * the array on every call.
 	 */
-	private Map<Position, Athlete> activeAthletes;
+	private final static Position[] POSITIONS = Position.values();
 
 	/**
-	 * Set of Athletes who are reserves in the Team.
+	 * The maximum number of reserve athletes permitted on a team.
 	 */
-	private Set<Athlete> reserveAthletes;
+	private final static int MAX_NUMBER_OF_RESERVES = 5;
 
 	/**
-	 * Name of the Team.
+	 * The number of slots on a team, active and reserve.
 	 */
-	private String name;
+	private final static int NUMBER_OF_SLOTS = POSITIONS.length + MAX_NUMBER_OF_RESERVES;
+
+	static {
+		// Doping is tracked with one bit per slot in a long
+		if (NUMBER_OF_SLOTS > Long.SIZE)
+			throw new IllegalStateException("A team can have at most " + Long.SIZE + " slots");
+	}
 
 	/**
-	 * The maximum number of reserve athletes permitted on a team.
+	 * The athlete that has been assigned each position on the Team, indexed by
+	 * the position's ordinal. Unfilled positions are null.
 	 */
-	private final static int MAX_NUMBER_OF_RESERVES = 5;
+	private final Athlete[] activeAthletes = new Athlete[POSITIONS.length];
+
+	/**
+	 * The reserve slots of the Team. Empty slots are null. An athlete's slot
+	 * index on the team is its position's ordinal if it is active, or
+	 * POSITIONS.length plus its index in this array if it is a reserve.
+	 */
+	private final Athlete[] reserveAthletes = new Athlete[MAX_NUMBER_OF_RESERVES];
+
+	/**
+	 * Stack of the indices of empty reserve slots, with the lowest index on top.
+	 */
+	private final int[] freeReserveSlots = new int[MAX_NUMBER_OF_RESERVES];
+
+	/**
+	 * The number of empty reserve slots on the stack.
+	 */
+	private int numberOfFreeReserveSlots;
+
+	/**
+	 * The number of filled positions.
+	 */
+	private int numberOfActiveAthletes;
+
+	/**
+	 * Bitmask of the slots holding athletes who have used steroids. Bit i is set
+	 * when slot i holds such an athlete.
+	 */
+	private long dopedSlots;
+
+	/**
+	 * Live, read-only view of the active athletes.
+	 */
+	private final Map<Position, Athlete> activeView = new ActiveView();
+
+	/**
+	 * Live, read-only view of the reserve athletes.
+	 */
+	private final Set<Athlete> reserveView = new ReserveView();
+
+	/**
+	 * Live, read-only view of every athlete on the team.
+	 */
+	private final Set<Athlete> roster = new RosterView();
 
 	/**
-	 * The random event that causes a new athlete to join the team.
+	 * Reusable buffer holding the athletes being visited by forEachAthlete.
 	 */
-	RandomEvent athleteJoinsRandomEvent;
+	private final Athlete[] forEachBuffer = new Athlete[NUMBER_OF_SLOTS];
+
+	/**
+	 * Whether forEachBuffer is being used by a call to forEachAthlete.
+	 */
+	private boolean forEachBufferInUse = false;
+
+	/**
+	 * Name of the Team.
+	 */
+	private String name;
+
+	/**
+	 * Schedules the random events of the team and its athletes. Only the player's
+	 * team has one.
+	 */
+	private EventScheduler eventScheduler;
 
 	/**
 	 * @return The maximum number of reserves that can be in a Team.
@@ -66,8 +136,8 @@ public class Team {
 	 */
 	public List<Position> getUnfilledTeamPositions() {
 		List<Position> unfilled = new ArrayList<Position>();
-		for (Position position : Position.values()) {
-			if (getActiveAthletes().get(position) == null) {
+		for (Position position : POSITIONS) {
+			if (activeAthletes[position.ordinal()] == null) {
 				unfilled.add(position);
 			}
 		}
@@ -83,9 +153,10 @@ public class Team {
 	public Team(GameEnvironment gameEnvironment, String teamName) {
 		this.gameEnvironment = gameEnvironment;
 		name = teamName;
-		activeAthletes = new EnumMap<Position, Athlete>(Position.class);
-		reserveAthletes = new HashSet<Athlete>();
-		athleteJoinsRandomEvent = new AthleteJoins(gameEnvironment, this);
+		for (int i = 0; i < MAX_NUMBER_OF_RESERVES; ++i) {
+			freeReserveSlots[i] = MAX_NUMBER_OF_RESERVES - 1 - i;
+		}
+		numberOfFreeReserveSlots = MAX_NUMBER_OF_RESERVES;
 	}
 
 	/**
@@ -105,58 +176,473 @@ public class Team {
 	}
 
 	/**
-	 * Returns a Map containing all active Athletes organized by their positions.
+	 * Returns a live, read-only Map containing all active Athletes organized by
+	 * their positions.
 	 * 
 	 * @return Map of Positions to the Athlete that has been assigned that Position.
 	 */
 	public Map<Position, Athlete> getActiveAthletes() {
-		return activeAthletes;
+		return activeView;
 	}
 
 	/**
-	 * Returns the Athletes that are reserves on the team.
+	 * Returns a live, read-only Set of the Athletes that are reserves on the team,
+	 * in slot order.
 	 * 
 	 * @return Set of the team's reserve Athletes.
 	 */
 	public Set<Athlete> getReserveAthletes() {
-		return reserveAthletes;
+		return reserveView;
 	}
 
 	/**
 	 * Returns all the Purchasables belinging to the team (Athletes)
 	 */
-	public Supplier<Set<Purchasable>> getAllPurchasables = () -> {
-		// Cast result of getAllAthletes to a set of purchasables
-		Set<Athlete> allAthletes = getAllAthletes();
-		return new HashSet<>(allAthletes);
-	};
+	public Supplier<Set<Purchasable>> getAllPurchasables = () -> new LinkedHashSet<Purchasable>(roster);
 
 	/**
-	 * Returns all the athleletes that are reserves or active on the team
+	 * Returns a copy of all the athleletes that are reserves or active on the
+	 * team. Use getRoster or forEachAthlete instead if the set doesn't need to be
+	 * changed or kept.
 	 * 
 	 * @return Set of all athletes on the team
 	 */
 	public Set<Athlete> getAllAthletes() {
-		Set<Athlete> allAthletes = new HashSet<Athlete>();
-		for (Athlete athlete : getReserveAthletes()) {
-			allAthletes.add(athlete);
+		Set<Athlete> allAthletes = new LinkedHashSet<Athlete>();
+		allAthletes.addAll(roster);
+		return allAthletes;
+	}
+
+	/**
+	 * Returns a live, read-only view of all the athletes on the team, reserves
+	 * first then active athletes in position order. The view reflects later
+	 * changes to the team and doesn't copy anything, so the team must not be
+	 * changed while iterating over it.
+	 * 
+	 * @return Set of all athletes on the team
+	 */
+	public Set<Athlete> getRoster() {
+		return roster;
+	}
+
+	/**
+	 * @return The number of athletes on the team, both active and reserve.
+	 */
+	public int getNumberOfAthletes() {
+		return getNumberOfReserveAthletes() + numberOfActiveAthletes;
+	}
+
+	/**
+	 * Performs an action for every athlete on the team, in the same order as
+	 * getRoster. The action may change the team (for example, an athlete may
+	 * quit), in which case every athlete on the team when the iteration started
+	 * is still visited.
+	 * 
+	 * @param action The action to perform on each athlete
+	 */
+	public void forEachAthlete(Consumer<Athlete> action) {
+		// A nested call can't share the buffer, so gets its own
+		int size = getNumberOfAthletes();
+		Athlete[] buffer = forEachBufferInUse || size > forEachBuffer.length ? new Athlete[size] : forEachBuffer;
+		boolean ownsBuffer = buffer == forEachBuffer;
+		forEachBufferInUse = true;
+
+		int numberOfAthletes = 0;
+		for (Athlete athlete : roster) {
+			buffer[numberOfAthletes++] = athlete;
 		}
-		for (Athlete athlete : getActiveAthletes().values()) {
-			allAthletes.add(athlete);
+		try {
+			for (int i = 0; i < numberOfAthletes; ++i) {
+				action.accept(buffer[i]);
+			}
+		} finally {
+			for (int i = 0; i < numberOfAthletes; ++i) {
+				buffer[i] = null;
+			}
+			if (ownsBuffer)
+				forEachBufferInUse = false;
+		}
+	}
+
+	/**
+	 * A read-only Map backed by the team's active athletes.
+	 */
+	private class ActiveView extends AbstractMap<Position, Athlete> {
+		/**
+		 * Read-only view of the filled positions and their athletes.
+		 */
+		private final Set<Map.Entry<Position, Athlete>> entrySet = new AbstractSet<Map.Entry<Position, Athlete>>() {
+			@Override
+			public Iterator<Map.Entry<Position, Athlete>> iterator() {
+				return new SlotIterator<Map.Entry<Position, Athlete>>(activeAthletes) {
+					@Override
+					protected Map.Entry<Position, Athlete> get(int index) {
+						return new AbstractMap.SimpleImmutableEntry<Position, Athlete>(POSITIONS[index],
+								activeAthletes[index]);
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return numberOfActiveAthletes;
+			}
+		};
+
+		@Override
+		public Set<Map.Entry<Position, Athlete>> entrySet() {
+			return entrySet;
+		}
+
+		@Override
+		public Athlete get(Object key) {
+			return key instanceof Position ? activeAthletes[((Position) key).ordinal()] : null;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return get(key) != null;
+		}
+
+		@Override
+		public boolean containsValue(Object value) {
+			return value instanceof Athlete && isActive((Athlete) value);
+		}
+
+		@Override
+		public int size() {
+			return numberOfActiveAthletes;
+		}
+	}
+
+	/**
+	 * A read-only Set backed by the team's reserve slots.
+	 */
+	private class ReserveView extends AbstractSet<Athlete> {
+		@Override
+		public Iterator<Athlete> iterator() {
+			return new SlotIterator<Athlete>(reserveAthletes) {
+				@Override
+				protected Athlete get(int index) {
+					return reserveAthletes[index];
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return getNumberOfReserveAthletes();
+		}
+
+		@Override
+		public boolean contains(Object object) {
+			return object instanceof Athlete && isReserve((Athlete) object);
+		}
+	}
+
+	/**
+	 * A read-only Set backed by the team's reserve and active athletes.
+	 */
+	private class RosterView extends AbstractSet<Athlete> {
+		/**
+		 * @return An iterator over the reserve athletes then the active athletes
+		 */
+		@Override
+		public Iterator<Athlete> iterator() {
+			return new Iterator<Athlete>() {
+				/**
+				 * The iterator currently being read from
+				 */
+				private Iterator<Athlete> current = reserveView.iterator();
+
+				/**
+				 * Whether current is iterating over the active athletes
+				 */
+				private boolean iteratingActive = false;
+
+				@Override
+				public boolean hasNext() {
+					if (!current.hasNext() && !iteratingActive) {
+						current = activeView.values().iterator();
+						iteratingActive = true;
+					}
+					return current.hasNext();
+				}
+
+				@Override
+				public Athlete next() {
+					if (!hasNext())
+						throw new NoSuchElementException();
+					return current.next();
+				}
+			};
+		}
+
+		/**
+		 * @return The number of athletes on the team
+		 */
+		@Override
+		public int size() {
+			return getNumberOfAthletes();
+		}
+
+		/**
+		 * @param object The object to look for
+		 * @return Whether the object is an athlete on the team
+		 */
+		@Override
+		public boolean contains(Object object) {
+			return object instanceof Athlete && getSlot((Athlete) object) != -1;
 		}
-		return allAthletes;
 	}
 
 	/**
-	 * Inserts a given Athlete at a given Position in the Team's activeAthletes.
-	 * Also set's the Athlete's team property to this Team.
+	 * Iterates over the filled slots of an array of athletes, in index order.
+	 *
+	 * @param <T> The type of element returned for each filled slot
+	 */
+	private abstract static class SlotIterator<T> implements Iterator<T> {
+		/**
+		 * The slots being iterated over
+		 */
+		private final Athlete[] slots;
+
+		/**
+		 * The index of the next filled slot, or slots.length if there are none left
+		 */
+		private int nextIndex;
+
+		/**
+		 * @param slots The slots to iterate over
+		 */
+		SlotIterator(Athlete[] slots) {
+			this.slots = slots;
+			nextIndex = findFilledSlot(0);
+		}
+
+		/**
+		 * @param from The index to start looking from
+		 * @return The index of the first filled slot at or after from, or
+		 *         slots.length if there isn't one
+		 */
+		private int findFilledSlot(int from) {
+			while (from < slots.length && slots[from] == null) {
+				++from;
+			}
+			return from;
+		}
+
+		/**
+		 * @param index The index of a filled slot
+		 * @return The element to return for that slot
+		 */
+		protected abstract T get(int index);
+
+		@Override
+		public boolean hasNext() {
+			return nextIndex < slots.length;
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext())
+				throw new NoSuchElementException();
+			T element = get(nextIndex);
+			nextIndex = findFilledSlot(nextIndex + 1);
+			return element;
+		}
+	}
+
+	/**
+	 * Finds an athlete's slot on this team using the slot index the athlete
+	 * stores.
+	 * 
+	 * @param athlete The athlete to look for
+	 * @return The athlete's slot index on this team, or -1 if they aren't on it
+	 */
+	private int getSlot(Athlete athlete) {
+		int slot = athlete.getTeamSlot();
+		if (athlete.getTeam() != this || slot < 0)
+			return -1;
+		if (slot < POSITIONS.length)
+			return activeAthletes[slot] == athlete ? slot : -1;
+		return reserveAthletes[slot - POSITIONS.length] == athlete ? slot : -1;
+	}
+
+	/**
+	 * @param athlete The athlete to look for
+	 * @return Whether the athlete is active on this team
+	 */
+	private boolean isActive(Athlete athlete) {
+		int slot = getSlot(athlete);
+		return slot != -1 && slot < POSITIONS.length;
+	}
+
+	/**
+	 * @param athlete The athlete to look for
+	 * @return Whether the athlete is a reserve on this team
+	 */
+	private boolean isReserve(Athlete athlete) {
+		return getSlot(athlete) >= POSITIONS.length;
+	}
+
+	/**
+	 * @return The number of reserve athletes on the team.
+	 */
+	private int getNumberOfReserveAthletes() {
+		return MAX_NUMBER_OF_RESERVES - numberOfFreeReserveSlots;
+	}
+
+	/**
+	 * Places an athlete in a position, replacing any athlete already there. The
+	 * replaced athlete is no longer on the team.
+	 * 
+	 * @param athlete  The athlete to place
+	 * @param position The position to place them in
+	 */
+	private void setActive(Athlete athlete, Position position) {
+		int slot = position.ordinal();
+		Athlete replaced = activeAthletes[slot];
+		if (replaced != null)
+			replaced.setTeamSlot(-1);
+		else
+			++numberOfActiveAthletes;
+		activeAthletes[slot] = athlete;
+		athlete.setTeamSlot(slot);
+		setDoped(slot, athlete.getHasUsedSteroids());
+	}
+
+	/**
+	 * Places an athlete in the lowest empty reserve slot. There must be an empty
+	 * slot.
+	 * 
+	 * @param athlete The athlete to place
+	 */
+	private void addReserve(Athlete athlete) {
+		int index = freeReserveSlots[--numberOfFreeReserveSlots];
+		reserveAthletes[index] = athlete;
+		athlete.setTeamSlot(POSITIONS.length + index);
+		setDoped(POSITIONS.length + index, athlete.getHasUsedSteroids());
+	}
+
+	/**
+	 * Puts an athlete in an occupied slot, as one half of swapping two athletes.
+	 * 
+	 * @param athlete The athlete to put in the slot
+	 * @param slot    The slot index
+	 */
+	private void putInSlot(Athlete athlete, int slot) {
+		if (slot < POSITIONS.length)
+			activeAthletes[slot] = athlete;
+		else
+			reserveAthletes[slot - POSITIONS.length] = athlete;
+		athlete.setTeamSlot(slot);
+		setDoped(slot, athlete.getHasUsedSteroids());
+	}
+
+	/**
+	 * Empties the slot an athlete on this team occupies.
+	 * 
+	 * @param slot The athlete's slot index
+	 */
+	private void clearSlot(int slot) {
+		setDoped(slot, false);
+		if (slot < POSITIONS.length) {
+			activeAthletes[slot].setTeamSlot(-1);
+			activeAthletes[slot] = null;
+			--numberOfActiveAthletes;
+			return;
+		}
+
+		int index = slot - POSITIONS.length;
+		reserveAthletes[index].setTeamSlot(-1);
+		reserveAthletes[index] = null;
+		// Keep the lowest free slot on top of the stack so reserves fill in order
+		int i = numberOfFreeReserveSlots++;
+		while (i > 0 && freeReserveSlots[i - 1] < index) {
+			freeReserveSlots[i] = freeReserveSlots[i - 1];
+			--i;
+		}
+		freeReserveSlots[i] = index;
+	}
+
+	/**
+	 * Records whether the athlete in a slot has used steroids.
+	 * 
+	 * @param slot  The slot index
+	 * @param doped Whether the athlete in the slot has used steroids
+	 */
+	private void setDoped(int slot, boolean doped) {
+		if (doped)
+			dopedSlots |= 1L << slot;
+		else
+			dopedSlots &= ~(1L << slot);
+	}
+
+	/**
+	 * Brings the record of which athletes have used steroids up to date after an
+	 * athlete on the team used one.
+	 * 
+	 * @param athlete The athlete whose steroid use changed
+	 */
+	void updateDoping(Athlete athlete) {
+		int slot = getSlot(athlete);
+		if (slot != -1)
+			setDoped(slot, athlete.getHasUsedSteroids());
+	}
+
+	/**
+	 * @return Whether any athlete on the team has used steroids. Takes constant
+	 *         time.
+	 */
+	public boolean hasDopedAthletes() {
+		return dopedSlots != 0;
+	}
+
+	/**
+	 * @return The number of athletes on the team who have used steroids.
+	 */
+	public int getNumberOfDopedAthletes() {
+		return Long.bitCount(dopedSlots);
+	}
+
+	/**
+	 * Gets the athletes who would fail a drug test, in the same order as
+	 * getRoster(). Only the slots of those athletes are visited.
+	 * 
+	 * @return A new List of the athletes on the team who have used steroids.
+	 */
+	public List<Athlete> getDopedAthletes() {
+		List<Athlete> doped = new ArrayList<Athlete>(getNumberOfDopedAthletes());
+		// Reserves come before active athletes in the roster
+		long reserveBits = dopedSlots >>> POSITIONS.length;
+		for (long bits = reserveBits; bits != 0; bits &= bits - 1)
+			doped.add(reserveAthletes[Long.numberOfTrailingZeros(bits)]);
+		long activeBits = dopedSlots & ((1L << POSITIONS.length) - 1);
+		for (long bits = activeBits; bits != 0; bits &= bits - 1)
+			doped.add(activeAthletes[Long.numberOfTrailingZeros(bits)]);
+		return doped;
+	}
+
+	/**
+	 * Inserts a given Athlete at a given Position in the Team's activeAthletes,
+	 * replacing any Athlete already there. If the Athlete is already on the Team
+	 * they are moved out of their old slot. Also set's the Athlete's team property
+	 * to this Team.
 	 * 
 	 * @param athlete  The Athlete to be added.
 	 * @param position The Athlete's Position on the team.
 	 */
 	public void addAthleteToActive(Athlete athlete, Position position) {
-		activeAthletes.put(position, athlete);
+		int slot = getSlot(athlete);
+		if (slot != -1)
+			clearSlot(slot);
+		Athlete replaced = activeAthletes[position.ordinal()];
+		setActive(athlete, position);
 		athlete.setTeam(this);
+		if (replaced != null)
+			updateEventSchedule(replaced);
+		updateEventSchedule(athlete);
 	}
 
 	/**
@@ -168,98 +654,105 @@ public class Team {
 	 * @return Whether or not the athlete was added
 	 */
 	public boolean addAthleteToReserve(Athlete athlete) {
-		if (reserveAthletes.size() < MAX_NUMBER_OF_RESERVES) {
-			reserveAthletes.add(athlete);
+		if (isReserve(athlete))
+			return true;
+		if (numberOfFreeReserveSlots > 0) {
+			int slot = getSlot(athlete);
+			if (slot != -1)
+				clearSlot(slot);
+			addReserve(athlete);
 			athlete.setTeam(this);
+			updateEventSchedule(athlete);
 			return true;
 		}
 		return false;
 	}
 
 	/**
-	 * Removes an athlete from the Team. Iterates through first the Team's
-	 * activeAthletes then its reserveAthletes, removing the athlete from the
-	 * corresponding container if it is found.
+	 * Removes an athlete from the Team, using the slot the athlete stores to find
+	 * them.
 	 * 
 	 * @param athlete The Athlete to be removed.
 	 */
 	public void removeAthlete(Athlete athlete) {
-		// Look for athlete in activeAthletes.
-		for (Position position : Position.values()) {
-			if (activeAthletes.get(position) == athlete) {
-				activeAthletes.remove(position);
-				return;
-			}
-		}
-
-		// Look for athlete in reserveAthletes.
-		for (Athlete currentAthlete : reserveAthletes) {
-			if (currentAthlete == athlete) {
-				reserveAthletes.remove(currentAthlete);
-				return;
-			}
+		int slot = getSlot(athlete);
+		if (slot != -1) {
+			clearSlot(slot);
+			updateEventSchedule(athlete);
 		}
 	}
 
 	/**
-	 * Looks for an Athlete in the active Team. If found, the Athlete is swapped
-	 * with an arbitrary Athlete from the reserves
+	 * Looks for an Athlete in the active Team. If found, the Athlete is moved to
+	 * the reserves. If the reserves are full, the player chooses a reserve to swap
+	 * places with.
 	 * 
 	 * @param athlete The Athlete to move.
 	 * @return Whether or not the athlete was moved
 	 */
 	public boolean moveToReserve(Athlete athlete) {
-		// Look for athlete in activeAthletes.
-		for (Position position : Position.values()) {
-			if (activeAthletes.get(position) == athlete) {
-				if (reserveAthletes.size() >= MAX_NUMBER_OF_RESERVES) {
-					List<Athlete> swapWithOptions = new ArrayList<Athlete>(reserveAthletes);
-					String popupMessage = "Which reserve should the athlete be swapped with?";
-
-					int selectedOptionIndex = gameEnvironment.getUIEnvironment().displayPopup(popupMessage,
-							swapWithOptions.stream().map((curAthlete) -> curAthlete.getName()).toArray(String[]::new));
-					Athlete swapWith = swapWithOptions.get(selectedOptionIndex);
-
-					activeAthletes.put(position, swapWith);
-					reserveAthletes.remove(swapWith);
-				} else
-					activeAthletes.remove(position);
-				reserveAthletes.add(athlete);
-				return true;
+		if (!isActive(athlete))
+			return false;
+
+		Position position = POSITIONS[getSlot(athlete)];
+		if (numberOfFreeReserveSlots == 0) {
+			String popupMessage = "Which reserve should the athlete be swapped with?";
+			String[] options = new String[MAX_NUMBER_OF_RESERVES];
+			for (int i = 0; i < MAX_NUMBER_OF_RESERVES; ++i) {
+				options[i] = reserveAthletes[i].getName();
 			}
+			int selectedOptionIndex = gameEnvironment.getUIEnvironment().displayPopup(popupMessage, options);
+			Athlete swapWith = reserveAthletes[selectedOptionIndex];
+
+			putInSlot(swapWith, position.ordinal());
+			putInSlot(athlete, POSITIONS.length + selectedOptionIndex);
+			updateEventSchedule(swapWith);
+		} else {
+			clearSlot(position.ordinal());
+			addReserve(athlete);
 		}
-		return false;
+		updateEventSchedule(athlete);
+		return true;
 	}
 
 	/**
-	 * First removes the given Athlete from the Team if it is found, then adds it to
-	 * the Team's activeAthletes.
+	 * Moves an Athlete on the Team into a position. Any Athlete already in that
+	 * position takes the moved Athlete's old slot, whether it was a reserve slot
+	 * or another position.
 	 * 
 	 * @param athlete  The Athlete to move.
 	 * @param position The position the athlete is moved into
 	 */
 	public void moveToActive(Athlete athlete, Position position) {
-		// Look for athlete in reserveAthletes.
-		for (Athlete currentAthlete : reserveAthletes) {
-			if (currentAthlete == athlete) {
-				reserveAthletes.remove(athlete);
-				Athlete swapWith = activeAthletes.get(position);
-				if (swapWith != null)
-					reserveAthletes.add(swapWith);
-				activeAthletes.put(position, athlete);
-				return;
-			}
+		int slot = getSlot(athlete);
+		int targetSlot = position.ordinal();
+		if (slot == -1 || slot == targetSlot)
+			return;
+
+		Athlete swapWith = activeAthletes[targetSlot];
+		if (swapWith == null) {
+			clearSlot(slot);
+			setActive(athlete, position);
+		} else {
+			putInSlot(swapWith, slot);
+			putInSlot(athlete, targetSlot);
+			updateEventSchedule(swapWith);
 		}
+		updateEventSchedule(athlete);
+	}
 
-		for (Position currentPosition : Position.values()) {
-			if (activeAthletes.get(currentPosition) == athlete) {
-				Athlete swapWith = activeAthletes.get(position);
-				if (swapWith != null)
-					activeAthletes.put(currentPosition, swapWith);
-				activeAthletes.put(position, athlete);
-				return;
-			}
-		}
+	/**
+	 * Rearranges the Team so the positions are played by the lineup of its
+	 * Athletes with the highest total match score, as found by LineupSolver.
+	 * Injured Athletes are only played if there aren't enough healthy ones.
+	 * Athletes who aren't chosen are moved to the reserves.
+	 */
+	public void chooseBestLineup() {
+		Map<Position, Athlete> lineup = LineupSolver.solve(getRoster());
+		// Moving an athlete into a position never moves one placed earlier, since
+		// the displaced athlete takes the moved athlete's old slot
+		for (Map.Entry<Position, Athlete> entry : lineup.entrySet())
+			moveToActive(entry.getValue(), entry.getKey());
 	}
 
 	/**
@@ -276,6 +769,7 @@ public class Team {
 	/**
 	 * Creates a new Team and fills all positions and reserve slots with randomly
 	 * generated Athletes, using the generateAthlete() static method of Athlete.
+	 * The Athletes are then arranged into the Team's best lineup.
 	 * 
 	 * @param qualityLevel    A float in the range 0-1 inclusive. A higher
 	 *                        qualityLevel will make Athletes more likely to get
@@ -293,7 +787,7 @@ public class Team {
 		qualityLevel = MiscUtil.clampValue(qualityLevel, 1, 100);
 
 		// Generate the activeAthletes.
-		for (Position position : Position.values()) {
+		for (Position position : POSITIONS) {
 			Athlete currentAthlete = (Athlete) Athlete.generateAthlete.apply(qualityLevel, gameEnvironment);
 			resultingTeam.addAthleteToActive(currentAthlete, position);
 		}
@@ -302,6 +796,7 @@ public class Team {
 			Athlete currentAthlete = (Athlete) Athlete.generateAthlete.apply(qualityLevel, gameEnvironment);
 			resultingTeam.addAthleteToReserve(currentAthlete);
 		}
+		resultingTeam.chooseBestLineup();
 
 		return resultingTeam;
 	}
@@ -313,13 +808,45 @@ public class Team {
 	 * @return the number of free spaces in the team's reserves
 	 */
 	public int getNumberOfFreeReserveSlots() {
-		return MAX_NUMBER_OF_RESERVES - getReserveAthletes().size();
+		return numberOfFreeReserveSlots;
+	}
+
+	/**
+	 * Makes a scheduler responsible for the random events of the team and its
+	 * athletes. The team keeps the schedule up to date as athletes join, leave and
+	 * move between the active team and the reserves.
+	 * 
+	 * @param eventScheduler The scheduler for the team's random events
+	 */
+	void setEventScheduler(EventScheduler eventScheduler) {
+		this.eventScheduler = eventScheduler;
+		eventScheduler.register(this, RandomEventRegistry.TEAM_EVENTS);
+		for (Athlete athlete : getRoster())
+			athlete.scheduleRandomEvents(eventScheduler);
+	}
+
+	/**
+	 * Brings the schedule of an athlete's random events up to date after the
+	 * athlete joined, left, moved or was injured, along with the team's own event,
+	 * which depends on the number of free reserve slots. Does nothing for teams
+	 * without a scheduler.
+	 * 
+	 * @param athlete The athlete that changed
+	 */
+	void updateEventSchedule(Athlete athlete) {
+		if (eventScheduler == null)
+			return;
+		if (getSlot(athlete) != -1)
+			athlete.scheduleRandomEvents(eventScheduler);
+		else
+			athlete.cancelRandomEvents(eventScheduler);
+		eventScheduler.refresh(this);
 	}
 
 	/**
 	 * Triggers the athlete joins random event.
 	 */
 	public void triggerRandomEvents() {
-		athleteJoinsRandomEvent.trigger();
+		RandomEventRegistry.triggerAll(gameEnvironment, this);
 	}
 }
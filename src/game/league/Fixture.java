@@ -0,0 +1,75 @@
+package game.league;
+
+/**
+ * A match between two teams of a league in one round of its schedule. Teams
+ * are identified by their index in the league.
+ * 
+ * @author Findlay Royds
+ * @version 1.0, May 2023.
+ */
+public final class Fixture {
+	/**
+	 * The round the fixture is played in
+	 */
+	private final int round;
+
+	/**
+	 * The index of the home team
+	 */
+	private final int homeTeam;
+
+	/**
+	 * The index of the away team
+	 */
+	private final int awayTeam;
+
+	/**
+	 * Constructor for Fixture.
+	 * 
+	 * @param round    The round the fixture is played in
+	 * @param homeTeam The index of the home team
+	 * @param awayTeam The index of the away team
+	 */
+	public Fixture(int round, int homeTeam, int awayTeam) {
+		this.round = round;
+		this.homeTeam = homeTeam;
+		this.awayTeam = awayTeam;
+	}
+
+	/**
+	 * @return The round the fixture is played in
+	 */
+	public int getRound() {
+		return round;
+	}
+
+	/**
+	 * @return The index of the home team
+	 */
+	public int getHomeTeam() {
+		return homeTeam;
+	}
+
+	/**
+	 * @return The index of the away team
+	 */
+	public int getAwayTeam() {
+		return awayTeam;
+	}
+
+	/**
+	 * @param team The index of a team
+	 * @return Whether the team plays in the fixture
+	 */
+	public boolean involves(int team) {
+		return homeTeam == team || awayTeam == team;
+	}
+
+	/**
+	 * @param team The index of a team in the fixture
+	 * @return The index of the team's opponent
+	 */
+	public int getOpponent(int team) {
+		return team == homeTeam ? awayTeam : homeTeam;
+	}
+}
@@ -0,0 +1,275 @@
+package game.league;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
+
+import enumeration.RandomStream;
+import game.GameEnvironment;
+import game.Team;
+import game.location.MatchEngine;
+import game.location.MatchResult;
+import util.RandomService;
+
+/**
+ * A league of teams that play each other in a round-robin season, one round a
+ * week. The teams are generated once, when the league starts, and keep their
+ * athletes for the whole season. The player's team can take part, in which case
+ * the player plays their own fixture each week and the league plays every other
+ * fixture at the end of the week.
+ *
+ * Computer controlled teams don't use up stamina, as with opposition teams
+ * outside of a league, so their matches change nothing but the standings. Every
+ * fixture of a round can therefore be played at once, spread over the threads
+ * of a pool.
+ *
+ * @author Findlay Royds
+ * @version 1.1, May 2023.
+ */
+public class League {
+	/**
+	 * The index of the player's team when it takes part
+	 */
+	public static final int PLAYER_TEAM_INDEX = 0;
+
+	/**
+	 * The game environment the league belongs to
+	 */
+	private final GameEnvironment gameEnvironment;
+
+	/**
+	 * The teams in the league, in index order
+	 */
+	private final Team[] teams;
+
+	/**
+	 * Whether the player's team is in the league, at PLAYER_TEAM_INDEX
+	 */
+	private final boolean hasPlayerTeam;
+
+	/**
+	 * The schedule of the league's fixtures
+	 */
+	private final RoundRobinScheduler scheduler;
+
+	/**
+	 * The league's standings
+	 */
+	private final Standings standings;
+
+	/**
+	 * The number of rounds that have been played
+	 */
+	private int roundsPlayed = 0;
+
+	/**
+	 * Whether the player's fixture of the current round has been played
+	 */
+	private boolean playerFixturePlayed = false;
+
+	/**
+	 * Constructor for League.
+	 *
+	 * @param gameEnvironment The game environment the league belongs to
+	 * @param teams           The teams in the league. If the player's team takes
+	 *                        part it must be first.
+	 * @param hasPlayerTeam   Whether the first team is the player's
+	 */
+	public League(GameEnvironment gameEnvironment, List<Team> teams, boolean hasPlayerTeam) {
+		this.gameEnvironment = gameEnvironment;
+		this.teams = teams.toArray(new Team[0]);
+		this.hasPlayerTeam = hasPlayerTeam && !teams.isEmpty();
+		scheduler = new RoundRobinScheduler(this.teams.length);
+		standings = new Standings(this.teams.length);
+	}
+
+	/**
+	 * Generates the computer controlled teams of a league, spread over the threads
+	 * of a pool. Each team is generated from its own random stream, so the teams
+	 * are the same whatever the number of threads.
+	 *
+	 * @param gameEnvironment The game environment the league belongs to
+	 * @param playerTeam      The player's team, or null if the player doesn't
+	 *                        take part
+	 * @param numberOfTeams   The number of computer controlled teams to generate
+	 * @param qualityLevels   The quality level of each generated team, from its
+	 *                        index among the generated teams
+	 * @param adjustment      A change to make to each generated team, such as
+	 *                        the adjustments made to opposition teams
+	 * @param pool            The threads to generate teams on, or null to
+	 *                        generate them on the calling thread
+	 * @return The new league
+	 */
+	public static League generate(GameEnvironment gameEnvironment, Team playerTeam, int numberOfTeams,
+			IntUnaryOperator qualityLevels, Consumer<Team> adjustment, ForkJoinPool pool) {
+		RandomService randomService = gameEnvironment.getRandomService();
+		Team[] generated = new Team[Math.max(0, numberOfTeams)];
+		List<ForkJoinTask<?>> tasks = new ArrayList<ForkJoinTask<?>>();
+		for (int i = 0; i < generated.length; ++i) {
+			int index = i;
+			Runnable generateTeam = () -> {
+				Team team = gameEnvironment.generateWithRng(randomService.getStream(RandomStream.LEAGUE_TEAM, index),
+						() -> Team.generateTeam(qualityLevels.applyAsInt(index), gameEnvironment));
+				adjustment.accept(team);
+				generated[index] = team;
+			};
+			if (pool == null)
+				generateTeam.run();
+			else
+				tasks.add(pool.submit(generateTeam));
+		}
+		for (ForkJoinTask<?> task : tasks)
+			task.join();
+
+		List<Team> teams = new ArrayList<Team>(generated.length + 1);
+		if (playerTeam != null)
+			teams.add(playerTeam);
+		teams.addAll(Arrays.asList(generated));
+		return new League(gameEnvironment, teams, playerTeam != null);
+	}
+
+	/**
+	 * @return The teams in the league, in index order
+	 */
+	public List<Team> getTeams() {
+		return Collections.unmodifiableList(Arrays.asList(teams));
+	}
+
+	/**
+	 * @param index The index of a team
+	 * @return The team with that index
+	 */
+	public Team getTeam(int index) {
+		return teams[index];
+	}
+
+	/**
+	 * @return Whether the player's team takes part in the league
+	 */
+	public boolean hasPlayerTeam() {
+		return hasPlayerTeam;
+	}
+
+	/**
+	 * @return The schedule of the league's fixtures
+	 */
+	public RoundRobinScheduler getScheduler() {
+		return scheduler;
+	}
+
+	/**
+	 * @return The league's standings
+	 */
+	public Standings getStandings() {
+		return standings;
+	}
+
+	/**
+	 * @return The number of rounds that have been played
+	 */
+	public int getRoundsPlayed() {
+		return roundsPlayed;
+	}
+
+	/**
+	 * @param round A round, counting from 0
+	 * @return The player's opponent in that round, or null if the player doesn't
+	 *         take part or has the round off
+	 */
+	public Team getPlayerOpponent(int round) {
+		if (!hasPlayerTeam)
+			return null;
+		Fixture fixture = scheduler.getFixture(round, PLAYER_TEAM_INDEX);
+		return fixture == null ? null : teams[fixture.getOpponent(PLAYER_TEAM_INDEX)];
+	}
+
+	/**
+	 * @return The player's opponent in the round that is being played, or null if
+	 *         the player doesn't take part or has the round off
+	 */
+	public Team getCurrentPlayerOpponent() {
+		return getPlayerOpponent(roundsPlayed);
+	}
+
+	/**
+	 * Records the player's match, if it was their fixture in the round that is
+	 * being played. Matches against other teams don't count towards the
+	 * standings.
+	 *
+	 * @param opponent      The team the player played
+	 * @param playerScore   The number of pairings the player won
+	 * @param opponentScore The number of pairings the opponent won
+	 * @param playerWon     Whether the player won the match
+	 * @return Whether the match was recorded
+	 */
+	public boolean recordPlayerMatch(Team opponent, int playerScore, int opponentScore, boolean playerWon) {
+		if (playerFixturePlayed || opponent == null || getCurrentPlayerOpponent() != opponent)
+			return false;
+		Fixture fixture = scheduler.getFixture(roundsPlayed, PLAYER_TEAM_INDEX);
+		if (fixture.getHomeTeam() == PLAYER_TEAM_INDEX)
+			standings.record(PLAYER_TEAM_INDEX, fixture.getAwayTeam(), playerScore, opponentScore, playerWon);
+		else
+			standings.record(fixture.getHomeTeam(), PLAYER_TEAM_INDEX, opponentScore, playerScore, !playerWon);
+		playerFixturePlayed = true;
+		return true;
+	}
+
+	/**
+	 * Plays every fixture of the next round that hasn't been played, and records
+	 * the results in the standings. If the player didn't play their fixture, they
+	 * forfeit it.
+	 *
+	 * @param pool The threads to play the fixtures on, or null to play them on the
+	 *             calling thread
+	 * @return The results of the fixtures between computer controlled teams, in
+	 *         fixture order
+	 */
+	public List<MatchResult> playRound(ForkJoinPool pool) {
+		int round = roundsPlayed;
+		Fixture[] fixtures = scheduler.getFixtures(round);
+		List<Team> homeTeams = new ArrayList<Team>(fixtures.length);
+		List<Team> awayTeams = new ArrayList<Team>(fixtures.length);
+		List<Fixture> played = new ArrayList<Fixture>(fixtures.length);
+		for (Fixture fixture : fixtures) {
+			if (hasPlayerTeam && fixture.involves(PLAYER_TEAM_INDEX)) {
+				if (!playerFixturePlayed)
+					recordForfeit(fixture);
+				continue;
+			}
+			homeTeams.add(teams[fixture.getHomeTeam()]);
+			awayTeams.add(teams[fixture.getAwayTeam()]);
+			played.add(fixture);
+		}
+
+		// Each fixture is decided from its own stream
+		RandomService randomService = gameEnvironment.getRandomService();
+		List<MatchResult> results = MatchEngine.playAll(homeTeams, awayTeams,
+				i -> randomService.getStream(RandomStream.LEAGUE_MATCH, round, played.get(i).getHomeTeam()),
+				gameEnvironment.getMatchMode(), pool);
+		for (int i = 0; i < results.size(); ++i) {
+			MatchResult result = results.get(i);
+			Fixture fixture = played.get(i);
+			standings.record(fixture.getHomeTeam(), fixture.getAwayTeam(), result.getTeam1Score(),
+					result.getTeam2Score(), result.getWinningTeam() == result.getTeam1());
+		}
+
+		++roundsPlayed;
+		playerFixturePlayed = false;
+		return results;
+	}
+
+	/**
+	 * Records the player's fixture as lost without any pairings being played.
+	 *
+	 * @param fixture The player's fixture
+	 */
+	private void recordForfeit(Fixture fixture) {
+		standings.record(fixture.getHomeTeam(), fixture.getAwayTeam(), 0, 0,
+				fixture.getAwayTeam() == PLAYER_TEAM_INDEX);
+	}
+}
@@ -0,0 +1,122 @@
+package game.league;
+
+/**
+ * Schedules a round-robin season, in which every team plays every other team
+ * once per cycle, using the circle method. One team stays in place while the
+ * others rotate around it a step each round, and each team plays the team
+ * opposite it in the circle. With an odd number of teams an empty place is
+ * added, and the team opposite it has the round off.
+ * 
+ * Rounds are worked out when they are asked for rather than stored, so the
+ * schedule of a league of any size costs nothing to keep. Rounds past the end
+ * of a cycle start the next cycle, with home and away swapped every second
+ * cycle.
+ * 
+ * @author Findlay Royds
+ * @version 1.0, May 2023.
+ */
+public class RoundRobinScheduler {
+	/**
+	 * The number of teams in the league
+	 */
+	private final int numberOfTeams;
+
+	/**
+	 * The number of places in the circle, which is the number of teams rounded up
+	 * to an even number
+	 */
+	private final int places;
+
+	/**
+	 * Constructor for RoundRobinScheduler.
+	 * 
+	 * @param numberOfTeams The number of teams in the league
+	 */
+	public RoundRobinScheduler(int numberOfTeams) {
+		this.numberOfTeams = Math.max(0, numberOfTeams);
+		places = this.numberOfTeams + (this.numberOfTeams & 1);
+	}
+
+	/**
+	 * @return The number of teams in the league
+	 */
+	public int getNumberOfTeams() {
+		return numberOfTeams;
+	}
+
+	/**
+	 * @return The number of rounds it takes every team to play every other team
+	 *         once
+	 */
+	public int getRoundsPerCycle() {
+		return Math.max(0, places - 1);
+	}
+
+	/**
+	 * @return The number of fixtures in a round
+	 */
+	public int getFixturesPerRound() {
+		return numberOfTeams / 2;
+	}
+
+	/**
+	 * Works out the fixtures of a round.
+	 * 
+	 * @param round The round, counting from 0
+	 * @return The fixtures of the round, with no team in more than one
+	 */
+	public Fixture[] getFixtures(int round) {
+		int roundsPerCycle = getRoundsPerCycle();
+		if (roundsPerCycle == 0 || round < 0)
+			return new Fixture[0];
+		int rotation = round % roundsPerCycle;
+		boolean swapped = (round / roundsPerCycle) % 2 == 1;
+
+		Fixture[] fixtures = new Fixture[getFixturesPerRound()];
+		int count = 0;
+		// The fixed place, last in the circle, against the place that has rotated
+		// opposite it, alternating home and away so the fixed team doesn't always
+		// play at home
+		count = addFixture(fixtures, count, round, places - 1, rotation, (rotation % 2 == 0) != swapped);
+		for (int step = 1; step < places / 2; ++step) {
+			int first = (rotation + step) % roundsPerCycle;
+			int second = (rotation - step + roundsPerCycle) % roundsPerCycle;
+			count = addFixture(fixtures, count, round, first, second, (step % 2 == 1) != swapped);
+		}
+		return fixtures;
+	}
+
+	/**
+	 * Adds the fixture between two places to a round, unless one of them is the
+	 * empty place.
+	 * 
+	 * @param fixtures  The fixtures of the round
+	 * @param count     The number of fixtures added so far
+	 * @param round     The round
+	 * @param first     One of the places
+	 * @param second    The other place
+	 * @param firstHome Whether the team in the first place plays at home
+	 * @return The number of fixtures added so far, including this one
+	 */
+	private int addFixture(Fixture[] fixtures, int count, int round, int first, int second, boolean firstHome) {
+		if (first >= numberOfTeams || second >= numberOfTeams)
+			return count;
+		fixtures[count] = firstHome ? new Fixture(round, first, second) : new Fixture(round, second, first);
+		return count + 1;
+	}
+
+	/**
+	 * Finds a team's fixture in a round.
+	 * 
+	 * @param round The round, counting from 0
+	 * @param team  The index of the team
+	 * @return The team's fixture, or null if it has the round off
+	 */
+	public Fixture getFixture(int round, int team) {
+		for (Fixture fixture : getFixtures(round)) {
+			if (fixture.involves(team))
+				return fixture;
+		}
+		return null;
+	}
+}
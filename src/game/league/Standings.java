@@ -0,0 +1,217 @@
+package game.league;
+
+import java.util.Arrays;
+
+/**
+ * The standings of a league: each team's record, and the teams ranked by it.
+ * Teams are ranked by wins, then by the difference between the pairings they
+ * won and lost, then by the pairings they won, then by their index in the
+ * league.
+ *
+ * The ranking is kept up to date as results come in. A result only changes the
+ * records of its two teams, so only they can be out of place, and each is moved
+ * past its neighbours until it is back in order. That costs as many steps as
+ * places the team moves, rather than sorting every team again.
+ *
+ * @author Findlay Royds
+ * @version 1.0, May 2023.
+ */
+public class Standings {
+	/**
+	 * The number of matches each team has played, by team index
+	 */
+	private final int[] played;
+
+	/**
+	 * The number of matches each team has won, by team index
+	 */
+	private final int[] won;
+
+	/**
+	 * The number of pairings each team has won, by team index
+	 */
+	private final int[] pairingsFor;
+
+	/**
+	 * The number of pairings each team has lost, by team index
+	 */
+	private final int[] pairingsAgainst;
+
+	/**
+	 * The index of the team in each rank, from first to last
+	 */
+	private final int[] ranking;
+
+	/**
+	 * The rank of each team, by team index, counting from 0
+	 */
+	private final int[] ranks;
+
+	/**
+	 * Constructor for Standings. Every team starts with no matches played,
+	 * ranked in index order.
+	 *
+	 * @param numberOfTeams The number of teams in the league
+	 */
+	public Standings(int numberOfTeams) {
+		played = new int[numberOfTeams];
+		won = new int[numberOfTeams];
+		pairingsFor = new int[numberOfTeams];
+		pairingsAgainst = new int[numberOfTeams];
+		ranking = new int[numberOfTeams];
+		ranks = new int[numberOfTeams];
+		for (int i = 0; i < numberOfTeams; ++i) {
+			ranking[i] = i;
+			ranks[i] = i;
+		}
+	}
+
+	/**
+	 * Records the result of a match and moves its teams to their new ranks.
+	 *
+	 * @param homeTeam  The index of the home team
+	 * @param awayTeam  The index of the away team
+	 * @param homeScore The number of pairings the home team won
+	 * @param awayScore The number of pairings the away team won
+	 * @param homeWon   Whether the home team won the match
+	 */
+	public void record(int homeTeam, int awayTeam, int homeScore, int awayScore, boolean homeWon) {
+		// Each team is moved straight after its record changes, while every other
+		// team is still in order
+		recordTeam(homeTeam, homeScore, awayScore, homeWon);
+		recordTeam(awayTeam, awayScore, homeScore, !homeWon);
+	}
+
+	/**
+	 * Records one team's side of a result and moves it to its new rank.
+	 *
+	 * @param team         The index of the team
+	 * @param pairingsWon  The number of pairings the team won
+	 * @param pairingsLost The number of pairings the team lost
+	 * @param wonMatch     Whether the team won the match
+	 */
+	private void recordTeam(int team, int pairingsWon, int pairingsLost, boolean wonMatch) {
+		++played[team];
+		if (wonMatch)
+			++won[team];
+		pairingsFor[team] += pairingsWon;
+		pairingsAgainst[team] += pairingsLost;
+		reposition(team);
+	}
+
+	/**
+	 * Moves a team whose record changed up or down the ranking until it is in
+	 * order with its neighbours.
+	 *
+	 * @param team The index of the team
+	 */
+	private void reposition(int team) {
+		int rank = ranks[team];
+		while (rank > 0 && compare(team, ranking[rank - 1]) < 0) {
+			place(ranking[rank - 1], rank);
+			--rank;
+		}
+		while (rank + 1 < ranking.length && compare(team, ranking[rank + 1]) > 0) {
+			place(ranking[rank + 1], rank);
+			++rank;
+		}
+		place(team, rank);
+	}
+
+	/**
+	 * @param team The index of a team
+	 * @param rank The rank to put it in
+	 */
+	private void place(int team, int rank) {
+		ranking[rank] = team;
+		ranks[team] = rank;
+	}
+
+	/**
+	 * @param team1 The index of a team
+	 * @param team2 The index of another team
+	 * @return A negative number if team1 ranks above team2, or a positive number
+	 *         if it ranks below
+	 */
+	private int compare(int team1, int team2) {
+		if (won[team1] != won[team2])
+			return Integer.compare(won[team2], won[team1]);
+		int difference1 = pairingsFor[team1] - pairingsAgainst[team1];
+		int difference2 = pairingsFor[team2] - pairingsAgainst[team2];
+		if (difference1 != difference2)
+			return Integer.compare(difference2, difference1);
+		if (pairingsFor[team1] != pairingsFor[team2])
+			return Integer.compare(pairingsFor[team2], pairingsFor[team1]);
+		return Integer.compare(team1, team2);
+	}
+
+	/**
+	 * @return The number of teams in the standings
+	 */
+	public int getNumberOfTeams() {
+		return ranking.length;
+	}
+
+	/**
+	 * @param rank A rank, counting from 0
+	 * @return The index of the team in that rank
+	 */
+	public int getTeamAt(int rank) {
+		return ranking[rank];
+	}
+
+	/**
+	 * @return The team indices from first to last
+	 */
+	public int[] getRanking() {
+		return Arrays.copyOf(ranking, ranking.length);
+	}
+
+	/**
+	 * @param team The index of a team
+	 * @return The team's rank, counting from 0
+	 */
+	public int getRank(int team) {
+		return ranks[team];
+	}
+
+	/**
+	 * @param team The index of a team
+	 * @return The number of matches the team has played
+	 */
+	public int getPlayed(int team) {
+		return played[team];
+	}
+
+	/**
+	 * @param team The index of a team
+	 * @return The number of matches the team has won
+	 */
+	public int getWon(int team) {
+		return won[team];
+	}
+
+	/**
+	 * @param team The index of a team
+	 * @return The number of matches the team has lost
+	 */
+	public int getLost(int team) {
+		return played[team] - won[team];
+	}
+
+	/**
+	 * @param team The index of a team
+	 * @return The number of pairings the team has won
+	 */
+	public int getPairingsFor(int team) {
+		return pairingsFor[team];
+	}
+
+	/**
+	 * @param team The index of a team
+	 * @return The number of pairings the team has lost
+	 */
+	public int getPairingsAgainst(int team) {
+		return pairingsAgainst[team];
+	}
+}
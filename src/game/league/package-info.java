@@ -0,0 +1,8 @@
+/**
+ * A package for the league, where a fixed set of teams play each other in a
+ * round-robin season and are ranked in standings.
+ * 
+ * @author Findlay Royds
+ * @version 1.0, May 2023.
+ */
+package game.league;
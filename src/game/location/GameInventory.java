@@ -50,7 +50,7 @@ public class GameInventory extends GameLocation {
 	public void useItem(Item item) {
 		// Make a list to store all the Athletes in the Player's Team.
 		Team team = getGameEnvironment().getPlayer().getTeam();
-		ArrayList<Athlete> athletesInTeam = new ArrayList<Athlete>(team.getAllAthletes());
+		ArrayList<Athlete> athletesInTeam = new ArrayList<Athlete>(team.getRoster());
 
 		// Ask the Player which Athlete in their team to use the item on.
 		String[] popupOptions = new String[athletesInTeam.size()];
@@ -1,5 +1,7 @@
 package game.location;
 
+import java.util.Random;
+
 import enumeration.Location;
 import game.GameEnvironment;
 
@@ -8,7 +10,7 @@ import game.GameEnvironment;
  * location.
  * 
  * @author Jake van Keulen
- * @version 1.0
+ * @version 1.2
  *
  */
 public abstract class GameLocation {
@@ -17,6 +19,17 @@ public abstract class GameLocation {
 	 */
 	private GameEnvironment gameEnvironment;
 
+	/**
+	 * The current week of the season, or -1 before the first update.
+	 */
+	private int week = -1;
+
+	/**
+	 * The week the location's content was last generated for, or -1 if it hasn't
+	 * been generated.
+	 */
+	private int generatedWeek = -1;
+
 	/**
 	 * Constructor for game location.
 	 * 
@@ -36,12 +49,36 @@ public abstract class GameLocation {
 	}
 
 	/**
-	 * Sets the current week of the season and updates the location's data
-	 * accordingly. This does different things depending on the location.
+	 * Sets the current week of the season. Content that depends on the week isn't
+	 * generated until it is first needed, by ensureGenerated.
 	 * 
 	 * @param week The new week of the season to update to.
 	 */
 	public void update(int week) {
+		this.week = week;
+	}
+
+	/**
+	 * Generates the location's content for the current week, unless it has
+	 * already been generated. Generation draws from a random stream that only
+	 * depends on the game's seed, the week and the location, so the content is
+	 * the same whether or not other locations were generated first.
+	 */
+	public void ensureGenerated() {
+		if (generatedWeek == week)
+			return;
+		generatedWeek = week;
+		Random rng = gameEnvironment.createLocationRng(this, week);
+		gameEnvironment.runWithRng(rng, () -> generate(week));
+	}
+
+	/**
+	 * Generates the location's content for a week. This does different things
+	 * depending on the location.
+	 * 
+	 * @param week The week to generate content for.
+	 */
+	protected void generate(int week) {
 		// Do nothing unless implemented in subclass
 	}
 
@@ -1,5 +1,6 @@
 package game.location;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -14,7 +15,7 @@ import game.Team;
  * reserves or active and which positions they occupy.
  * 
  * @author Jake van Keulen
- * @version 1.0
+ * @version 1.2
  *
  */
 public class GameLocker extends GameLocation {
@@ -62,10 +63,30 @@ public class GameLocker extends GameLocation {
 	/**
 	 * Gets all the Athletes in the Player's Team.
 	 * 
-	 * @return A Set of all Athletes in the Player's Team.
+	 * @return A live, read-only Set of all Athletes in the Player's Team.
 	 */
 	public Set<Athlete> getAllAthletes() {
-		return getGameEnvironment().getPlayer().getTeam().getAllAthletes();
+		return getGameEnvironment().getPlayer().getTeam().getRoster();
+	}
+
+	/**
+	 * Gets the Athletes in the Player's Team who have used steroids, and so would
+	 * be caught by a drug test. The Team keeps track of them, so no Athletes are
+	 * checked.
+	 * 
+	 * @return A List of the Athletes at risk of failing a drug test
+	 */
+	public List<Athlete> getAthletesAtRisk() {
+		return getGameEnvironment().getPlayer().getTeam().getDopedAthletes();
+	}
+
+	/**
+	 * Rearranges the Player's Team into the lineup with the highest total match
+	 * score, skipping injured Athletes where possible. Accesses the Player through
+	 * the GameEnvironment.
+	 */
+	public void chooseBestLineup() {
+		getGameEnvironment().getPlayer().getTeam().chooseBestLineup();
 	}
 
 	/**
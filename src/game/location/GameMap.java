@@ -35,11 +35,9 @@ public class GameMap extends GameLocation {
 		Team playerTeam = getGameEnvironment().getPlayer().getTeam();
 
 		// Reset every active athlete's stamina to full.
-		for (Athlete athlete : playerTeam.getAllAthletes()) {
-			athlete.setStamina(100);
-		}
+		playerTeam.forEachAthlete(athlete -> athlete.setStamina(100));
 
-		List<Athlete> playerAthletes = new ArrayList<>(playerTeam.getAllAthletes());
+		List<Athlete> playerAthletes = new ArrayList<>(playerTeam.getRoster());
 
 		// Allow user to train a selected athlete
 		if (playerAthletes.size() > 0) {
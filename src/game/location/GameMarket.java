@@ -1,6 +1,7 @@
 package game.location;
 
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -15,7 +16,7 @@ import util.MiscUtil;
  * randomly generated each week.
  * 
  * @author Jake van Keulen
- * @version 1.0
+ * @version 1.3
  */
 public class GameMarket extends GameLocation {
 	/**
@@ -29,6 +30,22 @@ public class GameMarket extends GameLocation {
 	 */
 	private Set<Purchasable> availablePurchasables;
 
+	/**
+	 * Read-only view of availablePurchasables.
+	 */
+	private Set<Purchasable> availablePurchasablesView;
+
+	/**
+	 * Counts the changes to availablePurchasables, so the optimiser knows when
+	 * its answers are out of date.
+	 */
+	private int version;
+
+	/**
+	 * Answers questions about the best ways to buy from the Market.
+	 */
+	private final MarketOptimiser optimiser = new MarketOptimiser(this);
+
 	/**
 	 * The number of Purchasables that should be available for the Player to be able
 	 * to purchase from the Market each week.
@@ -93,27 +110,56 @@ public class GameMarket extends GameLocation {
 		this.generatePurchasable = generatePurchasable;
 		this.getOwned = getOwned;
 		this.allowIllegalPurchasables = allowIllegalPurchasables;
-		this.availablePurchasables = new HashSet<Purchasable>();
+		this.availablePurchasables = new LinkedHashSet<Purchasable>();
+		this.availablePurchasablesView = Collections.unmodifiableSet(availablePurchasables);
 		this.amountToDisplay = amountToDisplay;
 	}
 
 	/**
-	 * Update the week to a given week. This involves randomly generating a new set
-	 * of purchasables to be available to buy.
+	 * Randomly generates a new set of purchasables to be available to buy in a
+	 * given week. Called the first time the market is used each week.
 	 * 
 	 * @param week The number of the current week in the season. Starts from 1.
 	 */
 	@Override
-	public void update(int week) {
-		float seasonProgression = getGameEnvironment().getWeek() / (float) getGameEnvironment().getSeasonLength();
+	protected void generate(int week) {
+		float seasonProgression = week / (float) getGameEnvironment().getSeasonLength();
 		int startQuality = (4 - getGameEnvironment().getDifficulty()) * 10;
 		int endQuality = 100;
 		int qualityLevel = MiscUtil.integerLerp(startQuality, endQuality, seasonProgression);
 
 		availablePurchasables.clear();
-		for (int i = 0; i < amountToDisplay; ++i) {
+		for (int i = 0; i < amountToDisplay; ++i)
 			availablePurchasables.add(generatePurchasable.apply(qualityLevel, getGameEnvironment()));
-		}
+		++version;
+	}
+
+	/**
+	 * Checks whether the player could afford to buy a number of the available
+	 * Purchasables, by adding up the prices of the cheapest ones.
+	 * 
+	 * @param count The number of Purchasables to buy
+	 * @param money The amount of money the player has to spend
+	 * @return Whether there are at least count Purchasables available and the
+	 *         cheapest count of them cost at most money in total
+	 */
+	public boolean canAffordCheapest(int count, int money) {
+		return optimiser.canAffordCheapest(count, money);
+	}
+
+	/**
+	 * @return The optimiser that answers questions about the best ways to buy
+	 *         from the Market
+	 */
+	public MarketOptimiser getOptimiser() {
+		return optimiser;
+	}
+
+	/**
+	 * @return The number of changes to the available Purchasables so far
+	 */
+	int getVersion() {
+		return version;
 	}
 
 	/**
@@ -125,8 +171,9 @@ public class GameMarket extends GameLocation {
 	 * @param purchasable The purchasable to be purchased.
 	 */
 	public void purchase(Purchasable purchasable) {
-		if (purchasable.purchase(getGameEnvironment().getPlayer()))
-			availablePurchasables.remove(purchasable);
+		ensureGenerated();
+		if (purchasable.purchase(getGameEnvironment().getPlayer()) && availablePurchasables.remove(purchasable))
+			++version;
 	}
 
 	/**
@@ -138,15 +185,19 @@ public class GameMarket extends GameLocation {
 	 * @param purchasable The purchasable to be sold.
 	 */
 	public void sell(Purchasable purchasable) {
+		ensureGenerated();
 		if (purchasable.getIsLegal() || allowIllegalPurchasables)
 			purchasable.sell(getGameEnvironment().getPlayer());
-		availablePurchasables.add(purchasable);
+		if (availablePurchasables.add(purchasable))
+			++version;
 	}
 
 	/**
-	 * @return The set of Purchasables available for purchase in the Market.
+	 * @return A read-only set of the Purchasables available for purchase in the
+	 *         Market.
 	 */
 	public Set<Purchasable> getAvailablePurchasables() {
-		return availablePurchasables;
+		ensureGenerated();
+		return availablePurchasablesView;
 	}
 }
\ No newline at end of file
@@ -1,9 +1,13 @@
 package game.location;
 
+import enumeration.MatchEventType;
+import enumeration.MatchMode;
+import enumeration.Position;
 import game.Athlete;
 import game.GameEnvironment;
 import game.Player;
 import game.Team;
+import game.league.League;
 
 /**
  * A class defining the Match location, where matches take place between 2
@@ -11,8 +15,21 @@ import game.Team;
  * then deciding who wins each individual pairing. The team that wins the most
  * pairings wins the match overall
  * 
+ * The rules of the match are those of MatchEngine. This location adds the
+ * player's side of a match: the teams and scores shown while it is played, the
+ * stamina the player's athletes use up, and the rewards given at the end.
+ * 
+ * In possession mode the pairings can't be decided one at a time, so the whole
+ * match is played the first time a pairing is asked for, and each pairing is
+ * then read from the result.
+ * 
+ * As it is played, the match publishes a MatchEvent for each step of each
+ * pairing and for its end, for the user interfaces and anything else that
+ * follows the match to subscribe to. Events are only created while something
+ * is subscribed.
+ * 
  * @author Jake van Keulen, Findlay Royds
- * @version 1.3
+ * @version 1.8
  */
 public class GameMatch extends GameLocation {
 	/**
@@ -35,6 +52,17 @@ public class GameMatch extends GameLocation {
 	 */
 	private int team2Score;
 
+	/**
+	 * The outcome of the match when it is played in possession mode, or null
+	 * until the first pairing is asked for.
+	 */
+	private MatchResult possessionResult;
+
+	/**
+	 * Publishes the events of the match as it is played.
+	 */
+	private final MatchEventPublisher events = new MatchEventPublisher();
+
 	/**
 	 * Constructor for GameMatch.
 	 * 
@@ -57,6 +85,14 @@ public class GameMatch extends GameLocation {
 		this.team2 = team2;
 		team1Score = 0;
 		team2Score = 0;
+		possessionResult = null;
+	}
+
+	/**
+	 * @return The publisher of the events of every match played here.
+	 */
+	public MatchEventPublisher getEvents() {
+		return events;
 	}
 
 	/**
@@ -89,45 +125,150 @@ public class GameMatch extends GameLocation {
 
 	/**
 	 * Pair off two given Athletes in the Match and decide who wins. This is decided
-	 * based on individual scores calculated from their statistics and positions.
-	 * Deciding these scores is implemented in Athlete.getMatchScore()
+	 * by MatchEngine, based on individual scores calculated from their statistics
+	 * and positions. Deciding these scores is implemented in
+	 * Athlete.getMatchScore(). In possession mode, a pairing of the teams'
+	 * athletes in the same position is taken from the match played by
+	 * PossessionEngine instead.
 	 * 
 	 * @param athlete1 The first Athlete in the pairing.
 	 * @param athlete2 The second Athlete in the pairing.
 	 * @return The Athlete who won the pairing.
 	 */
 	public Athlete getWinningAthlete(Athlete athlete1, Athlete athlete2) {
-		// Get the score for each athlete.
-		int athlete1Score = athlete1.getMatchScore(athlete1.getRole());
-		int athlete2Score = athlete2.getMatchScore(athlete2.getRole());
-
-		// Pick the winner based on who has the higher score.
-		Athlete winner = null;
-		if (athlete1Score > athlete2Score)
-			winner = athlete1;
-		else if (athlete1Score < athlete2Score)
-			winner = athlete2;
-		else // If the scores are equal, pick an athlete at random.
-			winner = getGameEnvironment().getRng().nextBoolean() ? athlete1 : athlete2;
-
-		// Detect if athletes are injured
-		if (athlete1.isInjured() && !athlete2.isInjured())
-			winner = athlete2;
-		else if (athlete2.isInjured() && !athlete1.isInjured())
-			winner = athlete1;
+		Position position = getPossessionPosition(athlete1, athlete2);
+		Position eventPosition = events.hasSubscribers() ? getPairingPosition(athlete1, athlete2) : null;
+		publish(MatchEventType.PAIRING_STARTED, eventPosition, athlete1, athlete2, null);
+
+		Athlete winner = position != null ? possessionResult.getWinner(position)
+				: MatchEngine.decidePairing(athlete1, athlete2, getGameEnvironment().getRng());
 
 		// Increase score of winning team
 		if (winner.getTeam() == team1)
 			team1Score += 1;
 		else
 			team2Score += 1;
+		publish(MatchEventType.WINNER_DECIDED, eventPosition, athlete1, athlete2, winner);
 
 		// remove stamina from player's athlete
-		athlete1.loseStamina(athlete1 != winner);
+		if (position != null)
+			athlete1.setStamina(athlete1.getStamina() - possessionResult.getTeam1StaminaLost(position));
+		else
+			athlete1.loseStamina(athlete1 != winner);
+		publish(MatchEventType.STAMINA_CHANGED, eventPosition, athlete1, athlete2, winner);
 
 		return winner;
 	}
 
+	/**
+	 * Publishes an event of the match with the current scores, if anything is
+	 * subscribed.
+	 * 
+	 * @param type     What kind of event it is.
+	 * @param position The position of the pairing, or null.
+	 * @param athlete1 The first Athlete in the pairing, or null.
+	 * @param athlete2 The second Athlete in the pairing, or null.
+	 * @param winner   The winner of the pairing, or null.
+	 */
+	private void publish(MatchEventType type, Position position, Athlete athlete1, Athlete athlete2,
+			Athlete winner) {
+		if (events.hasSubscribers())
+			events.publish(new MatchEvent(type, position, athlete1, athlete2, winner, team1Score, team2Score));
+	}
+
+	/**
+	 * @param athlete1 The first Athlete in a pairing.
+	 * @param athlete2 The second Athlete in a pairing.
+	 * @return The position the first team plays the first athlete in, or
+	 *         otherwise the position the second team plays the second athlete
+	 *         in, or null if neither is in their team's lineup.
+	 */
+	private Position getPairingPosition(Athlete athlete1, Athlete athlete2) {
+		for (Position position : Position.values()) {
+			if (team1.getActiveAthletes().get(position) == athlete1)
+				return position;
+		}
+		for (Position position : Position.values()) {
+			if (team2.getActiveAthletes().get(position) == athlete2)
+				return position;
+		}
+		return null;
+	}
+
+	/**
+	 * Finds the position two athletes played against each other in, when the
+	 * match is played in possession mode. The match is played the first time
+	 * this is called.
+	 * 
+	 * @param athlete1 The first Athlete in the pairing.
+	 * @param athlete2 The second Athlete in the pairing.
+	 * @return The position of the pairing, or null if the match isn't played in
+	 *         possession mode or the athletes weren't paired in it.
+	 */
+	private Position getPossessionPosition(Athlete athlete1, Athlete athlete2) {
+		if (getGameEnvironment().getMatchMode() != MatchMode.POSSESSIONS || athlete1 == null || athlete2 == null)
+			return null;
+		if (possessionResult == null)
+			possessionResult = MatchEngine.play(team1, team2, getGameEnvironment().getRng(), MatchMode.POSSESSIONS);
+		for (Position position : Position.values()) {
+			if (possessionResult.getTeam1Athlete(position) == athlete1
+					&& possessionResult.getTeam2Athlete(position) == athlete2)
+				return position;
+		}
+		return null;
+	}
+
+	/**
+	 * Plays every pairing of the Match at once, for when they don't need to be
+	 * shown one at a time. Gives the same results as calling getWinningAthlete
+	 * for each position in order, and is played in the game's match mode.
+	 * 
+	 * @return The outcome of the Match.
+	 */
+	public MatchResult play() {
+		MatchResult result = MatchEngine.play(team1, team2, getGameEnvironment().getRng(),
+				getGameEnvironment().getMatchMode());
+		team1Score += result.getTeam1Score();
+		team2Score += result.getTeam2Score();
+
+		// remove stamina from player's athletes
+		result.applyStaminaLoss(team1);
+
+		if (events.hasSubscribers())
+			publishResult(result);
+		return result;
+	}
+
+	/**
+	 * Publishes the events of every pairing of a match that was played at once,
+	 * with the scores counting up as they would have been had the pairings been
+	 * played one at a time.
+	 * 
+	 * @param result The outcome of the match.
+	 */
+	private void publishResult(MatchResult result) {
+		int score1 = team1Score - result.getTeam1Score();
+		int score2 = team2Score - result.getTeam2Score();
+		for (Position position : Position.values()) {
+			Athlete athlete1 = result.getTeam1Athlete(position);
+			Athlete athlete2 = result.getTeam2Athlete(position);
+			Athlete winner = result.getWinner(position);
+			events.publish(new MatchEvent(MatchEventType.PAIRING_STARTED, position, athlete1, athlete2, null,
+					score1, score2));
+			if (winner == null)
+				continue;
+			if (winner == athlete1)
+				++score1;
+			else
+				++score2;
+			events.publish(new MatchEvent(MatchEventType.WINNER_DECIDED, position, athlete1, athlete2, winner,
+					score1, score2));
+			if (athlete1 != null)
+				events.publish(new MatchEvent(MatchEventType.STAMINA_CHANGED, position, athlete1, athlete2, winner,
+						score1, score2));
+		}
+	}
+
 	/**
 	 * Decides which Team wins the Match overall, based on who won the most
 	 * individual pairings. These results are accessed from the individualWinners
@@ -144,10 +285,15 @@ public class GameMatch extends GameLocation {
 
 	/**
 	 * If the player's team won reward the player appropriately. The reward given is
-	 * based on the difficulty of the game.
+	 * based on the difficulty of the game. In a league, the match is recorded in
+	 * the standings if it was the player's fixture. The end of the match is
+	 * published before the result is shown.
 	 */
 	public void finish() {
+		publish(MatchEventType.MATCH_FINISHED, null, null, null, null);
+
 		Player player = getGameEnvironment().getPlayer();
+		boolean playerWon = false;
 		if (getWinningTeam() == player.getTeam()) {
 			// Check if all of the player's athletes were injured
 			boolean allAthletesInjured = true;
@@ -160,6 +306,7 @@ public class GameMatch extends GameLocation {
 				getGameEnvironment().getUIEnvironment()
 						.displayPopup("All of your athletes were injured! You have lost the match by default.");
 			} else {
+				playerWon = true;
 				int inverseDifficulty = (4 - getGameEnvironment().getDifficulty());
 				int rewardMoney = 100 * inverseDifficulty * team1Score;
 				int rewardPoints = 20 * getGameEnvironment().getDifficulty() * team1Score;
@@ -174,6 +321,11 @@ public class GameMatch extends GameLocation {
 			getGameEnvironment().getUIEnvironment()
 					.displayPopup("You lost the match " + team1Score + " - " + team2Score + ".");
 		}
+
+		// Count the match in the league, if it was the player's fixture
+		League league = getGameEnvironment().getLeague();
+		if (league != null)
+			league.recordPlayerMatch(team2, team1Score, team2Score, playerWon);
 		getGameEnvironment().progressWeek();
 	}
 }
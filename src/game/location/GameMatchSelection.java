@@ -1,13 +1,18 @@
 package game.location;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
 
 import enumeration.Location;
 import enumeration.Position;
+import enumeration.RandomStream;
 import game.Athlete;
 import game.GameEnvironment;
 import game.Team;
+import game.league.League;
 import util.MiscUtil;
 
 /**
@@ -16,7 +21,7 @@ import util.MiscUtil;
  * play against. This list is refreshed each week to have a new set of Teams.
  * 
  * @author Jake van Keulen
- * @version 1.0
+ * @version 1.4
  */
 public class GameMatchSelection extends GameLocation {
 	/**
@@ -24,6 +29,17 @@ public class GameMatchSelection extends GameLocation {
 	 */
 	private static final int NUMBER_OF_TEAMS = 3;
 
+	/**
+	 * The lowest stamina an opposition team's active athletes can start with.
+	 */
+	public static final int MINIMUM_OPPONENT_STAMINA = 40;
+
+	/**
+	 * Adjustments applied to each generated opposition team, in the order they
+	 * were added, before the team is listed.
+	 */
+	private List<Consumer<Team>> opponentAdjustments = new ArrayList<Consumer<Team>>();
+
 	/**
 	 * The list of Teams that are available to play a match against.
 	 */
@@ -37,39 +53,114 @@ public class GameMatchSelection extends GameLocation {
 	 */
 	public GameMatchSelection(GameEnvironment gameEnvironment) {
 		super(gameEnvironment);
+		addOpponentAdjustment(GameMatchSelection::applyStaminaFloor);
+	}
+
+	/**
+	 * Adds an adjustment to apply to every opposition team after it is generated,
+	 * for example to balance matches. Takes effect from the next time teams are
+	 * generated.
+	 * 
+	 * @param adjustment A function that modifies a generated team.
+	 */
+	public void addOpponentAdjustment(Consumer<Team> adjustment) {
+		opponentAdjustments.add(adjustment);
+	}
+
+	/**
+	 * Increases the stamina of a team's active athletes to at least
+	 * MINIMUM_OPPONENT_STAMINA, so that early opposition teams can play a full
+	 * match.
+	 * 
+	 * @param team The team to adjust.
+	 */
+	private static void applyStaminaFloor(Team team) {
+		for (Athlete athlete : team.getActiveAthletes().values())
+			athlete.setStamina(Math.max(MINIMUM_OPPONENT_STAMINA, athlete.getStamina()));
+	}
+
+	/**
+	 * Works out the quality level of opposition teams, which rises through the
+	 * season and with the difficulty.
+	 * 
+	 * @param difficulty        The difficulty of the game, in range: [1, 3]
+	 * @param seasonProgression How far through the season the team is played,
+	 *                          in range: [0.0, 1.0]
+	 * @return The quality level of the team's athletes.
+	 */
+	public static int getOpponentQuality(int difficulty, float seasonProgression) {
+		int startQuality = difficulty * 10 + 10;
+		int endQuality = difficulty * 15 + 55;
+		return MiscUtil.integerLerp(startQuality, endQuality, seasonProgression);
+	}
+
+	/**
+	 * Applies the opponent adjustments to a team, in the order they were added.
+	 * 
+	 * @param team The opposition team to adjust.
+	 */
+	public void applyOpponentAdjustments(Team team) {
+		for (Consumer<Team> adjustment : opponentAdjustments)
+			adjustment.accept(team);
 	}
 
 	/**
-	 * Update the week to a given week. This involves refreshing the opposition
-	 * teams so that they are different each week.
+	 * Generates the opposition teams for a given week, so that they are different
+	 * each week. Called the first time the teams are needed each week.
 	 * 
 	 * @param week The current week at the time of update.
 	 */
 	@Override
-	public void update(int week) {
-		float seasonProgression = getGameEnvironment().getWeek() / (float) getGameEnvironment().getSeasonLength();
-		int startQuality = getGameEnvironment().getDifficulty() * 10 + 10;
-		int endQuality = getGameEnvironment().getDifficulty() * 15 + 55;
-		int qualityLevel = MiscUtil.integerLerp(startQuality, endQuality, seasonProgression);
+	protected void generate(int week) {
+		float seasonProgression = week / (float) getGameEnvironment().getSeasonLength();
+		int qualityLevel = getOpponentQuality(getGameEnvironment().getDifficulty(), seasonProgression);
 
 		teams = new ArrayList<Team>();
 		for (int i = 0; i < NUMBER_OF_TEAMS; ++i) {
-			Team generatedTeam = Team.generateTeam(qualityLevel, getGameEnvironment());
-			teams.add(Team.generateTeam(qualityLevel, getGameEnvironment()));
-
-			// Increase active athlete's stamina to balance matches
-			for (Athlete athlete : generatedTeam.getActiveAthletes().values())
-				athlete.setStamina(Math.max(40, athlete.getStamina()));
+			// Each opponent is generated from its own stream
+			Random rng = getGameEnvironment().getRandomService().getStream(RandomStream.OPPONENT_TEAM, week, i);
+			Team generatedTeam = getGameEnvironment().generateWithRng(rng,
+					() -> Team.generateTeam(qualityLevel, getGameEnvironment()));
+			applyOpponentAdjustments(generatedTeam);
+			teams.add(generatedTeam);
 		}
 	}
 
 	/**
-	 * @return The teams that are available to play against.
+	 * @return The teams that are available to play against. In a league, this is
+	 *         the player's opponent in the week's fixture, unless the player has
+	 *         the week off.
 	 */
 	public ArrayList<Team> getTeams() {
+		League league = getGameEnvironment().getLeague();
+		if (league != null) {
+			Team opponent = league.getCurrentPlayerOpponent();
+			if (opponent != null)
+				return new ArrayList<Team>(List.of(opponent));
+		}
+		ensureGenerated();
 		return teams;
 	}
 
+	/**
+	 * Previews a match against an opposition team without playing it.
+	 * 
+	 * @param opposingTeam The team the Player would play against.
+	 * @return The probability the Player's team would win the match.
+	 */
+	public double getWinProbability(Team opposingTeam) {
+		Team playerTeam = getGameEnvironment().getPlayer().getTeam();
+		return MatchEvaluator.getWinProbability(playerTeam, opposingTeam);
+	}
+
+	/**
+	 * @return The league the player's team plays in, or null if it doesn't play
+	 *         in one.
+	 */
+	public League getLeague() {
+		return getGameEnvironment().getLeague();
+	}
+
 	/**
 	 * Starts a match between the Player's team and the given opposingTeam. Sets up
 	 * the match by updating the Match location with the corresponding teams, then
@@ -1,9 +1,10 @@
 package game.location;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
+import enumeration.MatchMode;
 import enumeration.Position;
 import game.Athlete;
 import game.GameEnvironment;
@@ -13,7 +14,7 @@ import game.GameEnvironment;
  * the game to set up the game using user input.
  * 
  * @author Jake van Keulen
- * @version 1.0
+ * @version 1.2
  */
 public class GameStart extends GameLocation {
 	/**
@@ -33,7 +34,7 @@ public class GameStart extends GameLocation {
 		if (startingAthletes != null)
 			return startingAthletes;
 
-		startingAthletes = new HashSet<Athlete>();
+		startingAthletes = new LinkedHashSet<Athlete>();
 		int qualityLevel = (5 - getGameEnvironment().getDifficulty()) * 10;
 		for (int i = 0; i < 10; ++i) {
 			Athlete athlete = (Athlete) Athlete.generateAthlete.apply(qualityLevel, getGameEnvironment());
@@ -115,6 +116,27 @@ public class GameStart extends GameLocation {
 		getGameEnvironment().getPlayer().giveMoney((4 - difficulty) * 500); // In range: [500, 1500]
 	}
 
+	/**
+	 * Set how the game's matches are played.
+	 * 
+	 * @param matchMode The match mode.
+	 */
+	public void setMatchMode(MatchMode matchMode) {
+		getGameEnvironment().setMatchMode(matchMode);
+	}
+
+	/**
+	 * Makes the player's team play in a league for the season, instead of playing
+	 * different opposition teams each week. Must be called after the seed and
+	 * difficulty are set.
+	 * 
+	 * @param numberOfTeams The number of teams in the league, including the
+	 *                      player's.
+	 */
+	public void startLeague(int numberOfTeams) {
+		getGameEnvironment().startLeague(numberOfTeams);
+	}
+
 	/**
 	 * Instructs the game environment to increment the current week and update all
 	 * its game locations.
@@ -0,0 +1,270 @@
+package game.location;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+import game.Athlete;
+import game.Purchasable;
+import game.Team;
+
+/**
+ * Answers questions about the best ways to buy from a market, such as the
+ * cheapest way to fill a number of slots, or the most valuable purchasables a
+ * budget can buy. The answers are kept until the market's stock changes, which
+ * is when a new week's stock is generated or a purchasable is bought or sold,
+ * so asking again on every refresh costs nothing.
+ *
+ * @author Findlay Royds
+ * @version 1.0, May 2023.
+ */
+public class MarketOptimiser {
+	/**
+	 * Orders purchasables from cheapest to most expensive.
+	 */
+	private static final Comparator<Purchasable> BY_PRICE = Comparator.comparingInt(Purchasable::getPrice);
+
+	/**
+	 * Values athletes by their match score when playing in their role.
+	 */
+	private static final ToIntFunction<Purchasable> ATHLETE_VALUE = purchasable -> ((Athlete) purchasable)
+			.getRoleMatchScore();
+
+	/**
+	 * The market the optimiser answers questions about.
+	 */
+	private final GameMarket market;
+
+	/**
+	 * The version of the market's stock the cached answers are for, or -1 if
+	 * nothing is cached.
+	 */
+	private int cachedVersion = -1;
+
+	/**
+	 * The available purchasables, from cheapest to most expensive. Purchasables
+	 * with the same price are in the order the market lists them.
+	 */
+	private Purchasable[] byPrice = new Purchasable[0];
+
+	/**
+	 * The total price of the cheapest purchasables, indexed by the number of
+	 * purchasables.
+	 */
+	private long[] cumulativePrices = { 0 };
+
+	/**
+	 * The number of slots the cached best purchases were found for.
+	 */
+	private int bestSlots;
+
+	/**
+	 * The budget the cached best purchases were found for.
+	 */
+	private int bestBudget;
+
+	/**
+	 * The function the cached best purchases were valued with, or null if they
+	 * aren't cached.
+	 */
+	private ToIntFunction<Purchasable> bestValue;
+
+	/**
+	 * The cached best purchases.
+	 */
+	private List<Purchasable> bestPurchases;
+
+	/**
+	 * Constructor for MarketOptimiser.
+	 *
+	 * @param market The market the optimiser answers questions about
+	 */
+	MarketOptimiser(GameMarket market) {
+		this.market = market;
+	}
+
+	/**
+	 * Sorts the market's stock again if it has changed since the cached answers
+	 * were found, and forgets those answers.
+	 */
+	private void ensureCurrent() {
+		// Reading the stock generates it if needed, which changes the version
+		Set<Purchasable> available = market.getAvailablePurchasables();
+		if (market.getVersion() == cachedVersion)
+			return;
+
+		byPrice = available.toArray(new Purchasable[0]);
+		Arrays.sort(byPrice, BY_PRICE);
+		cumulativePrices = new long[byPrice.length + 1];
+		for (int i = 0; i < byPrice.length; ++i)
+			cumulativePrices[i + 1] = cumulativePrices[i] + byPrice[i].getPrice();
+		bestValue = null;
+		bestPurchases = null;
+		cachedVersion = market.getVersion();
+	}
+
+	/**
+	 * Finds the total price of the cheapest way to buy a number of purchasables.
+	 * Buying the cheapest ones is always the cheapest way.
+	 *
+	 * @param count The number of purchasables to buy
+	 * @return The total price of the cheapest count purchasables, or -1 if fewer
+	 *         than count are available
+	 */
+	public long getCheapestCost(int count) {
+		ensureCurrent();
+		if (count > byPrice.length)
+			return -1;
+		return cumulativePrices[Math.max(0, count)];
+	}
+
+	/**
+	 * @param count The number of purchasables to buy
+	 * @return A read-only list of the cheapest count purchasables, or all of them
+	 *         if fewer than count are available
+	 */
+	public List<Purchasable> getCheapest(int count) {
+		ensureCurrent();
+		count = Math.max(0, Math.min(count, byPrice.length));
+		return Collections.unmodifiableList(Arrays.asList(byPrice).subList(0, count));
+	}
+
+	/**
+	 * Checks whether a number of purchasables could be bought with an amount of
+	 * money.
+	 *
+	 * @param count The number of purchasables to buy
+	 * @param money The amount of money to spend
+	 * @return Whether there are at least count purchasables available and the
+	 *         cheapest count of them cost at most money in total
+	 */
+	public boolean canAffordCheapest(int count, int money) {
+		long cost = getCheapestCost(count);
+		return cost != -1 && cost <= money;
+	}
+
+	/**
+	 * @param money The amount of money to spend
+	 * @return The largest number of purchasables the money could buy
+	 */
+	public int getMaxAffordable(int money) {
+		ensureCurrent();
+		// The number of cumulative prices at most money, less the empty purchase
+		int index = Arrays.binarySearch(cumulativePrices, money);
+		if (index < 0)
+			return Math.max(0, -index - 2);
+		// Purchasables priced at zero give equal totals, so find the last of them
+		while (index + 1 < cumulativePrices.length && cumulativePrices[index + 1] == money)
+			++index;
+		return index;
+	}
+
+	/**
+	 * Finds the purchasables with the highest total value that fit in a number
+	 * of slots and a budget. Solved exactly as a knapsack problem over the money
+	 * spent and the slots filled. Purchasables with no value are never chosen.
+	 *
+	 * The answer is cached, so callers should pass the same value function each
+	 * time rather than a new lambda.
+	 *
+	 * @param slots  The largest number of purchasables to buy
+	 * @param budget The amount of money to spend
+	 * @param value  The value of each purchasable
+	 * @return A read-only list of the chosen purchasables, from cheapest to most
+	 *         expensive
+	 */
+	public List<Purchasable> getBestWithinBudget(int slots, int budget, ToIntFunction<Purchasable> value) {
+		ensureCurrent();
+		slots = Math.max(0, Math.min(slots, byPrice.length));
+		budget = (int) Math.max(0, Math.min(budget, cumulativePrices[byPrice.length]));
+		if (value == bestValue && slots == bestSlots && budget == bestBudget)
+			return bestPurchases;
+
+		// Every price is a multiple of their greatest common divisor, so the money
+		// can be counted in units of it
+		int unit = 0;
+		for (Purchasable purchasable : byPrice)
+			unit = gcd(unit, purchasable.getPrice());
+		int capacity = unit == 0 ? 0 : budget / unit;
+
+		// best[k][c] is the highest value of at most k purchasables costing at most
+		// c units, and taken[i][k][c] whether that includes purchasable i
+		long[][] best = new long[slots + 1][capacity + 1];
+		boolean[][][] taken = new boolean[byPrice.length][slots + 1][capacity + 1];
+		for (int i = 0; i < byPrice.length; ++i) {
+			int cost = unit == 0 ? 0 : byPrice[i].getPrice() / unit;
+			int itemValue = value.applyAsInt(byPrice[i]);
+			if (itemValue <= 0 || cost > capacity)
+				continue;
+			// Downwards, so each purchasable is only bought once
+			for (int k = slots; k >= 1; --k) {
+				for (int c = capacity; c >= cost; --c) {
+					long candidate = best[k - 1][c - cost] + itemValue;
+					if (candidate > best[k][c]) {
+						best[k][c] = candidate;
+						taken[i][k][c] = true;
+					}
+				}
+			}
+		}
+
+		List<Purchasable> chosen = new ArrayList<Purchasable>();
+		int k = slots, c = capacity;
+		for (int i = byPrice.length - 1; i >= 0 && k > 0; --i) {
+			if (taken[i][k][c]) {
+				chosen.add(byPrice[i]);
+				--k;
+				c -= unit == 0 ? 0 : byPrice[i].getPrice() / unit;
+			}
+		}
+		Collections.reverse(chosen);
+
+		bestSlots = slots;
+		bestBudget = budget;
+		bestValue = value;
+		bestPurchases = Collections.unmodifiableList(chosen);
+		return bestPurchases;
+	}
+
+	/**
+	 * Recommends what the player should buy with their money. From a market of
+	 * athletes, the athletes with the highest total match score in their roles
+	 * that fit in the player's team. From other markets, the largest number of
+	 * purchasables the player can afford.
+	 *
+	 * @return A read-only list of the recommended purchasables, from cheapest to
+	 *         most expensive
+	 */
+	public List<Purchasable> getRecommendedPurchases() {
+		ensureCurrent();
+		int money = market.getPlayerMoney();
+		boolean allAthletes = byPrice.length > 0;
+		for (Purchasable purchasable : byPrice)
+			allAthletes &= purchasable instanceof Athlete;
+
+		if (allAthletes) {
+			Team team = market.getGameEnvironment().getPlayer().getTeam();
+			int freeSlots = team.getUnfilledTeamPositions().size() + team.getNumberOfFreeReserveSlots();
+			return getBestWithinBudget(freeSlots, money, ATHLETE_VALUE);
+		}
+		return getCheapest(getMaxAffordable(money));
+	}
+
+	/**
+	 * @param a A non-negative integer
+	 * @param b A non-negative integer
+	 * @return The greatest common divisor of a and b, which is 0 if both are 0
+	 */
+	private static int gcd(int a, int b) {
+		while (b != 0) {
+			int remainder = a % b;
+			a = b;
+			b = remainder;
+		}
+		return a;
+	}
+}
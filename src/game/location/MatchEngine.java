@@ -0,0 +1,198 @@
+package game.location;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntFunction;
+
+import enumeration.MatchMode;
+import enumeration.PairingOutcome;
+import enumeration.Position;
+import game.Athlete;
+import game.Team;
+
+/**
+ * Plays matches between any two teams. The engine keeps no state and never
+ * changes the teams, the athletes or the game environment: every random number
+ * comes from the Random object passed in, and the outcome, including the
+ * stamina every athlete would use up, is returned as a MatchResult for the
+ * caller to apply. Matches can therefore be played on many threads at once, as
+ * long as no team plays in two of them at the same time.
+ *
+ * GameMatch plays the player's matches through the engine, so the rules are the
+ * same for every match in the game. The engine can play matches in either
+ * MatchMode; in POSSESSIONS mode each thread plays through its own
+ * PossessionEngine.
+ *
+ * @author Findlay Royds
+ * @version 1.3, May 2023.
+ */
+public class MatchEngine {
+	/**
+	 * Every position, in ordinal order.
+	 */
+	private final static Position[] POSITIONS = Position.values();
+
+	/**
+	 * The possession engine of each thread, kept so that its arrays are reused.
+	 */
+	private final static ThreadLocal<PossessionEngine> POSSESSION_ENGINES = ThreadLocal
+			.withInitial(PossessionEngine::new);
+
+	/**
+	 * Utility class, not to be constructed.
+	 */
+	private MatchEngine() {
+	}
+
+	/**
+	 * Decides who wins a pairing. The rules are those of
+	 * MatchEvaluator.evaluatePairing, with a coin flip deciding ties. A coin is
+	 * flipped whenever both athletes have the same score, before injuries are
+	 * looked at, so the same numbers are drawn from rng as they always have been
+	 * and seeded games play out the same. The flip is ignored when exactly one
+	 * athlete is injured.
+	 *
+	 * @param athlete1 The first team's athlete, or null if it has none
+	 * @param athlete2 The second team's athlete, or null if it has none
+	 * @param rng      The Random object ties are decided with
+	 * @return The athlete who won the pairing, or null if neither team had one
+	 */
+	public static Athlete decidePairing(Athlete athlete1, Athlete athlete2, Random rng) {
+		PairingOutcome outcome = MatchEvaluator.evaluatePairing(athlete1, athlete2);
+		if (outcome != PairingOutcome.TIE && athlete1 != null && athlete2 != null
+				&& athlete1.isInjured() != athlete2.isInjured()
+				&& athlete1.getRoleMatchScore() == athlete2.getRoleMatchScore())
+			rng.nextBoolean();
+		switch (outcome) {
+		case TEAM1_WINS:
+			return athlete1;
+		case TEAM2_WINS:
+			return athlete2;
+		case TIE:
+			return rng.nextBoolean() ? athlete1 : athlete2;
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Plays a match between two teams, pairing off their active athletes in each
+	 * position in ordinal order. Every athlete that plays loses stamina, more if
+	 * they lost their pairing.
+	 *
+	 * @param team1 The first team
+	 * @param team2 The second team
+	 * @param rng   The Random object ties are decided with
+	 * @return The outcome of the match
+	 */
+	public static MatchResult play(Team team1, Team team2, Random rng) {
+		Map<Position, Athlete> active1 = team1.getActiveAthletes();
+		Map<Position, Athlete> active2 = team2.getActiveAthletes();
+		Athlete[] athletes1 = new Athlete[POSITIONS.length];
+		Athlete[] athletes2 = new Athlete[POSITIONS.length];
+		Athlete[] winners = new Athlete[POSITIONS.length];
+		int[] staminaLost1 = new int[POSITIONS.length];
+		int[] staminaLost2 = new int[POSITIONS.length];
+
+		for (int i = 0; i < POSITIONS.length; ++i) {
+			Athlete athlete1 = active1.get(POSITIONS[i]);
+			Athlete athlete2 = active2.get(POSITIONS[i]);
+			Athlete winner = decidePairing(athlete1, athlete2, rng);
+			athletes1[i] = athlete1;
+			athletes2[i] = athlete2;
+			winners[i] = winner;
+			if (athlete1 != null)
+				staminaLost1[i] = athlete1.getStaminaLoss(athlete1 != winner);
+			if (athlete2 != null)
+				staminaLost2[i] = athlete2.getStaminaLoss(athlete2 != winner);
+		}
+		return new MatchResult(team1, team2, athletes1, athletes2, winners, staminaLost1, staminaLost2);
+	}
+
+	/**
+	 * Plays a match between two teams in a match mode.
+	 *
+	 * @param team1 The first team
+	 * @param team2 The second team
+	 * @param rng   The Random object the match is decided with
+	 * @param mode  How the match is played
+	 * @return The outcome of the match
+	 */
+	public static MatchResult play(Team team1, Team team2, Random rng, MatchMode mode) {
+		if (mode == MatchMode.POSSESSIONS)
+			return POSSESSION_ENGINES.get().play(team1, team2, rng);
+		return play(team1, team2, rng);
+	}
+
+	/**
+	 * Plays many matches in parallel, with pairings.
+	 *
+	 * @param teams1 The first team of each match
+	 * @param teams2 The second team of each match
+	 * @param rngs   Creates the Random object for each match from its index
+	 * @param pool   The threads to play the matches on, or null to play them on
+	 *               the calling thread
+	 * @return The outcome of each match, in the same order
+	 * @see #playAll(List, List, IntFunction, MatchMode, ForkJoinPool)
+	 */
+	public static List<MatchResult> playAll(List<Team> teams1, List<Team> teams2, IntFunction<Random> rngs,
+			ForkJoinPool pool) {
+		return playAll(teams1, teams2, rngs, MatchMode.PAIRINGS, pool);
+	}
+
+	/**
+	 * Plays many matches in parallel. Match i is between teams1.get(i) and
+	 * teams2.get(i), and decides its ties with rngs.apply(i), which is called on
+	 * the thread that plays it. The results are the same whatever the number of
+	 * threads, as long as each Random object only depends on i.
+	 *
+	 * @param teams1 The first team of each match
+	 * @param teams2 The second team of each match
+	 * @param rngs   Creates the Random object for each match from its index
+	 * @param mode   How the matches are played
+	 * @param pool   The threads to play the matches on, or null to play them on
+	 *               the calling thread
+	 * @return The outcome of each match, in the same order
+	 * @throws IllegalArgumentException If the lists are of different lengths, or a
+	 *                                  team plays in more than one match. Athletes
+	 *                                  remember their match scores, so one athlete
+	 *                                  mustn't be read by two threads at once.
+	 */
+	public static List<MatchResult> playAll(List<Team> teams1, List<Team> teams2, IntFunction<Random> rngs,
+			MatchMode mode, ForkJoinPool pool) {
+		if (teams1.size() != teams2.size())
+			throw new IllegalArgumentException("Every match needs two teams");
+		Set<Team> playing = Collections.newSetFromMap(new IdentityHashMap<Team, Boolean>());
+		for (int i = 0; i < teams1.size(); ++i) {
+			if (!playing.add(teams1.get(i)) || (teams2.get(i) != teams1.get(i) && !playing.add(teams2.get(i))))
+				throw new IllegalArgumentException("A team can only play in one match at a time");
+		}
+
+		if (pool == null) {
+			List<MatchResult> results = new ArrayList<MatchResult>(teams1.size());
+			for (int i = 0; i < teams1.size(); ++i)
+				results.add(play(teams1.get(i), teams2.get(i), rngs.apply(i), mode));
+			return results;
+		}
+
+		List<ForkJoinTask<MatchResult>> tasks = new ArrayList<ForkJoinTask<MatchResult>>(teams1.size());
+		for (int i = 0; i < teams1.size(); ++i) {
+			Team team1 = teams1.get(i);
+			Team team2 = teams2.get(i);
+			int index = i;
+			tasks.add(pool.submit(() -> play(team1, team2, rngs.apply(index), mode)));
+		}
+
+		List<MatchResult> results = new ArrayList<MatchResult>(tasks.size());
+		for (ForkJoinTask<MatchResult> task : tasks)
+			results.add(task.join());
+		return results;
+	}
+}
@@ -0,0 +1,129 @@
+package game.location;
+
+import java.util.Map;
+
+import enumeration.PairingOutcome;
+import enumeration.Position;
+import game.Athlete;
+import game.Team;
+
+/**
+ * Works out how a match between two teams would go without playing it. Nothing
+ * is changed and nothing is allocated, so a match can be previewed as often as
+ * needed, such as for every opponent each time the stadium is shown.
+ *
+ * A pairing is won by the athlete with the higher match score in their role,
+ * unless exactly one of the athletes is injured, in which case the healthy
+ * athlete wins. Equal scores are decided by a coin flip, so the only
+ * uncertainty in a match is how many of its tied pairings each team wins.
+ *
+ * @author Findlay Royds
+ * @version 1.0, May 2023.
+ */
+public class MatchEvaluator {
+	/**
+	 * Every position, in ordinal order.
+	 */
+	private final static Position[] POSITIONS = Position.values();
+
+	/**
+	 * Utility class, not to be constructed.
+	 */
+	private MatchEvaluator() {
+	}
+
+	/**
+	 * Works out the outcome of a pairing. An athlete without an opponent wins.
+	 *
+	 * @param athlete1 The first team's athlete, or null if it has none
+	 * @param athlete2 The second team's athlete, or null if it has none
+	 * @return The outcome of the pairing
+	 */
+	public static PairingOutcome evaluatePairing(Athlete athlete1, Athlete athlete2) {
+		if (athlete1 == null || athlete2 == null) {
+			if (athlete1 == athlete2)
+				return PairingOutcome.NO_PAIRING;
+			return athlete1 != null ? PairingOutcome.TEAM1_WINS : PairingOutcome.TEAM2_WINS;
+		}
+
+		boolean injured1 = athlete1.isInjured();
+		if (injured1 != athlete2.isInjured())
+			return injured1 ? PairingOutcome.TEAM2_WINS : PairingOutcome.TEAM1_WINS;
+
+		int score1 = athlete1.getRoleMatchScore();
+		int score2 = athlete2.getRoleMatchScore();
+		if (score1 == score2)
+			return PairingOutcome.TIE;
+		return score1 > score2 ? PairingOutcome.TEAM1_WINS : PairingOutcome.TEAM2_WINS;
+	}
+
+	/**
+	 * Works out the outcome of the pairing in every position.
+	 *
+	 * @param team1    The first team
+	 * @param team2    The second team
+	 * @param outcomes The array to write the outcomes into, indexed by position
+	 *                 ordinal
+	 * @return The outcomes array
+	 */
+	public static PairingOutcome[] evaluate(Team team1, Team team2, PairingOutcome[] outcomes) {
+		Map<Position, Athlete> active1 = team1.getActiveAthletes();
+		Map<Position, Athlete> active2 = team2.getActiveAthletes();
+		for (Position position : POSITIONS)
+			outcomes[position.ordinal()] = evaluatePairing(active1.get(position), active2.get(position));
+		return outcomes;
+	}
+
+	/**
+	 * Calculates the exact probability the first team wins a match, which it does
+	 * by winning more pairings than the second team. The pairings that aren't
+	 * ties are already decided, and each tie is an even coin flip, so the
+	 * probability is the share of the ways the ties can fall that leave the first
+	 * team ahead.
+	 *
+	 * As in GameMatch, the first team loses by default if all of its athletes are
+	 * injured.
+	 *
+	 * @param team1 The first team
+	 * @param team2 The second team
+	 * @return The probability the first team wins the match
+	 */
+	public static double getWinProbability(Team team1, Team team2) {
+		Map<Position, Athlete> active1 = team1.getActiveAthletes();
+		Map<Position, Athlete> active2 = team2.getActiveAthletes();
+		int wins = 0, losses = 0, ties = 0;
+		boolean allInjured = true;
+		for (Position position : POSITIONS) {
+			Athlete athlete1 = active1.get(position);
+			if (athlete1 != null && !athlete1.isInjured())
+				allInjured = false;
+			switch (evaluatePairing(athlete1, active2.get(position))) {
+			case TEAM1_WINS:
+				++wins;
+				break;
+			case TEAM2_WINS:
+				++losses;
+				break;
+			case TIE:
+				++ties;
+				break;
+			default:
+				break;
+			}
+		}
+
+		if (allInjured)
+			return 0;
+
+		// Add up the binomial coefficients of the tie wins that leave the first team
+		// ahead, out of the 2^ties ways the ties can fall
+		double probability = 0;
+		double waysToWinTies = 1;
+		for (int tieWins = 0; tieWins <= ties; ++tieWins) {
+			if (wins + tieWins > losses + ties - tieWins)
+				probability += waysToWinTies;
+			waysToWinTies = waysToWinTies * (ties - tieWins) / (tieWins + 1);
+		}
+		return probability / (1 << ties);
+	}
+}
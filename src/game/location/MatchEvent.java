@@ -0,0 +1,137 @@
+package game.location;
+
+import enumeration.MatchEventType;
+import enumeration.Position;
+import game.Athlete;
+
+/**
+ * Something that happened in a match, as published by GameMatch. An event
+ * copies the values it describes when it is created, so it can be read on any
+ * thread after the match has moved on.
+ *
+ * @author Findlay Royds
+ * @version 1.0, May 2023.
+ */
+public final class MatchEvent {
+	/**
+	 * What kind of event this is
+	 */
+	private final MatchEventType type;
+
+	/**
+	 * The position of the pairing, or null for the end of the match
+	 */
+	private final Position position;
+
+	/**
+	 * The first team's athlete in the pairing, or null for the end of the match
+	 */
+	private final Athlete athlete1;
+
+	/**
+	 * The second team's athlete in the pairing, or null for the end of the match
+	 */
+	private final Athlete athlete2;
+
+	/**
+	 * The winner of the pairing, or null if it hasn't been decided
+	 */
+	private final Athlete winner;
+
+	/**
+	 * The first team's athlete's stamina when the event happened
+	 */
+	private final int stamina;
+
+	/**
+	 * The first team's score when the event happened
+	 */
+	private final int team1Score;
+
+	/**
+	 * The second team's score when the event happened
+	 */
+	private final int team2Score;
+
+	/**
+	 * Constructor for MatchEvent.
+	 *
+	 * @param type       What kind of event this is
+	 * @param position   The position of the pairing, or null
+	 * @param athlete1   The first team's athlete in the pairing, or null
+	 * @param athlete2   The second team's athlete in the pairing, or null
+	 * @param winner     The winner of the pairing, or null
+	 * @param team1Score The first team's score
+	 * @param team2Score The second team's score
+	 */
+	MatchEvent(MatchEventType type, Position position, Athlete athlete1, Athlete athlete2, Athlete winner,
+			int team1Score, int team2Score) {
+		this.type = type;
+		this.position = position;
+		this.athlete1 = athlete1;
+		this.athlete2 = athlete2;
+		this.winner = winner;
+		this.stamina = athlete1 == null ? 0 : athlete1.getStamina();
+		this.team1Score = team1Score;
+		this.team2Score = team2Score;
+	}
+
+	/**
+	 * @return What kind of event this is
+	 */
+	public MatchEventType getType() {
+		return type;
+	}
+
+	/**
+	 * @return The position of the pairing, or null for the end of the match
+	 */
+	public Position getPosition() {
+		return position;
+	}
+
+	/**
+	 * @return The first team's athlete in the pairing, or null for the end of
+	 *         the match
+	 */
+	public Athlete getAthlete1() {
+		return athlete1;
+	}
+
+	/**
+	 * @return The second team's athlete in the pairing, or null for the end of
+	 *         the match
+	 */
+	public Athlete getAthlete2() {
+		return athlete2;
+	}
+
+	/**
+	 * @return The winner of the pairing, or null if it hasn't been decided
+	 */
+	public Athlete getWinner() {
+		return winner;
+	}
+
+	/**
+	 * @return The first team's athlete's stamina when the event happened, or 0
+	 *         for the end of the match
+	 */
+	public int getStamina() {
+		return stamina;
+	}
+
+	/**
+	 * @return The first team's score when the event happened
+	 */
+	public int getTeam1Score() {
+		return team1Score;
+	}
+
+	/**
+	 * @return The second team's score when the event happened
+	 */
+	public int getTeam2Score() {
+		return team2Score;
+	}
+}
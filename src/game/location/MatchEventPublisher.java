@@ -0,0 +1,283 @@
+package game.location;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import enumeration.MatchEventType;
+
+/**
+ * Publishes the events of a match to any number of subscribers. Publishing
+ * never waits for a subscriber: each subscriber has a bounded buffer of the
+ * events it hasn't been sent yet, and receives them on its own Executor as
+ * fast as it requests them. A subscriber that falls behind loses events rather
+ * than slowing the match down. A stamina event replaces any stamina event of
+ * the same athlete still in the buffer, and once the buffer is full the oldest
+ * event is dropped to make room for the newest.
+ *
+ * Every signal to a subscriber, including onSubscribe, is sent from a task
+ * run on its Executor, one at a time. Subscribing with Runnable::run sends
+ * events on the publishing thread, as long as they have been requested.
+ *
+ * @author Findlay Royds
+ * @version 1.1, May 2023.
+ */
+public class MatchEventPublisher implements Flow.Publisher<MatchEvent> {
+	/**
+	 * The number of events buffered for a subscriber unless another is given
+	 */
+	public final static int DEFAULT_BUFFER_SIZE = 32;
+
+	/**
+	 * The subscriptions that haven't been cancelled
+	 */
+	private final List<EventSubscription> subscriptions = new CopyOnWriteArrayList<EventSubscription>();
+
+	/**
+	 * Subscribes to the events, with the default buffer size, sending them on the
+	 * publishing thread.
+	 *
+	 * @param subscriber The subscriber
+	 */
+	@Override
+	public void subscribe(Flow.Subscriber<? super MatchEvent> subscriber) {
+		subscribe(subscriber, DEFAULT_BUFFER_SIZE, Runnable::run);
+	}
+
+	/**
+	 * Subscribes to the events. A subscriber that is already subscribed is sent
+	 * an IllegalStateException instead.
+	 *
+	 * @param subscriber The subscriber
+	 * @param bufferSize The number of events to keep for the subscriber until it
+	 *                   requests them, at least 1
+	 * @param executor   Runs the tasks that send the subscriber its signals
+	 */
+	public void subscribe(Flow.Subscriber<? super MatchEvent> subscriber, int bufferSize, Executor executor) {
+		if (subscriber == null)
+			throw new NullPointerException();
+		EventSubscription subscription = new EventSubscription(subscriber, Math.max(1, bufferSize), executor);
+		for (EventSubscription existing : subscriptions) {
+			if (existing.subscriber == subscriber) {
+				subscription.fail(new IllegalStateException("Already subscribed"));
+				return;
+			}
+		}
+		subscriptions.add(subscription);
+		subscription.schedule();
+	}
+
+	/**
+	 * @return Whether anything is subscribed, so that events are worth creating
+	 */
+	public boolean hasSubscribers() {
+		return !subscriptions.isEmpty();
+	}
+
+	/**
+	 * Offers an event to every subscriber without waiting for any of them.
+	 *
+	 * @param event The event
+	 */
+	public void publish(MatchEvent event) {
+		for (EventSubscription subscription : subscriptions)
+			subscription.offer(event);
+	}
+
+	/**
+	 * A subscriber's link to the publisher, holding the events it hasn't been
+	 * sent yet.
+	 */
+	private class EventSubscription implements Flow.Subscription {
+		/**
+		 * The subscriber the events are sent to
+		 */
+		private final Flow.Subscriber<? super MatchEvent> subscriber;
+
+		/**
+		 * The most events kept in the buffer
+		 */
+		private final int bufferSize;
+
+		/**
+		 * Runs the tasks that send the subscriber its signals
+		 */
+		private final Executor executor;
+
+		/**
+		 * The events that haven't been sent, oldest first. Guarded by this.
+		 */
+		private final ArrayDeque<MatchEvent> buffer = new ArrayDeque<MatchEvent>();
+
+		/**
+		 * The number of events requested but not yet sent. Guarded by this.
+		 */
+		private long demand = 0;
+
+		/**
+		 * An error to send instead of any more events, or null. Guarded by this.
+		 */
+		private Throwable error;
+
+		/**
+		 * Whether the subscription has been cancelled
+		 */
+		private volatile boolean cancelled = false;
+
+		/**
+		 * Whether onSubscribe has been sent. Only used by the sending task.
+		 */
+		private boolean started = false;
+
+		/**
+		 * The number of times the sending task has been asked to run since it last
+		 * found nothing to do. The task is only scheduled when this goes up from 0,
+		 * so only one runs at a time.
+		 */
+		private final AtomicInteger pending = new AtomicInteger();
+
+		/**
+		 * Constructor for EventSubscription.
+		 *
+		 * @param subscriber The subscriber
+		 * @param bufferSize The most events kept in the buffer
+		 * @param executor   Runs the tasks that send the subscriber its signals
+		 */
+		EventSubscription(Flow.Subscriber<? super MatchEvent> subscriber, int bufferSize, Executor executor) {
+			this.subscriber = subscriber;
+			this.bufferSize = bufferSize;
+			this.executor = executor;
+		}
+
+		/**
+		 * Adds an event to the buffer, coalescing or dropping events to keep it
+		 * within its size, and sends it if it has been requested.
+		 *
+		 * @param event The event
+		 */
+		void offer(MatchEvent event) {
+			synchronized (this) {
+				if (event.getType() == MatchEventType.STAMINA_CHANGED) {
+					Iterator<MatchEvent> iterator = buffer.iterator();
+					while (iterator.hasNext()) {
+						MatchEvent buffered = iterator.next();
+						if (buffered.getType() == MatchEventType.STAMINA_CHANGED
+								&& buffered.getAthlete1() == event.getAthlete1()) {
+							iterator.remove();
+							break;
+						}
+					}
+				}
+				if (buffer.size() == bufferSize)
+					buffer.pollFirst();
+				buffer.addLast(event);
+			}
+			schedule();
+		}
+
+		/**
+		 * Ends the subscription with an error.
+		 *
+		 * @param throwable The error to send the subscriber
+		 */
+		void fail(Throwable throwable) {
+			synchronized (this) {
+				error = throwable;
+				buffer.clear();
+			}
+			subscriptions.remove(this);
+			schedule();
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				fail(new IllegalArgumentException("Must request a positive number of events"));
+				return;
+			}
+			synchronized (this) {
+				// Saturate rather than overflow
+				demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+			}
+			schedule();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			subscriptions.remove(this);
+			synchronized (this) {
+				buffer.clear();
+			}
+		}
+
+		/**
+		 * Makes sure the sending task runs after this call, without starting a
+		 * second one if it is already running.
+		 */
+		void schedule() {
+			if (pending.getAndIncrement() == 0)
+				executor.execute(this::send);
+		}
+
+		/**
+		 * Sends onSubscribe if it hasn't been sent, then as many buffered events as
+		 * have been requested, or the error. Runs again if it was asked to while it
+		 * was running. A subscriber that throws from any of its methods is treated
+		 * as having cancelled, and the exception goes no further, so it can't stop
+		 * the match that published the event.
+		 */
+		private void send() {
+			int missed = 1;
+			do {
+				try {
+					sendPending();
+				} catch (RuntimeException e) {
+					// A subscriber that throws can't be sent anything else
+					cancel();
+				} finally {
+					missed = pending.addAndGet(-missed);
+				}
+			} while (missed != 0);
+		}
+
+		/**
+		 * Sends onSubscribe if it hasn't been sent, then as many buffered events as
+		 * have been requested, or the error.
+		 */
+		private void sendPending() {
+			if (!started) {
+				started = true;
+				subscriber.onSubscribe(this);
+			}
+			while (!cancelled) {
+				MatchEvent event;
+				Throwable failure;
+				synchronized (this) {
+					failure = error;
+					event = failure == null && demand > 0 ? buffer.pollFirst() : null;
+					if (event != null && demand != Long.MAX_VALUE)
+						--demand;
+				}
+				if (failure != null) {
+					cancelled = true;
+					subscriber.onError(failure);
+					return;
+				}
+				if (event == null)
+					return;
+				try {
+					subscriber.onNext(event);
+				} catch (RuntimeException e) {
+					// Tell the subscriber why it won't be sent anything else
+					cancel();
+					subscriber.onError(e);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,121 @@
+package game.location;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.Flow;
+
+import enumeration.MatchEventType;
+import game.Athlete;
+
+/**
+ * Records the events of matches as lines of text, such as to a file, so that
+ * matches can be looked back over. The recorder requests every event, so it
+ * only loses events if it is subscribed with an Executor that falls behind the
+ * match. The writer is flushed at the end of each match. If writing fails the
+ * recorder cancels its subscription and keeps the error.
+ *
+ * @author Findlay Royds
+ * @version 1.0, May 2023.
+ */
+public class MatchRecorder implements Flow.Subscriber<MatchEvent> {
+	/**
+	 * Where the events are written
+	 */
+	private final Writer writer;
+
+	/**
+	 * The recorder's subscription, or null before it subscribes
+	 */
+	private Flow.Subscription subscription;
+
+	/**
+	 * The number of events written
+	 */
+	private int eventsRecorded = 0;
+
+	/**
+	 * The error that stopped the recording, or null if there wasn't one
+	 */
+	private Throwable error;
+
+	/**
+	 * Constructor for MatchRecorder.
+	 *
+	 * @param writer Where to write the events
+	 */
+	public MatchRecorder(Writer writer) {
+		this.writer = writer;
+	}
+
+	/**
+	 * Describes an event in one line of text.
+	 *
+	 * @param event The event
+	 * @return The description
+	 */
+	public static String format(MatchEvent event) {
+		String score = event.getTeam1Score() + " - " + event.getTeam2Score();
+		switch (event.getType()) {
+		case PAIRING_STARTED:
+			return event.getPosition() + ": " + getName(event.getAthlete1()) + " vs " + getName(event.getAthlete2());
+		case WINNER_DECIDED:
+			return event.getPosition() + ": " + getName(event.getWinner()) + " wins (" + score + ")";
+		case STAMINA_CHANGED:
+			return event.getPosition() + ": " + getName(event.getAthlete1()) + " has " + event.getStamina()
+					+ " stamina";
+		default:
+			return "Match finished " + score;
+		}
+	}
+
+	/**
+	 * @param athlete An athlete, or null
+	 * @return The athlete's name, or "Nobody" for null
+	 */
+	private static String getName(Athlete athlete) {
+		return athlete == null ? "Nobody" : athlete.getName();
+	}
+
+	@Override
+	public void onSubscribe(Flow.Subscription subscription) {
+		this.subscription = subscription;
+		subscription.request(Long.MAX_VALUE);
+	}
+
+	@Override
+	public void onNext(MatchEvent event) {
+		try {
+			writer.write(format(event));
+			writer.write(System.lineSeparator());
+			if (event.getType() == MatchEventType.MATCH_FINISHED)
+				writer.flush();
+			++eventsRecorded;
+		} catch (IOException e) {
+			error = e;
+			subscription.cancel();
+		}
+	}
+
+	@Override
+	public void onError(Throwable throwable) {
+		error = throwable;
+	}
+
+	@Override
+	public void onComplete() {
+	}
+
+	/**
+	 * @return The number of events written
+	 */
+	public int getEventsRecorded() {
+		return eventsRecorded;
+	}
+
+	/**
+	 * @return The error that stopped the recording, or null if there wasn't one
+	 */
+	public Throwable getError() {
+		return error;
+	}
+}
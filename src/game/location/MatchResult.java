@@ -0,0 +1,201 @@
+package game.location;
+
+import enumeration.Position;
+import game.Athlete;
+import game.Team;
+
+/**
+ * The immutable outcome of a match played by MatchEngine. It records who won
+ * each pairing and how much stamina every athlete would use up, but nothing is
+ * changed until applyStaminaLoss is called.
+ *
+ * @author Findlay Royds
+ * @version 1.1, May 2023.
+ */
+public final class MatchResult {
+	/**
+	 * The first team that played in the match
+	 */
+	private final Team team1;
+
+	/**
+	 * The second team that played in the match
+	 */
+	private final Team team2;
+
+	/**
+	 * The first team's athletes that played, indexed by position ordinal. Null
+	 * where the team had no athlete.
+	 */
+	private final Athlete[] athletes1;
+
+	/**
+	 * The second team's athletes that played, indexed by position ordinal. Null
+	 * where the team had no athlete.
+	 */
+	private final Athlete[] athletes2;
+
+	/**
+	 * The winner of each pairing, indexed by position ordinal. Null where neither
+	 * team had an athlete.
+	 */
+	private final Athlete[] winners;
+
+	/**
+	 * The stamina each of the first team's athletes used up, indexed by position
+	 * ordinal.
+	 */
+	private final int[] staminaLost1;
+
+	/**
+	 * The stamina each of the second team's athletes used up, indexed by position
+	 * ordinal.
+	 */
+	private final int[] staminaLost2;
+
+	/**
+	 * The number of pairings the first team won
+	 */
+	private final int team1Score;
+
+	/**
+	 * The number of pairings the second team won
+	 */
+	private final int team2Score;
+
+	/**
+	 * Constructor for MatchResult. The arrays are kept, not copied, so the
+	 * caller must not change them afterwards.
+	 *
+	 * @param team1        The first team
+	 * @param team2        The second team
+	 * @param athletes1    The first team's athletes, by position ordinal
+	 * @param athletes2    The second team's athletes, by position ordinal
+	 * @param winners      The winner of each pairing, by position ordinal
+	 * @param staminaLost1 The stamina the first team's athletes used up
+	 * @param staminaLost2 The stamina the second team's athletes used up
+	 */
+	MatchResult(Team team1, Team team2, Athlete[] athletes1, Athlete[] athletes2, Athlete[] winners,
+			int[] staminaLost1, int[] staminaLost2) {
+		this.team1 = team1;
+		this.team2 = team2;
+		this.athletes1 = athletes1;
+		this.athletes2 = athletes2;
+		this.winners = winners;
+		this.staminaLost1 = staminaLost1;
+		this.staminaLost2 = staminaLost2;
+
+		int score1 = 0, score2 = 0;
+		for (int i = 0; i < winners.length; ++i) {
+			if (winners[i] == null)
+				continue;
+			if (winners[i] == athletes1[i])
+				++score1;
+			else
+				++score2;
+		}
+		team1Score = score1;
+		team2Score = score2;
+	}
+
+	/**
+	 * @return The first team that played in the match
+	 */
+	public Team getTeam1() {
+		return team1;
+	}
+
+	/**
+	 * @return The second team that played in the match
+	 */
+	public Team getTeam2() {
+		return team2;
+	}
+
+	/**
+	 * @return The number of pairings the first team won
+	 */
+	public int getTeam1Score() {
+		return team1Score;
+	}
+
+	/**
+	 * @return The number of pairings the second team won
+	 */
+	public int getTeam2Score() {
+		return team2Score;
+	}
+
+	/**
+	 * As in GameMatch, the second team wins if the scores are equal, which can
+	 * only happen if a position was empty in both teams.
+	 *
+	 * @return The team that won the most pairings
+	 */
+	public Team getWinningTeam() {
+		return team1Score > team2Score ? team1 : team2;
+	}
+
+	/**
+	 * @param position A position
+	 * @return The first team's athlete that played in that position, or null if
+	 *         it had none
+	 */
+	public Athlete getTeam1Athlete(Position position) {
+		return athletes1[position.ordinal()];
+	}
+
+	/**
+	 * @param position A position
+	 * @return The second team's athlete that played in that position, or null if
+	 *         it had none
+	 */
+	public Athlete getTeam2Athlete(Position position) {
+		return athletes2[position.ordinal()];
+	}
+
+	/**
+	 * @param position A position
+	 * @return The athlete who won the pairing in that position, or null if
+	 *         neither team had an athlete in it
+	 */
+	public Athlete getWinner(Position position) {
+		return winners[position.ordinal()];
+	}
+
+	/**
+	 * @param position A position
+	 * @return The stamina the first team's athlete in that position used up, or
+	 *         0 if it had none
+	 */
+	public int getTeam1StaminaLost(Position position) {
+		return staminaLost1[position.ordinal()];
+	}
+
+	/**
+	 * @param position A position
+	 * @return The stamina the second team's athlete in that position used up, or
+	 *         0 if it had none
+	 */
+	public int getTeam2StaminaLost(Position position) {
+		return staminaLost2[position.ordinal()];
+	}
+
+	/**
+	 * Uses up the stamina the match cost one of the teams' athletes, in position
+	 * order. The athletes that played are changed even if they have since left
+	 * the team's lineup. Does nothing for a team that didn't play.
+	 *
+	 * @param team One of the teams that played in the match
+	 */
+	public void applyStaminaLoss(Team team) {
+		if (team != team1 && team != team2)
+			return;
+		Athlete[] athletes = team == team1 ? athletes1 : athletes2;
+		int[] staminaLost = team == team1 ? staminaLost1 : staminaLost2;
+		for (int i = 0; i < athletes.length; ++i) {
+			if (athletes[i] != null)
+				athletes[i].setStamina(athletes[i].getStamina() - staminaLost[i]);
+		}
+	}
+}
@@ -0,0 +1,252 @@
+package game.location;
+
+import java.util.Map;
+import java.util.Random;
+
+import enumeration.Position;
+import enumeration.Statistic;
+import game.Athlete;
+import game.Team;
+import util.MiscUtil;
+
+/**
+ * Plays a match possession by possession. The teams take turns to attack, and
+ * each possession is played between the attacking athlete in a position and
+ * the defending athlete in the same position. The attacker may lose the ball,
+ * depending on their dribbling against the defender's defence, and otherwise
+ * takes a shot, depending on their shooting against the defender's defence and
+ * height. Long shooters take more three pointers. Every possession tires both
+ * athletes, and tired athletes play worse, so fitness matters throughout the
+ * match. An athlete who runs out of stamina can't play the rest of the match.
+ *
+ * Each pairing is won by the athlete who scored more points against the other.
+ * Equal points are decided by the rules of the pairing match mode, so the
+ * result has the same form as MatchEngine's. Each athlete plays
+ * STAMINA_SCALE possessions, and each costs 1 / STAMINA_SCALE of the stamina a
+ * pairing costs, so a match uses up the same stamina in either mode.
+ *
+ * The athletes' ratings and stamina are copied into primitive arrays before
+ * the match, and the possessions only read and write those arrays, so playing
+ * a match allocates nothing but its result. An engine keeps the arrays between
+ * matches, so it must only be used by one thread at a time.
+ *
+ * @author Findlay Royds
+ * @version 1.0, May 2023.
+ */
+public class PossessionEngine {
+	/**
+	 * Every position, in ordinal order.
+	 */
+	private final static Position[] POSITIONS = Position.values();
+
+	/**
+	 * The number of possessions each team attacks in each position.
+	 */
+	public final static int POSSESSIONS_PER_POSITION = 8;
+
+	/**
+	 * The number of possessions in a match.
+	 */
+	public final static int NUMBER_OF_POSSESSIONS = 2 * POSITIONS.length * POSSESSIONS_PER_POSITION;
+
+	/**
+	 * The number of possessions each athlete plays, attacking and defending. An
+	 * athlete's stamina is counted in units of 1 / STAMINA_SCALE during a match.
+	 */
+	private final static int STAMINA_SCALE = 2 * POSSESSIONS_PER_POSITION;
+
+	/**
+	 * The number of slots in the arrays, one for each position of each team. The
+	 * first team's slots come first.
+	 */
+	private final static int SLOTS = 2 * POSITIONS.length;
+
+	/**
+	 * How well each athlete keeps the ball, by slot.
+	 */
+	private final int[] handling = new int[SLOTS];
+
+	/**
+	 * How well each athlete shoots, by slot.
+	 */
+	private final int[] shooting = new int[SLOTS];
+
+	/**
+	 * How well each athlete contests shots, by slot.
+	 */
+	private final int[] contest = new int[SLOTS];
+
+	/**
+	 * How well each athlete wins the ball, by slot.
+	 */
+	private final int[] pressure = new int[SLOTS];
+
+	/**
+	 * The chance out of 1000 of each athlete's shots being three pointers, by
+	 * slot.
+	 */
+	private final int[] threeRate = new int[SLOTS];
+
+	/**
+	 * The stamina each athlete uses up each possession, in units of 1 /
+	 * STAMINA_SCALE, by slot.
+	 */
+	private final int[] drainRate = new int[SLOTS];
+
+	/**
+	 * The stamina of each athlete at the start of the match, in units of 1 /
+	 * STAMINA_SCALE, by slot. 0 for empty slots.
+	 */
+	private final int[] startStamina = new int[SLOTS];
+
+	/**
+	 * The stamina of each athlete as the match is played, in units of 1 /
+	 * STAMINA_SCALE, by slot.
+	 */
+	private final int[] stamina = new int[SLOTS];
+
+	/**
+	 * The points each athlete has scored, by slot.
+	 */
+	private final int[] points = new int[SLOTS];
+
+	/**
+	 * The athlete in each slot, or null if the team has no athlete in that
+	 * position.
+	 */
+	private final Athlete[] athletes = new Athlete[SLOTS];
+
+	/**
+	 * Plays a match between two teams. Nothing is changed; the stamina used up is
+	 * returned in the result.
+	 *
+	 * @param team1 The first team
+	 * @param team2 The second team
+	 * @param rng   The Random object the possessions are decided with
+	 * @return The outcome of the match
+	 */
+	public MatchResult play(Team team1, Team team2, Random rng) {
+		load(team1, 0);
+		load(team2, POSITIONS.length);
+		playPossessions(rng);
+
+		Athlete[] athletes1 = new Athlete[POSITIONS.length];
+		Athlete[] athletes2 = new Athlete[POSITIONS.length];
+		Athlete[] winners = new Athlete[POSITIONS.length];
+		int[] staminaLost1 = new int[POSITIONS.length];
+		int[] staminaLost2 = new int[POSITIONS.length];
+		for (int i = 0; i < POSITIONS.length; ++i) {
+			int slot1 = i, slot2 = POSITIONS.length + i;
+			Athlete athlete1 = athletes[slot1];
+			Athlete athlete2 = athletes[slot2];
+			Athlete winner;
+			if (points[slot1] != points[slot2])
+				winner = points[slot1] > points[slot2] ? athlete1 : athlete2;
+			else
+				winner = MatchEngine.decidePairing(athlete1, athlete2, rng);
+
+			athletes1[i] = athlete1;
+			athletes2[i] = athlete2;
+			winners[i] = winner;
+			if (athlete1 != null)
+				staminaLost1[i] = getStaminaLost(slot1) + (athlete1 != winner ? getLosingPenalty(athlete1) : 0);
+			if (athlete2 != null)
+				staminaLost2[i] = getStaminaLost(slot2) + (athlete2 != winner ? getLosingPenalty(athlete2) : 0);
+			athletes[slot1] = null;
+			athletes[slot2] = null;
+		}
+		return new MatchResult(team1, team2, athletes1, athletes2, winners, staminaLost1, staminaLost2);
+	}
+
+	/**
+	 * Copies the ratings and stamina of a team's active athletes into the arrays.
+	 *
+	 * @param team  The team
+	 * @param first The slot of the team's first position
+	 */
+	private void load(Team team, int first) {
+		Map<Position, Athlete> activeAthletes = team.getActiveAthletes();
+		for (Position position : POSITIONS) {
+			int slot = first + position.ordinal();
+			Athlete athlete = activeAthletes.get(position);
+			athletes[slot] = athlete;
+			points[slot] = 0;
+			if (athlete == null) {
+				startStamina[slot] = 0;
+				stamina[slot] = 0;
+				drainRate[slot] = 0;
+				continue;
+			}
+
+			int offence = athlete.getStatistic(Statistic.OFFENCE);
+			int defence = athlete.getStatistic(Statistic.DEFENCE);
+			int jumping = athlete.getStatistic(Statistic.JUMPING);
+			int height = athlete.getStatistic(Statistic.HEIGHT);
+			// The same 20% bonus for playing in their role as a match score has
+			int bonus = athlete.getRole() == position ? 6 : 5;
+			handling[slot] = (athlete.getStatistic(Statistic.DRIBBLING) * 3 + offence) * bonus / 20;
+			shooting[slot] = (athlete.getStatistic(Statistic.SHOOTING_ACCURACY) * 2 + offence + height) * bonus / 20;
+			contest[slot] = (defence * 2 + height + jumping) * bonus / 20;
+			pressure[slot] = (defence * 3 + jumping) * bonus / 20;
+			int power = athlete.getStatistic(Statistic.SHOOTING_POWER);
+			threeRate[slot] = Math.min(600, power * (position == Position.LONG_SHOOTER ? 6 : 2));
+			drainRate[slot] = athlete.getStaminaLoss(false);
+			startStamina[slot] = athlete.getStamina() * STAMINA_SCALE;
+			stamina[slot] = startStamina[slot];
+		}
+	}
+
+	/**
+	 * Plays every possession of the match. The teams take turns to attack, and
+	 * the positions take turns within each team.
+	 *
+	 * @param rng The Random object the possessions are decided with
+	 */
+	private void playPossessions(Random rng) {
+		int half = POSITIONS.length;
+		for (int possession = 0; possession < NUMBER_OF_POSSESSIONS; ++possession) {
+			int position = (possession >> 1) % half;
+			int attacker = (possession & 1) == 0 ? position : half + position;
+			int defender = (possession & 1) == 0 ? half + position : position;
+
+			if (stamina[attacker] > 0) {
+				// Tired athletes play at down to half their ratings. A defender who can't
+				// play gives the attacker a free run.
+				int attackCondition = 50 + stamina[attacker] / (2 * STAMINA_SCALE);
+				int defendCondition = stamina[defender] > 0 ? 50 + stamina[defender] / (2 * STAMINA_SCALE) : 0;
+
+				int turnoverChance = 120
+						+ (pressure[defender] * defendCondition - handling[attacker] * attackCondition) / 50;
+				if (rng.nextInt(1000) >= MiscUtil.clampValue(turnoverChance, 20, 400)) {
+					boolean three = rng.nextInt(1000) < threeRate[attacker];
+					int makeChance = 450
+							+ 3 * (shooting[attacker] * attackCondition - contest[defender] * defendCondition) / 100;
+					if (three)
+						makeChance -= 120;
+					if (rng.nextInt(1000) < MiscUtil.clampValue(makeChance, 100, 850))
+						points[attacker] += three ? 3 : 2;
+				}
+			}
+
+			stamina[attacker] = Math.max(0, stamina[attacker] - drainRate[attacker]);
+			stamina[defender] = Math.max(0, stamina[defender] - drainRate[defender]);
+		}
+	}
+
+	/**
+	 * @param slot A slot
+	 * @return The stamina the athlete in the slot used up over the possessions,
+	 *         rounded up
+	 */
+	private int getStaminaLost(int slot) {
+		return (startStamina[slot] - stamina[slot] + STAMINA_SCALE - 1) / STAMINA_SCALE;
+	}
+
+	/**
+	 * @param athlete An athlete
+	 * @return The extra stamina the athlete uses up for losing their pairing
+	 */
+	private static int getLosingPenalty(Athlete athlete) {
+		return athlete.getStaminaLoss(true) - athlete.getStaminaLoss(false);
+	}
+}
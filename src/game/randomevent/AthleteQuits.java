@@ -5,43 +5,30 @@ import game.GameEnvironment;
 import game.Team;
 
 /**
- * The athlete quits random event. Each new athlete creates this random event.
+ * The athlete quits random event. Happens to the athletes on the player's team.
  * 
  * @author Findlay Royds
- * @version 1.0, May 2023.
+ * @version 1.2, May 2023.
  */
-public class AthleteQuits extends RandomEvent {
+public class AthleteQuits extends RandomEvent<Athlete> {
 	/**
-	 * The athlete this random event Effects.
-	 */
-	private Athlete athlete;
-
-	/**
-	 * The constructor for the Athlete quits random event.
+	 * This method causes the athlete to quit their team.
 	 * 
 	 * @param gameEnvironment The game environment the athlete belongs to
 	 * @param athlete         The athlete the random event affects.
 	 */
-	public AthleteQuits(GameEnvironment gameEnvironment, Athlete athlete) {
-		super(gameEnvironment);
-		this.athlete = athlete;
-	}
-
-	/**
-	 * This method causes the athlete to quit their team.
-	 */
 	@Override
-	protected void occur() {
+	protected void occur(GameEnvironment gameEnvironment, Athlete athlete) {
 		Team athletesTeam = athlete.getTeam();
 
 		// Only remove the athlete if they are part of a team
 		if (athletesTeam != null) {
-			athlete.getTeam().removeAthlete(athlete);
+			gameEnvironment.applyEffect(() -> athletesTeam.removeAthlete(athlete));
 		}
 
 		// Alert player that the event occured
 		String message = athlete.getName() + " has quit your team!";
-		gameEnvironment.getUIEnvironment().displayPopup(message);
+		gameEnvironment.applyEffect(() -> gameEnvironment.getUIEnvironment().displayPopup(message));
 	}
 
 	/**
@@ -49,10 +36,12 @@ public class AthleteQuits extends RandomEvent {
 	 * probability is based on whether or not the athlete is injured and the
 	 * difficulty of the game.
 	 * 
+	 * @param gameEnvironment The game environment the athlete belongs to
+	 * @param athlete         The athlete the random event affects.
 	 * @return The probability of the athlete quitting in range: [0.0, 1.0)
 	 */
 	@Override
-	protected float getProbability() {
+	protected float getProbability(GameEnvironment gameEnvironment, Athlete athlete) {
 		float probability = gameEnvironment.getDifficulty() / 200f;
 		if (athlete.isInjured())
 			probability *= 10;
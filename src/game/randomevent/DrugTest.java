@@ -1,7 +1,5 @@
 package game.randomevent;
 
-import java.util.Set;
-
 import enumeration.Location;
 import game.Athlete;
 import game.GameEnvironment;
@@ -13,39 +11,21 @@ import game.Team;
  * steroids, the game ends.
  * 
  * @author Findlay Royds
- * @version 1.0, May 2023.
+ * @version 1.2, May 2023.
  */
-public class DrugTest extends RandomEvent {
-
-	/**
-	 * The constructor for the drug test random event.
-	 * 
-	 * @param gameEnvironment The game environment to which the random event
-	 *                        belongs.
-	 */
-	public DrugTest(GameEnvironment gameEnvironment) {
-		super(gameEnvironment);
-	}
-
+public class DrugTest extends RandomEvent<Team> {
 	/**
 	 * Tests every athlete in the player's team for steroid use. If any athletes
 	 * have used steroids, the game location is changed to the end location
+	 * 
+	 * @param gameEnvironment The game environment the team belongs to
+	 * @param playerTeam      The player's team, which is tested.
 	 */
 	@Override
-	protected void occur() {
-		boolean passedDrugTest = true;
-		Athlete athleteDetected = null;
-		final Team playerTeam = gameEnvironment.getPlayer().getTeam();
-		final Set<Athlete> playerAthletes = playerTeam.getAllAthletes();
-
-		// Test if any athletes have used steroids
-		for (Athlete athlete : playerAthletes) {
-			if (athlete.getHasUsedSteroids()) {
-				passedDrugTest = false;
-				athleteDetected = athlete;
-				break;
-			}
-		}
+	protected void occur(GameEnvironment gameEnvironment, Team playerTeam) {
+		// The team tracks who has used steroids, so no athletes need to be checked
+		boolean passedDrugTest = !playerTeam.hasDopedAthletes();
+		Athlete athleteDetected = passedDrugTest ? null : playerTeam.getDopedAthletes().get(0);
 
 		// If any athletes failed the drug test, end the game
 		if (!passedDrugTest) {
@@ -65,11 +45,13 @@ public class DrugTest extends RandomEvent {
 	 * Probability is based on how far through the tournament you are in the game
 	 * and the difficulty of the game.
 	 * 
+	 * @param gameEnvironment The game environment the team belongs to
+	 * @param playerTeam      The player's team, which is tested.
 	 * @return The probability of the event occuring in range: [0.0, 1.0)
 	 */
 	@Override
-	protected float getProbability() {
-		final float tournamentProgression = gameEnvironment.getWeek() / gameEnvironment.getSeasonLength();
+	protected float getProbability(GameEnvironment gameEnvironment, Team playerTeam) {
+		final float tournamentProgression = (float) gameEnvironment.getWeek() / gameEnvironment.getSeasonLength();
 		return 0.2f * tournamentProgression * gameEnvironment.getDifficulty();
 	}
 }
@@ -0,0 +1,255 @@
+package game.randomevent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+import enumeration.RandomStream;
+import game.GameEnvironment;
+import util.RandomService;
+
+/**
+ * Schedules the weekly random events of the player's team and its athletes.
+ * Each target registers the shared events that apply to it, and the scheduler
+ * keeps the scheduling state of every pair of event and target. Instead of
+ * asking every pair each week whether it happens, the week each event next
+ * happens is sampled from a geometric distribution with the event's
+ * probability, and the events are kept in order of that week. A week only costs
+ * as much as the events that happen in it. An event is only sampled again after
+ * it happens, or when its probability changes.
+ *
+ * @author Findlay Royds
+ * @version 1.1, May 2023.
+ */
+public class EventScheduler {
+	/**
+	 * The scheduled week of an event that isn't scheduled.
+	 */
+	static final int NOT_SCHEDULED = -1;
+
+	/**
+	 * Orders events by the week they are scheduled for, then by the order they
+	 * were registered.
+	 */
+	private static final Comparator<ScheduledEvent<?>> SCHEDULE_ORDER = Comparator
+			.comparingInt((ScheduledEvent<?> event) -> event.scheduledWeek).thenComparingInt(event -> event.eventId);
+
+	/**
+	 * The game environment the scheduler belongs to.
+	 */
+	private GameEnvironment gameEnvironment;
+
+	/**
+	 * The events that will happen, in the order they happen.
+	 */
+	private final TreeSet<ScheduledEvent<?>> scheduledEvents = new TreeSet<ScheduledEvent<?>>(SCHEDULE_ORDER);
+
+	/**
+	 * The events of every target the scheduler is responsible for, including
+	 * events that can't currently happen.
+	 */
+	private final Map<Object, List<ScheduledEvent<?>>> registeredTargets =
+			new LinkedHashMap<Object, List<ScheduledEvent<?>>>();
+
+	/**
+	 * The id given to the next event registered.
+	 */
+	private int nextEventId = 0;
+
+	/**
+	 * Constructor for EventScheduler.
+	 *
+	 * @param gameEnvironment The game environment the scheduler belongs to.
+	 */
+	public EventScheduler(GameEnvironment gameEnvironment) {
+		this.gameEnvironment = gameEnvironment;
+	}
+
+	/**
+	 * Starts scheduling events for a target. If the target is already registered,
+	 * the schedule of its events is refreshed instead.
+	 *
+	 * @param <T>    The type of the target
+	 * @param target The target the events happen to
+	 * @param events The events that can happen to the target
+	 */
+	public <T> void register(T target, List<? extends RandomEvent<T>> events) {
+		if (registeredTargets.containsKey(target)) {
+			refresh(target);
+			return;
+		}
+		List<ScheduledEvent<?>> targetEvents = new ArrayList<ScheduledEvent<?>>(events.size());
+		for (RandomEvent<T> event : events) {
+			ScheduledEvent<T> scheduledEvent = new ScheduledEvent<T>(event, target, nextEventId++);
+			targetEvents.add(scheduledEvent);
+			sample(scheduledEvent);
+		}
+		registeredTargets.put(target, targetEvents);
+	}
+
+	/**
+	 * Stops scheduling events for a target.
+	 *
+	 * @param target The target to stop scheduling events for
+	 */
+	public void cancel(Object target) {
+		List<ScheduledEvent<?>> targetEvents = registeredTargets.remove(target);
+		if (targetEvents == null)
+			return;
+		for (ScheduledEvent<?> event : targetEvents) {
+			unschedule(event);
+			event.cancelled = true;
+		}
+	}
+
+	/**
+	 * Samples the week each of a target's events next happens again, if its
+	 * probability has changed since it was last sampled.
+	 *
+	 * @param target The target whose events' probabilities may have changed
+	 */
+	public void refresh(Object target) {
+		List<ScheduledEvent<?>> targetEvents = registeredTargets.get(target);
+		if (targetEvents == null)
+			return;
+		for (ScheduledEvent<?> event : targetEvents)
+			refreshEvent(event);
+	}
+
+	/**
+	 * Refreshes every registered event, such as after the difficulty changes.
+	 */
+	public void refreshAll() {
+		for (List<ScheduledEvent<?>> targetEvents : registeredTargets.values()) {
+			for (ScheduledEvent<?> event : targetEvents)
+				refreshEvent(event);
+		}
+	}
+
+	/**
+	 * Samples the week every registered event next happens again, such as after
+	 * the game's seed changes.
+	 */
+	public void resampleAll() {
+		for (List<ScheduledEvent<?>> targetEvents : registeredTargets.values()) {
+			for (ScheduledEvent<?> event : targetEvents) {
+				unschedule(event);
+				sample(event);
+			}
+		}
+	}
+
+	/**
+	 * @param target A target
+	 * @return The target's events, in the order they were registered. Empty if
+	 *         the target isn't registered.
+	 */
+	public List<ScheduledEvent<?>> getEvents(Object target) {
+		List<ScheduledEvent<?>> targetEvents = registeredTargets.get(target);
+		if (targetEvents == null)
+			return Collections.emptyList();
+		return Collections.unmodifiableList(targetEvents);
+	}
+
+	/**
+	 * Removes the events scheduled for a week or earlier from the schedule. The
+	 * caller makes them happen, then passes them to reschedule.
+	 *
+	 * @param week The week that is starting
+	 * @return The events that happen this week, in the order they should happen
+	 */
+	public List<ScheduledEvent<?>> pollDue(int week) {
+		List<ScheduledEvent<?>> dueEvents = new ArrayList<ScheduledEvent<?>>();
+		while (!scheduledEvents.isEmpty() && scheduledEvents.first().scheduledWeek <= week) {
+			ScheduledEvent<?> event = scheduledEvents.pollFirst();
+			event.scheduledWeek = NOT_SCHEDULED;
+			dueEvents.add(event);
+		}
+		return dueEvents;
+	}
+
+	/**
+	 * Samples the week each event that just happened next happens. Events that
+	 * were cancelled, or were already sampled again because their probability
+	 * changed, are skipped.
+	 *
+	 * @param events The events that just happened
+	 */
+	public void reschedule(List<ScheduledEvent<?>> events) {
+		for (ScheduledEvent<?> event : events) {
+			if (!event.cancelled && event.scheduledWeek == NOT_SCHEDULED)
+				sample(event);
+		}
+	}
+
+	/**
+	 * @return The number of events that will happen at some point
+	 */
+	public int getNumberOfScheduledEvents() {
+		return scheduledEvents.size();
+	}
+
+	/**
+	 * Samples the week an event next happens again, if its probability has
+	 * changed since it was last sampled.
+	 *
+	 * @param event The event whose probability may have changed
+	 */
+	private void refreshEvent(ScheduledEvent<?> event) {
+		if (event.getProbability(gameEnvironment) == event.scheduledProbability)
+			return;
+		unschedule(event);
+		sample(event);
+	}
+
+	/**
+	 * Removes an event from the schedule, if it is on it.
+	 *
+	 * @param event The event to remove
+	 */
+	private void unschedule(ScheduledEvent<?> event) {
+		if (event.scheduledWeek != NOT_SCHEDULED) {
+			scheduledEvents.remove(event);
+			event.scheduledWeek = NOT_SCHEDULED;
+		}
+	}
+
+	/**
+	 * Samples the week an event next happens from the geometric distribution of
+	 * its probability, starting from the next week in which events can happen.
+	 * Each sample draws from its own stream, keyed by the event's id and how many
+	 * times it has been sampled, so the schedule doesn't depend on the order
+	 * events are sampled in.
+	 *
+	 * @param event The event to schedule. It must not be on the schedule.
+	 */
+	private void sample(ScheduledEvent<?> event) {
+		RandomService randomService = gameEnvironment.getRandomService();
+		if (randomService == null) {
+			// The seed hasn't been set yet, so sample again when it is
+			event.scheduledProbability = Float.NaN;
+			return;
+		}
+
+		float probability = event.getProbability(gameEnvironment);
+		event.scheduledProbability = probability;
+		if (probability <= 0)
+			return;
+
+		// Random events don't happen in the first week
+		long firstWeek = Math.max(gameEnvironment.getWeek() + 1, 2);
+		long weeksUntil = 0;
+		if (probability < 1) {
+			Random rng = randomService.getStream(RandomStream.EVENT_SCHEDULE, event.eventId, event.numberOfSamples);
+			weeksUntil = (long) (Math.log(1 - rng.nextDouble()) / Math.log1p(-probability));
+		}
+		++event.numberOfSamples;
+		event.scheduledWeek = (int) Math.min(firstWeek + weeksUntil, Integer.MAX_VALUE);
+		scheduledEvents.add(event);
+	}
+}
@@ -5,49 +5,58 @@ import java.util.Random;
 import game.GameEnvironment;
 
 /**
- * The abstract random event class. Contains the abstract trigger() method.
- * 
+ * The abstract random event class. Contains the abstract trigger() method. A
+ * random event holds no state of its own: the game environment and the target
+ * it affects, such as an athlete or a team, are passed to every method, so a
+ * single shared instance of each event, kept in RandomEventRegistry, serves
+ * every target.
+ *
  * @author Findlay Royds
- * @version 1.0, May 2023.
+ * @param <T> The type of the targets the event affects
+ * @version 1.2, May 2023.
  */
-public abstract class RandomEvent {
-	/**
-	 * Stores the game environment the random event was created in
-	 */
-	GameEnvironment gameEnvironment;
-
-	/**
-	 * The constructor for the random event abstract class
-	 * 
-	 * @param gameEnvironment The game environment the random event is being created
-	 *                        in
-	 */
-	public RandomEvent(GameEnvironment gameEnvironment) {
-		this.gameEnvironment = gameEnvironment;
-	}
-
+public abstract class RandomEvent<T> {
 	/**
 	 * The abstract method that causes the random event to actually happen.
+	 *
+	 * @param gameEnvironment The game environment the target belongs to
+	 * @param target          The target the event happens to
 	 */
-	protected abstract void occur();
+	protected abstract void occur(GameEnvironment gameEnvironment, T target);
 
 	/**
 	 * Calculates and returns the probability that the event will actually occur.
-	 * 
+	 *
+	 * @param gameEnvironment The game environment the target belongs to
+	 * @param target          The target the event would happen to
 	 * @return The probability of the event occuring in range: [0.0, 1.0)
 	 */
-	protected abstract float getProbability();
+	protected abstract float getProbability(GameEnvironment gameEnvironment, T target);
+
+	/**
+	 * Makes the event happen, regardless of its probability. Used by the game to
+	 * make scheduled events happen in the week they were scheduled for.
+	 *
+	 * @param gameEnvironment The game environment the target belongs to
+	 * @param target          The target the event happens to
+	 */
+	public void fire(GameEnvironment gameEnvironment, T target) {
+		occur(gameEnvironment, target);
+	}
 
 	/**
 	 * Randomly determines whether the event should occur based on the event's
 	 * probability. If it should, the occur() method is called by this method
+	 *
+	 * @param gameEnvironment The game environment the target belongs to
+	 * @param target          The target the event may happen to
 	 */
-	public void trigger() {
+	public void trigger(GameEnvironment gameEnvironment, T target) {
 		Random rng = gameEnvironment.getRng();
-		float probability = getProbability();
+		float probability = getProbability(gameEnvironment, target);
 
 		if (rng.nextFloat() < probability) {
-			occur();
+			occur(gameEnvironment, target);
 		}
 	}
 }
@@ -0,0 +1,70 @@
+package game.randomevent;
+
+import java.util.List;
+
+import game.Athlete;
+import game.GameEnvironment;
+import game.Team;
+
+/**
+ * Holds the single shared instance of every random event, grouped by the kind
+ * of target they affect. Athletes and teams don't create events of their own;
+ * their events are evaluated against them through the registry.
+ *
+ * @author Findlay Royds
+ * @version 1.0, May 2023.
+ */
+public class RandomEventRegistry {
+	/**
+	 * The event for one of an athlete's statistics increasing.
+	 */
+	public static final RandomEvent<Athlete> STATISTIC_INCREASE = new StatisticIncrease();
+
+	/**
+	 * The event for an athlete quitting their team.
+	 */
+	public static final RandomEvent<Athlete> ATHLETE_QUITS = new AthleteQuits();
+
+	/**
+	 * The event for a new athlete joining a team's reserves.
+	 */
+	public static final RandomEvent<Team> ATHLETE_JOINS = new AthleteJoins();
+
+	/**
+	 * The event for the player's team being tested for steroid use.
+	 */
+	public static final RandomEvent<Team> DRUG_TEST = new DrugTest();
+
+	/**
+	 * The weekly events of every athlete on the player's team, in the order they
+	 * are evaluated.
+	 */
+	public static final List<RandomEvent<Athlete>> ATHLETE_EVENTS = List.of(STATISTIC_INCREASE, ATHLETE_QUITS);
+
+	/**
+	 * The weekly events of the player's team, in the order they are evaluated.
+	 */
+	public static final List<RandomEvent<Team>> TEAM_EVENTS = List.of(ATHLETE_JOINS);
+
+	/**
+	 * Triggers every weekly event of an athlete.
+	 *
+	 * @param gameEnvironment The game environment the athlete belongs to
+	 * @param athlete         The athlete whose events are triggered
+	 */
+	public static void triggerAll(GameEnvironment gameEnvironment, Athlete athlete) {
+		for (RandomEvent<Athlete> event : ATHLETE_EVENTS)
+			event.trigger(gameEnvironment, athlete);
+	}
+
+	/**
+	 * Triggers every weekly event of a team.
+	 *
+	 * @param gameEnvironment The game environment the team belongs to
+	 * @param team            The team whose events are triggered
+	 */
+	public static void triggerAll(GameEnvironment gameEnvironment, Team team) {
+		for (RandomEvent<Team> event : TEAM_EVENTS)
+			event.trigger(gameEnvironment, team);
+	}
+}
@@ -0,0 +1,108 @@
+package game.randomevent;
+
+import game.GameEnvironment;
+
+/**
+ * A random event scheduled for a particular target by an EventScheduler. Holds
+ * the scheduling state of the pair, since the events themselves are shared
+ * between every target.
+ *
+ * @author Findlay Royds
+ * @param <T> The type of the target the event affects
+ * @version 1.0, May 2023.
+ */
+public final class ScheduledEvent<T> {
+	/**
+	 * The event that is scheduled.
+	 */
+	private final RandomEvent<T> event;
+
+	/**
+	 * The target the event happens to.
+	 */
+	private final T target;
+
+	/**
+	 * The id the scheduler gave the pair, in the order pairs were registered.
+	 */
+	final int eventId;
+
+	/**
+	 * The week the event is scheduled to happen in, or -1 if it isn't scheduled.
+	 */
+	int scheduledWeek = EventScheduler.NOT_SCHEDULED;
+
+	/**
+	 * The probability the scheduled week was sampled with.
+	 */
+	float scheduledProbability;
+
+	/**
+	 * The number of times the scheduled week has been sampled.
+	 */
+	int numberOfSamples;
+
+	/**
+	 * Whether the scheduler has stopped scheduling the pair.
+	 */
+	boolean cancelled;
+
+	/**
+	 * Constructor for ScheduledEvent.
+	 *
+	 * @param event   The event that is scheduled
+	 * @param target  The target the event happens to
+	 * @param eventId The id the scheduler gave the pair
+	 */
+	ScheduledEvent(RandomEvent<T> event, T target, int eventId) {
+		this.event = event;
+		this.target = target;
+		this.eventId = eventId;
+	}
+
+	/**
+	 * @param gameEnvironment The game environment the target belongs to
+	 * @return The probability the event happens to the target this week
+	 */
+	float getProbability(GameEnvironment gameEnvironment) {
+		return event.getProbability(gameEnvironment, target);
+	}
+
+	/**
+	 * Makes the event happen to the target.
+	 *
+	 * @param gameEnvironment The game environment the target belongs to
+	 */
+	public void fire(GameEnvironment gameEnvironment) {
+		event.fire(gameEnvironment, target);
+	}
+
+	/**
+	 * @return The event that is scheduled
+	 */
+	public RandomEvent<T> getEvent() {
+		return event;
+	}
+
+	/**
+	 * @return The target the event happens to
+	 */
+	public T getTarget() {
+		return target;
+	}
+
+	/**
+	 * @return The id the scheduler gave the pair
+	 */
+	public int getEventId() {
+		return eventId;
+	}
+
+	/**
+	 * @return The week the event is scheduled to happen in, or -1 if it isn't
+	 *         scheduled
+	 */
+	public int getScheduledWeek() {
+		return scheduledWeek;
+	}
+}
@@ -10,31 +10,17 @@ import game.GameEnvironment;
  * The random event for one of an athlete's statistics increasing.
  * 
  * @author Findlay Royds
- * @version 1.0, May 2023.
+ * @version 1.2, May 2023.
  */
-public class StatisticIncrease extends RandomEvent {
+public class StatisticIncrease extends RandomEvent<Athlete> {
 	/**
-	 * The athlete this random event affects
-	 */
-	private Athlete athlete;
-
-	/**
-	 * Constructor for the statistic increase random event. Sets the athlete that
-	 * the random event effects.
+	 * This method causes a random one of the athlete's statistics to increase.
 	 * 
-	 * @param gameEnvironment The game environment that the athlete belongs to.
+	 * @param gameEnvironment The game environment the athlete belongs to
 	 * @param athlete         The athlete the random event affects.
 	 */
-	public StatisticIncrease(GameEnvironment gameEnvironment, Athlete athlete) {
-		super(gameEnvironment);
-		this.athlete = athlete;
-	}
-
-	/**
-	 * This method causes a random one of the athlete's statistics to increase.
-	 */
 	@Override
-	protected void occur() {
+	protected void occur(GameEnvironment gameEnvironment, Athlete athlete) {
 		Random rng = gameEnvironment.getRng();
 		Statistic[] statistics = Statistic.values();
 		Statistic randomStatistic = statistics[rng.nextInt(statistics.length)];
@@ -46,19 +32,21 @@ public class StatisticIncrease extends RandomEvent {
 		// Alert user that the event occured
 		String message = "Your athlete " + athlete.getName() + " had their " + randomStatistic.name().toLowerCase()
 				+ " statistic increased by " + increaseAmount;
-		gameEnvironment.getUIEnvironment().displayPopup(message);
+		gameEnvironment.applyEffect(() -> gameEnvironment.getUIEnvironment().displayPopup(message));
 	}
 
 	/**
 	 * Calculates and returns the probability of one of the athlete's statistics
 	 * increasing. The probability is determined by the game's difficulty.
 	 * 
+	 * @param gameEnvironment The game environment the athlete belongs to
+	 * @param athlete         The athlete the random event affects.
 	 * @return The probability of the random event occuring in range: [0.0, 1.0).
 	 */
 	@Override
-	protected float getProbability() {
+	protected float getProbability(GameEnvironment gameEnvironment, Athlete athlete) {
 		// Athlete is not resting as the week changes
-		if (!athlete.getTeam().getReserveAthletes().contains(athlete))
+		if (athlete.getTeam() == null || !athlete.getTeam().getReserveAthletes().contains(athlete))
 			return 0.0f;
 		return (4 - gameEnvironment.getDifficulty()) / 100f;
 	}
@@ -0,0 +1,137 @@
+package game.sim;
+
+/**
+ * The immutable outcome of one simulated season.
+ * 
+ * @author Findlay Royds
+ * @version 1.0, May 2023.
+ */
+public final class SeasonResult {
+	/**
+	 * The seed the season was played with
+	 */
+	private final int seed;
+
+	/**
+	 * The difficulty the season was played on
+	 */
+	private final int difficulty;
+
+	/**
+	 * The player's score at the end of the season
+	 */
+	private final int score;
+
+	/**
+	 * The player's money at the end of the season
+	 */
+	private final int money;
+
+	/**
+	 * The number of matches the player played
+	 */
+	private final int matchesPlayed;
+
+	/**
+	 * The number of matches the player won
+	 */
+	private final int matchesWon;
+
+	/**
+	 * The number of weeks that were played before the game ended
+	 */
+	private final int weeksPlayed;
+
+	/**
+	 * Whether the game ended before the end of the season
+	 */
+	private final boolean endedEarly;
+
+	/**
+	 * Constructor for SeasonResult.
+	 * 
+	 * @param seed          The seed the season was played with
+	 * @param difficulty    The difficulty the season was played on
+	 * @param score         The player's final score
+	 * @param money         The player's final money
+	 * @param matchesPlayed The number of matches the player played
+	 * @param matchesWon    The number of matches the player won
+	 * @param weeksPlayed   The number of weeks played before the game ended
+	 * @param endedEarly    Whether the game ended before the end of the season
+	 */
+	public SeasonResult(int seed, int difficulty, int score, int money, int matchesPlayed, int matchesWon,
+			int weeksPlayed, boolean endedEarly) {
+		this.seed = seed;
+		this.difficulty = difficulty;
+		this.score = score;
+		this.money = money;
+		this.matchesPlayed = matchesPlayed;
+		this.matchesWon = matchesWon;
+		this.weeksPlayed = weeksPlayed;
+		this.endedEarly = endedEarly;
+	}
+
+	/**
+	 * @return The seed the season was played with
+	 */
+	public int getSeed() {
+		return seed;
+	}
+
+	/**
+	 * @return The difficulty the season was played on
+	 */
+	public int getDifficulty() {
+		return difficulty;
+	}
+
+	/**
+	 * @return The player's score at the end of the season
+	 */
+	public int getScore() {
+		return score;
+	}
+
+	/**
+	 * @return The player's money at the end of the season
+	 */
+	public int getMoney() {
+		return money;
+	}
+
+	/**
+	 * @return The number of matches the player played
+	 */
+	public int getMatchesPlayed() {
+		return matchesPlayed;
+	}
+
+	/**
+	 * @return The number of matches the player won
+	 */
+	public int getMatchesWon() {
+		return matchesWon;
+	}
+
+	/**
+	 * @return The fraction of played matches that were won, or 0 if no matches
+	 *         were played
+	 */
+	public double getWinRate() {
+		return matchesPlayed == 0 ? 0 : matchesWon / (double) matchesPlayed;
+	}
+
+	/**
+	 * @return The number of weeks that were played before the game ended
+	 */
+	public int getWeeksPlayed() {
+		return weeksPlayed;
+	}
+
+	/**
+	 * @return Whether the game ended before the end of the season
+	 */
+	public boolean getEndedEarly() {
+		return endedEarly;
+	}
+}
@@ -0,0 +1,258 @@
+package game.sim;
+
+import java.util.Map;
+import java.util.Random;
+
+import enumeration.Location;
+import enumeration.Position;
+import game.Athlete;
+import game.GameEnvironment;
+import game.Player;
+import game.Purchasable;
+import game.Team;
+import game.item.Bandaid;
+import game.item.Item;
+import game.location.GameMap;
+import game.location.GameMarket;
+import game.location.GameMatch;
+import game.location.GameMatchSelection;
+import game.location.GameStart;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
+
+/**
+ * Plays one complete season without a user interface. Each session owns its own
+ * GameEnvironment and Random objects, so the result only depends on the seed,
+ * difficulty and season length.
+ *
+ * The simulated player follows a simple strategy each week: fill empty
+ * positions from the athlete market, buy one affordable item and use it, swap
+ * injured active athletes for healthy reserves, then play the weakest opponent
+ * if the team is able to, otherwise take a bye.
+ *
+ * @author Findlay Royds
+ * @version 1.1, May 2023.
+ */
+public class SeasonSession {
+	/**
+	 * The maximum number of popup messages kept by the headless UI environment
+	 */
+	private static final int MESSAGE_CAPACITY = 16;
+
+	/**
+	 * The seed used for the game and for answering popups
+	 */
+	private int seed;
+
+	/**
+	 * The difficulty of the game in range: [1, 3]
+	 */
+	private int difficulty;
+
+	/**
+	 * The length of the season in weeks
+	 */
+	private int seasonLength;
+
+	/**
+	 * The game being played
+	 */
+	private GameEnvironment gameEnvironment;
+
+	/**
+	 * The UI environment of the game
+	 */
+	private HeadlessEnvironment uiEnvironment;
+
+	/**
+	 * The number of matches played so far
+	 */
+	private int matchesPlayed;
+
+	/**
+	 * The number of matches won so far
+	 */
+	private int matchesWon;
+
+	/**
+	 * Constructor for SeasonSession.
+	 *
+	 * @param seed         The seed used for the game and for answering popups
+	 * @param difficulty   The difficulty of the game in range: [1, 3]
+	 * @param seasonLength The length of the season in weeks
+	 */
+	public SeasonSession(int seed, int difficulty, int seasonLength) {
+		this.seed = seed;
+		this.difficulty = difficulty;
+		this.seasonLength = seasonLength;
+	}
+
+	/**
+	 * Plays the season from the start of the game until the game ends.
+	 *
+	 * @return The outcome of the season
+	 */
+	public SeasonResult play() {
+		uiEnvironment = new HeadlessEnvironment(DecisionProvider.random(new Random(seed)), MESSAGE_CAPACITY);
+		gameEnvironment = new GameEnvironment(uiEnvironment);
+		matchesPlayed = 0;
+		matchesWon = 0;
+
+		startGame();
+		while (!gameEnvironment.hasEnded() && uiEnvironment.getCurrentLocation() != Location.END) {
+			buyAthletes();
+			buyItem();
+			setLineup();
+
+			GameMatchSelection matchSelection = (GameMatchSelection) gameEnvironment
+					.getGameLocation(Location.MATCH_SELECTION);
+			if (matchSelection.canStartMatch())
+				playMatch(matchSelection);
+			else
+				((GameMap) gameEnvironment.getGameLocation(Location.MAP)).takeABye();
+		}
+
+		Player player = gameEnvironment.getPlayer();
+		return new SeasonResult(seed, difficulty, player.getScore(), player.getMoney(), matchesPlayed, matchesWon,
+				Math.min(gameEnvironment.getWeek(), seasonLength), gameEnvironment.getWeek() <= seasonLength);
+	}
+
+	/**
+	 * Sets up the game and chooses the best starting athlete for each position.
+	 */
+	private void startGame() {
+		GameStart start = (GameStart) gameEnvironment.getGameLocation(Location.START);
+		start.setTeamName("Simulated");
+		start.setSeasonLength(seasonLength);
+		start.setSeed(seed);
+		start.setDifficulty(difficulty);
+
+		for (Position position : Position.values()) {
+			Athlete best = null;
+			for (Athlete athlete : start.getStartingAthletes()) {
+				if (best == null || athlete.getMatchScore(position) > best.getMatchScore(position))
+					best = athlete;
+			}
+			start.chooseAthlete(best, position);
+		}
+		start.progressWeek();
+	}
+
+	/**
+	 * Buys the best affordable athletes until every position could be filled, or
+	 * nothing more can be afforded.
+	 */
+	private void buyAthletes() {
+		GameMarket athleteMarket = (GameMarket) gameEnvironment.getGameLocation(Location.ATHLETE_MARKET);
+		Team team = gameEnvironment.getPlayer().getTeam();
+
+		while (team.getUnfilledTeamPositions().size() > team.getReserveAthletes().size()) {
+			Athlete best = null;
+			for (Purchasable purchasable : athleteMarket.getAvailablePurchasables()) {
+				Athlete athlete = (Athlete) purchasable;
+				if (athlete.getPrice() <= athleteMarket.getPlayerMoney()
+						&& (best == null || getScore(athlete) > getScore(best)))
+					best = athlete;
+			}
+			if (best == null)
+				return;
+			athleteMarket.purchase(best);
+		}
+	}
+
+	/**
+	 * Buys the first legal item costing at most a quarter of the player's money
+	 * and uses it on the weakest active athlete. Bandaids are only bought if an
+	 * active athlete is injured, and are used on that athlete.
+	 */
+	private void buyItem() {
+		GameMarket itemMarket = (GameMarket) gameEnvironment.getGameLocation(Location.ITEM_MARKET);
+		Map<Position, Athlete> activeAthletes = gameEnvironment.getPlayer().getTeam().getActiveAthletes();
+
+		Athlete weakest = null, injured = null;
+		for (Athlete athlete : activeAthletes.values()) {
+			if (athlete.isInjured())
+				injured = athlete;
+			if (weakest == null || getScore(athlete) < getScore(weakest))
+				weakest = athlete;
+		}
+		if (weakest == null)
+			return;
+
+		for (Purchasable purchasable : itemMarket.getAvailablePurchasables()) {
+			Item item = (Item) purchasable;
+			boolean isBandaid = item instanceof Bandaid;
+			if (item.getPrice() > itemMarket.getPlayerMoney() / 4 || (isBandaid && injured == null))
+				continue;
+
+			itemMarket.purchase(item);
+			item.applyItem(isBandaid ? injured : weakest);
+			return;
+		}
+	}
+
+	/**
+	 * Swaps injured or missing active athletes for healthy reserves.
+	 */
+	private void setLineup() {
+		Team team = gameEnvironment.getPlayer().getTeam();
+		for (Position position : Position.values()) {
+			Athlete active = team.getActiveAthletes().get(position);
+			if (active != null && !active.isInjured())
+				continue;
+
+			for (Athlete reserve : team.getReserveAthletes()) {
+				if (!reserve.isInjured()) {
+					team.moveToActive(reserve, position);
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Plays a match against the weakest available opponent. The match is
+	 * finished through GameMatch, which gives any rewards and progresses the week.
+	 *
+	 * @param matchSelection The match selection location of the game
+	 */
+	private void playMatch(GameMatchSelection matchSelection) {
+		Team weakest = null;
+		for (Team team : matchSelection.getTeams()) {
+			if (weakest == null || getScore(team) < getScore(weakest))
+				weakest = team;
+		}
+		matchSelection.playMatch(weakest);
+
+		GameMatch match = (GameMatch) gameEnvironment.getGameLocation(Location.MATCH);
+		match.play();
+
+		// A match is only won if it awards points, which it doesn't if all the
+		// player's athletes were injured
+		int scoreBefore = gameEnvironment.getPlayer().getScore();
+		match.finish();
+		++matchesPlayed;
+		if (gameEnvironment.getPlayer().getScore() > scoreBefore)
+			++matchesWon;
+	}
+
+	/**
+	 * @param athlete The athlete to score
+	 * @return The athlete's match score when playing in their role
+	 */
+	private static int getScore(Athlete athlete) {
+		return athlete.getRoleMatchScore();
+	}
+
+	/**
+	 * @param team The team to score
+	 * @return The total match score of the team's active athletes
+	 */
+	private static int getScore(Team team) {
+		int total = 0;
+		for (Athlete athlete : team.getActiveAthletes().values()) {
+			total += getScore(athlete);
+		}
+		return total;
+	}
+}
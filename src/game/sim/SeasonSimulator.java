@@ -0,0 +1,135 @@
+package game.sim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Simulates many complete seasons in parallel and reports the distribution of
+ * their outcomes for each difficulty. Every season is played by its own
+ * SeasonSession, so the results for a seed are the same whatever the number of
+ * threads.
+ *
+ * Usage: java game.sim.SeasonSimulator [-seeds N] [-first-seed S] [-length L]
+ * [-threads T]
+ *
+ * @author Findlay Royds
+ * @version 1.0, May 2023.
+ */
+public class SeasonSimulator {
+	/**
+	 * The difficulties a season can be played on
+	 */
+	private static final int[] DIFFICULTIES = { 1, 2, 3 };
+
+	/**
+	 * Simulates one season for each seed in range: [firstSeed, firstSeed +
+	 * numberOfSeeds).
+	 *
+	 * @param difficulty    The difficulty every season is played on
+	 * @param seasonLength  The length of every season in weeks
+	 * @param firstSeed     The seed of the first season
+	 * @param numberOfSeeds The number of seasons to simulate
+	 * @param parallelism   The number of threads to simulate seasons on
+	 * @return The result of each season, in seed order
+	 */
+	public static List<SeasonResult> simulate(int difficulty, int seasonLength, int firstSeed, int numberOfSeeds,
+			int parallelism) {
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			List<ForkJoinTask<SeasonResult>> tasks = new ArrayList<ForkJoinTask<SeasonResult>>(numberOfSeeds);
+			for (int i = 0; i < numberOfSeeds; ++i) {
+				SeasonSession session = new SeasonSession(firstSeed + i, difficulty, seasonLength);
+				tasks.add(pool.submit(session::play));
+			}
+
+			List<SeasonResult> results = new ArrayList<SeasonResult>(numberOfSeeds);
+			for (ForkJoinTask<SeasonResult> task : tasks) {
+				results.add(task.join());
+			}
+			return results;
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Summarises a distribution of values as its mean and percentiles.
+	 *
+	 * @param results The results to summarise
+	 * @param value   The value to take from each result
+	 * @return A line of text describing the distribution
+	 */
+	private static String describe(List<SeasonResult> results, ToDoubleFunction<SeasonResult> value) {
+		double[] values = results.stream().mapToDouble(value).sorted().toArray();
+		if (values.length == 0)
+			return "no results";
+		return String.format("mean %10.2f | min %10.2f | p10 %10.2f | p50 %10.2f | p90 %10.2f | max %10.2f",
+				Arrays.stream(values).average().getAsDouble(), values[0], percentile(values, 0.1),
+				percentile(values, 0.5), percentile(values, 0.9), values[values.length - 1]);
+	}
+
+	/**
+	 * @param sortedValues The values in ascending order
+	 * @param fraction     The percentile as a fraction in range: [0.0, 1.0]
+	 * @return The value at the given percentile, using the nearest rank
+	 */
+	private static double percentile(double[] sortedValues, double fraction) {
+		int rank = (int) Math.ceil(fraction * sortedValues.length);
+		return sortedValues[Math.max(0, rank - 1)];
+	}
+
+	/**
+	 * Prints the distributions of score, money and win rate for a set of seasons.
+	 *
+	 * @param difficulty The difficulty the seasons were played on
+	 * @param results    The results of the seasons
+	 */
+	private static void printReport(int difficulty, List<SeasonResult> results) {
+		long endedEarly = results.stream().filter(SeasonResult::getEndedEarly).count();
+		System.out.println("Difficulty " + difficulty + " (" + results.size() + " seasons, " + endedEarly
+				+ " ended early)");
+		System.out.println("  score    " + describe(results, SeasonResult::getScore));
+		System.out.println("  money    " + describe(results, SeasonResult::getMoney));
+		System.out.println("  win rate " + describe(results, SeasonResult::getWinRate));
+		System.out.println("  weeks    " + describe(results, SeasonResult::getWeeksPlayed));
+	}
+
+	/**
+	 * Simulates seasons for every difficulty and prints a report for each.
+	 *
+	 * @param args The command line arguments. Accepts -seeds, -first-seed,
+	 *             -length and -threads, each followed by an integer.
+	 */
+	public static void main(String[] args) {
+		int numberOfSeeds = 1000;
+		int firstSeed = 0;
+		int seasonLength = 10;
+		int parallelism = Runtime.getRuntime().availableProcessors();
+
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			int value = Integer.parseInt(args[i + 1]);
+			if (args[i].equals("-seeds"))
+				numberOfSeeds = value;
+			else if (args[i].equals("-first-seed"))
+				firstSeed = value;
+			else if (args[i].equals("-length"))
+				seasonLength = value;
+			else if (args[i].equals("-threads"))
+				parallelism = value;
+			else
+				System.out.println("Ignoring unknown option " + args[i]);
+		}
+
+		for (int difficulty : DIFFICULTIES) {
+			long startTime = System.nanoTime();
+			List<SeasonResult> results = simulate(difficulty, seasonLength, firstSeed, numberOfSeeds, parallelism);
+			long elapsedMillis = (System.nanoTime() - startTime) / 1000000;
+			printReport(difficulty, results);
+			System.out.println("  simulated in " + elapsedMillis + " ms on " + parallelism + " threads\n");
+		}
+	}
+}
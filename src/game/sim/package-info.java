@@ -0,0 +1,8 @@
+/**
+ * A package for simulating complete seasons without a user interface. Used for
+ * checking the balance of the game.
+ * 
+ * @author Findlay Royds
+ * @version 1.0, May 2023.
+ */
+package game.sim;
@@ -0,0 +1,92 @@
+package test.gametest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import enumeration.Position;
+import enumeration.Statistic;
+import game.Athlete;
+import game.AthletePool;
+import game.GameEnvironment;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
+
+/**
+ * Tests the athlete pool class
+ */
+class AthletePoolTest {
+	/**
+	 * The game environment used for testing
+	 */
+	private GameEnvironment gameEnvironment;
+
+	/**
+	 * Sets up a game environment
+	 */
+	@BeforeEach
+	void setUp() {
+		gameEnvironment = new GameEnvironment(new HeadlessEnvironment(DecisionProvider.firstOption()));
+		gameEnvironment.setSeed(0);
+	}
+
+	/**
+	 * Test the pool scores every athlete the same as the athlete does
+	 */
+	@Test
+	void scoreTest() {
+		List<Athlete> athletes = new ArrayList<Athlete>();
+		for (int i = 0; i < 500; ++i)
+			athletes.add((Athlete) Athlete.generateAthlete.apply(i % 10 * 10, gameEnvironment));
+
+		AthletePool pool = new AthletePool(athletes);
+		assertEquals(athletes.size(), pool.size());
+		int[][] scores = pool.scoreAllPositions();
+		for (Position position : Position.values()) {
+			for (int i = 0; i < athletes.size(); ++i)
+				assertEquals(athletes.get(i).getMatchScore(position), scores[position.ordinal()][i]);
+		}
+	}
+
+	/**
+	 * Test the role bonus is truncated the same way as the athlete's
+	 */
+	@Test
+	void roleBonusTest() {
+		Athlete athlete = new Athlete("Test", Position.DEFENDER, 0, gameEnvironment, 0);
+		for (Statistic statistic : Statistic.values())
+			athlete.setStatistic(statistic, 0);
+		athlete.setStatistic(Statistic.FITNESS, 1);
+		athlete.setStatistic(Statistic.JUMPING, 1);
+
+		AthletePool pool = new AthletePool(List.of(athlete));
+		// (30 + 60) * 1.2 = 108
+		assertEquals(108, pool.score(Position.DEFENDER, new int[1])[0]);
+		assertEquals(athlete.getMatchScore(Position.DEFENDER), pool.score(Position.DEFENDER, new int[1])[0]);
+		assertEquals(athlete.getMatchScore(Position.DRIBBLER), pool.score(Position.DRIBBLER, new int[1])[0]);
+	}
+
+	/**
+	 * Test the pool grows and picks up changed statistics when updated
+	 */
+	@Test
+	void addAndUpdateTest() {
+		AthletePool pool = new AthletePool(1);
+		Athlete first = (Athlete) Athlete.generateAthlete.apply(50, gameEnvironment);
+		Athlete second = (Athlete) Athlete.generateAthlete.apply(50, gameEnvironment);
+		assertEquals(0, pool.add(first));
+		assertEquals(1, pool.add(second));
+		assertSame(second, pool.get(1));
+
+		second.setStatistic(Statistic.SHOOTING_POWER, second.getStatistic(Statistic.SHOOTING_POWER) == 0 ? 1 : 0);
+		pool.update(1);
+		int[] scores = pool.score(Position.LONG_SHOOTER, new int[pool.size()]);
+		assertEquals(first.getMatchScore(Position.LONG_SHOOTER), scores[0]);
+		assertEquals(second.getMatchScore(Position.LONG_SHOOTER), scores[1]);
+	}
+}
@@ -6,9 +6,6 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import javax.swing.JFrame;
-
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -19,7 +16,8 @@ import game.GameEnvironment;
 import game.Player;
 import game.Team;
 import game.item.Steroid;
-import userinterface.graphical.GUIEnvironment;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
 
 /**
  * Tests the athlete class
@@ -39,21 +37,11 @@ class AthleteTest {
 	 */
 	@BeforeEach
 	void setUp() {
-		gameEnvironment = new GameEnvironment(false);
+		gameEnvironment = new GameEnvironment(new HeadlessEnvironment(DecisionProvider.firstOption()));
 		gameEnvironment.setSeed(0);
 		athlete = new Athlete("Test", Position.SHORT_SHOOTER, 0, gameEnvironment, 0);
 	}
 
-	/**
-	 * removes gui
-	 */
-	@AfterEach
-	void tearDown() {
-		JFrame frame = ((GUIEnvironment) gameEnvironment.getUIEnvironment()).getFrame();
-		frame.setVisible(false);
-		frame.dispose();
-	}
-
 	/**
 	 * test the constructor
 	 */
@@ -287,6 +275,47 @@ class AthleteTest {
 		assertTrue(boostedScore > normalScore);
 	}
 
+	/**
+	 * test the weight each statistic has for each position
+	 */
+	@Test
+	void matchScoreWeightsTest() {
+		athlete.setStatistic(Statistic.DEFENCE, 1);
+		assertEquals(100, athlete.getMatchScore(Position.DEFENDER));
+		assertEquals(20, athlete.getMatchScore(Position.DUNKER));
+		athlete.setStatistic(Statistic.DEFENCE, 0);
+		athlete.setStatistic(Statistic.FITNESS, 1);
+		assertEquals(800, athlete.getMatchScore(Position.DUNKER));
+		assertEquals(80, athlete.getMatchScore(Position.DRIBBLER));
+		// 40 with a 20% bonus for playing in the athlete's role
+		assertEquals(48, athlete.getMatchScore(Position.SHORT_SHOOTER));
+		athlete.setStatistic(Statistic.FITNESS, 0);
+		athlete.setStatistic(Statistic.SHOOTING_POWER, 3);
+		assertEquals(300, athlete.getMatchScore(Position.LONG_SHOOTER));
+		// 90 with a 20% bonus for playing in the athlete's role
+		assertEquals(108, athlete.getMatchScore(Position.SHORT_SHOOTER));
+	}
+
+	/**
+	 * test that remembered match scores follow changes to statistics
+	 */
+	@Test
+	void matchScoreCacheTest() {
+		athlete.setStatistic(Statistic.DEFENCE, 1);
+		assertEquals(100, athlete.getMatchScore(Position.DEFENDER));
+		assertEquals(100, athlete.getMatchScore(Position.DEFENDER));
+		athlete.setStatistic(Statistic.DEFENCE, 2);
+		assertEquals(200, athlete.getMatchScore(Position.DEFENDER));
+		// Setting a statistic to a clamped value it already has changes nothing
+		athlete.setStatistic(Statistic.DEFENCE, 2);
+		assertEquals(200, athlete.getMatchScore(Position.DEFENDER));
+		athlete.setStatistic(Statistic.FITNESS, 1);
+		assertEquals(230, athlete.getMatchScore(Position.DEFENDER));
+		// 30 * 2 + 40 with a 20% bonus for playing in the athlete's role
+		assertEquals(120, athlete.getRoleMatchScore());
+		assertEquals(athlete.getMatchScore(athlete.getRole()), athlete.getRoleMatchScore());
+	}
+
 	/**
 	 * test applying a steroid item to an athlete
 	 */
@@ -4,26 +4,35 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.swing.JFrame;
 
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import enumeration.Location;
 import enumeration.Position;
+import enumeration.RandomStream;
 import game.Athlete;
 import game.GameEnvironment;
 import game.Player;
+import game.Purchasable;
 import game.Team;
 import game.location.GameEnd;
 import game.location.GameMarket;
 import game.location.GameMatch;
+import game.location.GameMatchSelection;
 import userinterface.UIEnvironment;
 import userinterface.commandline.CLIEnvironment;
 import userinterface.graphical.GUIEnvironment;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
 
 class GameEnvironmentTest {
 
@@ -31,18 +40,11 @@ class GameEnvironmentTest {
 
 	@BeforeEach
 	void setUp() {
-		// initialise gui game environment before each test case
-		gameEnvironment = new GameEnvironment(false);
+		// initialise headless game environment before each test case
+		gameEnvironment = new GameEnvironment(new HeadlessEnvironment(DecisionProvider.firstOption()));
 		gameEnvironment.setSeed(0);
 	}
 
-	@AfterEach
-	void tearDown() {
-		JFrame frame = ((GUIEnvironment) gameEnvironment.getUIEnvironment()).getFrame();
-		frame.setVisible(false);
-		frame.dispose();
-	}
-
 	@Test
 	void rngTest() {
 		gameEnvironment.setSeed(0);
@@ -146,7 +148,115 @@ class GameEnvironmentTest {
 	@Test
 	void gameEnvironmentUITest() {
 		GameEnvironment cliGameEnvironment = new GameEnvironment(true);
-		assertTrue(gameEnvironment.getUIEnvironment() instanceof GUIEnvironment);
+		GameEnvironment guiGameEnvironment = new GameEnvironment(false);
+		assertTrue(gameEnvironment.getUIEnvironment() instanceof HeadlessEnvironment);
+		assertTrue(guiGameEnvironment.getUIEnvironment() instanceof GUIEnvironment);
 		assertTrue(cliGameEnvironment.getUIEnvironment() instanceof CLIEnvironment);
+
+		JFrame frame = ((GUIEnvironment) guiGameEnvironment.getUIEnvironment()).getFrame();
+		frame.setVisible(false);
+		frame.dispose();
+	}
+
+	/**
+	 * Lists the names and prices of the athletes for sale in the athlete market.
+	 */
+	private static String describeAthleteMarket(GameEnvironment gameEnvironment) {
+		StringBuilder description = new StringBuilder();
+		GameMarket athleteMarket = (GameMarket) gameEnvironment.getGameLocation(Location.ATHLETE_MARKET);
+		for (Purchasable purchasable : athleteMarket.getAvailablePurchasables())
+			description.append(((Athlete) purchasable).getName()).append(purchasable.getPrice()).append(';');
+		return description.toString();
+	}
+
+	@Test
+	void locationGenerationIndependentTest() {
+		GameEnvironment visitsEverything = new GameEnvironment(
+				new HeadlessEnvironment(DecisionProvider.firstOption()));
+		visitsEverything.setSeed(5);
+		visitsEverything.setSeasonLength(5);
+		gameEnvironment.setSeed(5);
+		gameEnvironment.setSeasonLength(5);
+
+		for (int week = 0; week < 3; ++week) {
+			visitsEverything.progressWeek();
+			gameEnvironment.progressWeek();
+
+			// Generating other locations first doesn't change the athlete market
+			((GameMarket) visitsEverything.getGameLocation(Location.ITEM_MARKET)).getAvailablePurchasables();
+			((GameMarket) visitsEverything.getGameLocation(Location.BLACK_MARKET)).getAvailablePurchasables();
+			((GameMatchSelection) visitsEverything.getGameLocation(Location.MATCH_SELECTION)).getTeams();
+			assertEquals(describeAthleteMarket(visitsEverything), describeAthleteMarket(gameEnvironment));
+		}
+	}
+
+	/**
+	 * Generates an opposition team from its own stream and describes it.
+	 */
+	private String generateOpponent(int index) {
+		Random rng = gameEnvironment.getRandomService().getStream(RandomStream.OPPONENT_TEAM, 1, index);
+		Team team = gameEnvironment.generateWithRng(rng, () -> Team.generateTeam(50, gameEnvironment));
+		StringBuilder description = new StringBuilder(team.getName());
+		for (Athlete athlete : team.getRoster())
+			description.append(';').append(athlete.getName()).append(athlete.getMatchScore(athlete.getRole()));
+		return description.toString();
+	}
+
+	@Test
+	void concurrentGenerationTest() throws Exception {
+		List<String> serialTeams = new ArrayList<String>();
+		for (int i = 0; i < 8; ++i)
+			serialTeams.add(generateOpponent(i));
+
+		// Generating the same teams on several threads at once gives the same teams
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<String>> futures = new ArrayList<Future<String>>();
+			for (int i = 7; i >= 0; --i) {
+				int index = i;
+				futures.add(executor.submit(() -> generateOpponent(index)));
+			}
+			for (int i = 0; i < 8; ++i)
+				assertEquals(serialTeams.get(7 - i), futures.get(i).get());
+		} finally {
+			executor.shutdown();
+		}
+
+		// The game's own stream is restored afterwards
+		Random gameRng = gameEnvironment.getRng();
+		generateOpponent(0);
+		assertTrue(gameRng == gameEnvironment.getRng());
+	}
+
+	private static String playWeeks(int tickParallelism) {
+		HeadlessEnvironment uiEnvironment = new HeadlessEnvironment(DecisionProvider.firstOption(), 1000);
+		GameEnvironment parallelEnvironment = new GameEnvironment(uiEnvironment);
+		parallelEnvironment.setSeed(3);
+		parallelEnvironment.setSeasonLength(40);
+		parallelEnvironment.setDifficulty(1);
+		parallelEnvironment.setTickParallelism(tickParallelism);
+		Team team = parallelEnvironment.getPlayer().getTeam();
+		for (Position position : Position.values())
+			team.addAthleteToActive((Athlete) Athlete.generateAthlete.apply(50, parallelEnvironment), position);
+		while (team.getNumberOfFreeReserveSlots() > 0)
+			team.addAthleteToReserve((Athlete) Athlete.generateAthlete.apply(50, parallelEnvironment));
+
+		StringBuilder description = new StringBuilder();
+		for (int week = 0; week < 30; ++week) {
+			parallelEnvironment.progressWeek();
+			description.append(describeAthleteMarket(parallelEnvironment));
+		}
+		for (Athlete athlete : team.getRoster())
+			description.append(athlete.getName()).append(athlete.getMatchScore(athlete.getRole())).append(';');
+		description.append(uiEnvironment.getMessages());
+		parallelEnvironment.setTickParallelism(1);
+		return description.toString();
+	}
+
+	@Test
+	void parallelTickTest() {
+		String serial = playWeeks(1);
+		assertTrue(serial.contains("joined") || serial.contains("quit") || serial.contains("had their"));
+		assertEquals(serial, playWeeks(4));
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,134 @@
+package test.gametest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import enumeration.Position;
+import enumeration.Statistic;
+import game.Athlete;
+import game.GameEnvironment;
+import game.LineupSolver;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
+
+/**
+ * Tests the lineup solver class
+ */
+class LineupSolverTest {
+	/**
+	 * The game environment used for testing
+	 */
+	private GameEnvironment gameEnvironment;
+
+	/**
+	 * Sets up a game environment
+	 */
+	@BeforeEach
+	void setUp() {
+		gameEnvironment = new GameEnvironment(new HeadlessEnvironment(DecisionProvider.firstOption()));
+		gameEnvironment.setSeed(0);
+	}
+
+	/**
+	 * @param count The number of athletes to generate
+	 * @return A list of randomly generated athletes
+	 */
+	private List<Athlete> generateAthletes(int count) {
+		List<Athlete> athletes = new ArrayList<Athlete>();
+		for (int i = 0; i < count; ++i)
+			athletes.add((Athlete) Athlete.generateAthlete.apply(50, gameEnvironment));
+		return athletes;
+	}
+
+	/**
+	 * @param lineup A lineup
+	 * @return The total match score of the athletes in their positions
+	 */
+	private int getTotalScore(Map<Position, Athlete> lineup) {
+		int total = 0;
+		for (Map.Entry<Position, Athlete> entry : lineup.entrySet())
+			total += entry.getValue().getMatchScore(entry.getKey());
+		return total;
+	}
+
+	/**
+	 * Finds the best total score by trying every assignment of athletes to
+	 * positions
+	 *
+	 * @param athletes The athletes to choose from
+	 * @param position The ordinal of the next position to fill
+	 * @param used     Whether each athlete has been placed
+	 * @return The best total score of the remaining positions
+	 */
+	private int bruteForce(List<Athlete> athletes, int position, boolean[] used) {
+		if (position == Position.values().length)
+			return 0;
+		int best = 0;
+		for (int i = 0; i < athletes.size(); ++i) {
+			if (used[i])
+				continue;
+			used[i] = true;
+			int score = athletes.get(i).getMatchScore(Position.values()[position])
+					+ bruteForce(athletes, position + 1, used);
+			used[i] = false;
+			best = Math.max(best, score);
+		}
+		return best;
+	}
+
+	/**
+	 * Test the solver finds the best lineup
+	 */
+	@Test
+	void optimalTest() {
+		for (int trial = 0; trial < 20; ++trial) {
+			List<Athlete> athletes = generateAthletes(5 + trial % 6);
+			Map<Position, Athlete> lineup = LineupSolver.solve(athletes);
+			assertEquals(Position.values().length, lineup.size());
+			assertEquals(Position.values().length, lineup.values().stream().distinct().count());
+			assertEquals(bruteForce(athletes, 0, new boolean[athletes.size()]), getTotalScore(lineup));
+		}
+	}
+
+	/**
+	 * Test injured athletes are only played when there aren't enough healthy ones
+	 */
+	@Test
+	void injuredTest() {
+		List<Athlete> athletes = generateAthletes(7);
+		for (Athlete athlete : athletes)
+			athlete.setStamina(100);
+		Athlete injured = athletes.get(0);
+		for (Statistic statistic : Statistic.values())
+			injured.setStatistic(statistic, 100);
+		injured.setStamina(0);
+		assertTrue(injured.isInjured());
+		assertFalse(LineupSolver.solve(athletes).containsValue(injured));
+
+		athletes.get(1).setStamina(0);
+		athletes.get(2).setStamina(0);
+		Map<Position, Athlete> lineup = LineupSolver.solve(athletes);
+		assertEquals(Position.values().length, lineup.size());
+		assertEquals(1, lineup.values().stream().filter(athlete -> athlete.isInjured()).count());
+	}
+
+	/**
+	 * Test a lineup is found with fewer athletes than positions, and with none
+	 */
+	@Test
+	void fewAthletesTest() {
+		List<Athlete> athletes = generateAthletes(3);
+		Map<Position, Athlete> lineup = LineupSolver.solve(athletes);
+		assertEquals(3, lineup.size());
+		assertTrue(lineup.values().containsAll(athletes));
+		assertTrue(LineupSolver.solve(new ArrayList<Athlete>()).isEmpty());
+	}
+}
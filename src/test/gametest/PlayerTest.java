@@ -4,9 +4,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import javax.swing.JFrame;
-
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -16,7 +13,8 @@ import game.Team;
 import game.item.Item;
 import game.item.StatisticBoost;
 import game.item.Steroid;
-import userinterface.graphical.GUIEnvironment;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
 
 class PlayerTest {
 	private GameEnvironment gameEnvironment;
@@ -24,18 +22,11 @@ class PlayerTest {
 
 	@BeforeEach
 	void setUp() throws Exception {
-		gameEnvironment = new GameEnvironment(false);
+		gameEnvironment = new GameEnvironment(new HeadlessEnvironment(DecisionProvider.firstOption()));
 		gameEnvironment.setSeed(0);
 		player = gameEnvironment.getPlayer();
 	}
 
-	@AfterEach
-	void tearDown() throws Exception {
-		JFrame frame = ((GUIEnvironment) gameEnvironment.getUIEnvironment()).getFrame();
-		frame.setVisible(false);
-		frame.dispose();
-	}
-
 	@Test
 	void constructorTest() {
 		assertEquals(0, player.getMoney());
@@ -3,19 +3,24 @@ package test.gametest;
 import static org.junit.Assert.assertNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import javax.swing.JFrame;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import enumeration.Position;
+import enumeration.Statistic;
 import game.Athlete;
 import game.GameEnvironment;
+import game.LineupSolver;
 import game.Team;
-import userinterface.graphical.GUIEnvironment;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
 
 class TeamTest {
 	private GameEnvironment gameEnvironment;
@@ -23,18 +28,11 @@ class TeamTest {
 
 	@BeforeEach
 	void setUp() {
-		gameEnvironment = new GameEnvironment(false);
+		gameEnvironment = new GameEnvironment(new HeadlessEnvironment(DecisionProvider.firstOption()));
 		gameEnvironment.setSeed(0);
 		team = gameEnvironment.getPlayer().getTeam();
 	}
 
-	@AfterEach
-	void tearDown() {
-		JFrame frame = ((GUIEnvironment) gameEnvironment.getUIEnvironment()).getFrame();
-		frame.setVisible(false);
-		frame.dispose();
-	}
-
 	@Test
 	void maxReservesTest() {
 		assertEquals(5, Team.getMaxNumberOfReserves());
@@ -111,6 +109,89 @@ class TeamTest {
 		assertFalse(team.moveToReserve((Athlete) Athlete.generateAthlete.apply(0, gameEnvironment)));
 	}
 
+	@Test
+	void rosterTest() {
+		Set<Athlete> roster = team.getRoster();
+		assertEquals(0, roster.size());
+		Athlete activeAthlete = (Athlete) Athlete.generateAthlete.apply(0, gameEnvironment);
+		Athlete reserveAthlete = (Athlete) Athlete.generateAthlete.apply(0, gameEnvironment);
+		team.addAthleteToActive(activeAthlete, Position.DUNKER);
+		team.addAthleteToReserve(reserveAthlete);
+		assertEquals(2, roster.size());
+		assertEquals(2, team.getNumberOfAthletes());
+		assertTrue(roster.contains(activeAthlete));
+		assertTrue(roster.contains(reserveAthlete));
+		assertEquals(team.getAllAthletes(), roster);
+		assertEquals(List.of(reserveAthlete, activeAthlete), new ArrayList<Athlete>(roster));
+		assertThrows(UnsupportedOperationException.class, () -> roster.remove(activeAthlete));
+		team.removeAthlete(activeAthlete);
+		assertFalse(roster.contains(activeAthlete));
+		assertEquals(1, roster.size());
+	}
+
+	@Test
+	void forEachAthleteTest() {
+		Team randomTeam = Team.generateTeam(50, gameEnvironment);
+		List<Athlete> visited = new ArrayList<Athlete>();
+		randomTeam.forEachAthlete(athlete -> visited.add(athlete));
+		assertEquals(new ArrayList<Athlete>(randomTeam.getRoster()), visited);
+
+		// Every athlete is still visited when athletes are removed along the way
+		List<Athlete> removed = new ArrayList<Athlete>();
+		randomTeam.forEachAthlete(athlete -> {
+			removed.add(athlete);
+			randomTeam.removeAthlete(athlete);
+		});
+		assertEquals(visited, removed);
+		assertEquals(0, randomTeam.getNumberOfAthletes());
+	}
+
+	@Test
+	void reserveSlotTest() {
+		List<Athlete> reserves = new ArrayList<Athlete>();
+		for (int i = 0; i < Team.getMaxNumberOfReserves(); i++) {
+			reserves.add((Athlete) Athlete.generateAthlete.apply(0, gameEnvironment));
+			team.addAthleteToReserve(reserves.get(i));
+		}
+
+		// A new reserve fills the slot that was emptied
+		Athlete newReserve = (Athlete) Athlete.generateAthlete.apply(0, gameEnvironment);
+		team.removeAthlete(reserves.get(1));
+		assertFalse(team.getReserveAthletes().contains(reserves.get(1)));
+		assertTrue(team.addAthleteToReserve(newReserve));
+		reserves.set(1, newReserve);
+		assertEquals(reserves, new ArrayList<Athlete>(team.getReserveAthletes()));
+
+		// A reserve swapped into a filled position leaves the active athlete in its
+		// slot
+		Athlete activeAthlete = (Athlete) Athlete.generateAthlete.apply(0, gameEnvironment);
+		team.addAthleteToActive(activeAthlete, Position.DRIBBLER);
+		team.moveToActive(reserves.get(3), Position.DRIBBLER);
+		reserves.set(3, activeAthlete);
+		assertEquals(reserves, new ArrayList<Athlete>(team.getReserveAthletes()));
+		assertEquals(1, team.getActiveAthletes().size());
+		assertEquals(Team.getMaxNumberOfReserves() + 1, team.getNumberOfAthletes());
+	}
+
+	@Test
+	void replaceActiveAthleteTest() {
+		Athlete replacedAthlete = (Athlete) Athlete.generateAthlete.apply(0, gameEnvironment);
+		Athlete newAthlete = (Athlete) Athlete.generateAthlete.apply(0, gameEnvironment);
+		team.addAthleteToActive(replacedAthlete, Position.DEFENDER);
+		team.addAthleteToActive(newAthlete, Position.DEFENDER);
+		assertEquals(1, team.getActiveAthletes().size());
+		assertFalse(team.getRoster().contains(replacedAthlete));
+
+		// Adding an athlete who is already on the team moves them
+		team.addAthleteToActive(newAthlete, Position.DUNKER);
+		assertEquals(1, team.getActiveAthletes().size());
+		assertNull(team.getActiveAthletes().get(Position.DEFENDER));
+		assertEquals(newAthlete, team.getActiveAthletes().get(Position.DUNKER));
+		assertTrue(team.addAthleteToReserve(newAthlete));
+		assertEquals(0, team.getActiveAthletes().size());
+		assertEquals(1, team.getNumberOfAthletes());
+	}
+
 	@Test
 	void swapActiveAthletesTest() {
 		Athlete activeAthlete = (Athlete) Athlete.generateAthlete.apply(100, gameEnvironment);
@@ -149,4 +230,57 @@ class TeamTest {
 		assertEquals(5, randomTeam.getReserveAthletes().size());
 		assertEquals(5, randomTeam.getActiveAthletes().values().size());
 	}
+
+	@Test
+	void generatedTeamLineupTest() {
+		Team randomTeam = Team.generateTeam(50, gameEnvironment);
+		assertEquals(LineupSolver.solve(randomTeam.getRoster()), randomTeam.getActiveAthletes());
+	}
+
+	@Test
+	void chooseBestLineupTest() {
+		Athlete reserve = (Athlete) Athlete.generateAthlete.apply(50, gameEnvironment);
+		team.addAthleteToReserve(reserve);
+		for (Position position : Position.values())
+			team.addAthleteToActive((Athlete) Athlete.generateAthlete.apply(50, gameEnvironment), position);
+		for (Statistic statistic : Statistic.values())
+			reserve.setStatistic(statistic, 100);
+
+		team.chooseBestLineup();
+		assertTrue(team.getActiveAthletes().containsValue(reserve));
+		assertEquals(1, team.getReserveAthletes().size());
+		assertEquals(6, team.getNumberOfAthletes());
+		assertEquals(LineupSolver.solve(team.getRoster()), team.getActiveAthletes());
+	}
+
+	@Test
+	void dopedAthletesTest() {
+		Athlete active = (Athlete) Athlete.generateAthlete.apply(50, gameEnvironment);
+		Athlete reserve = (Athlete) Athlete.generateAthlete.apply(50, gameEnvironment);
+		team.addAthleteToActive(active, Position.DUNKER);
+		team.addAthleteToReserve(reserve);
+		assertFalse(team.hasDopedAthletes());
+		assertTrue(team.getDopedAthletes().isEmpty());
+
+		active.setHasUsedSteroids(true);
+		assertTrue(team.hasDopedAthletes());
+		assertEquals(List.of(active), team.getDopedAthletes());
+
+		// Doped athletes are listed in roster order, and keep their status as they move
+		reserve.setHasUsedSteroids(true);
+		assertEquals(List.of(reserve, active), team.getDopedAthletes());
+		team.moveToActive(reserve, Position.DUNKER);
+		assertEquals(List.of(active, reserve), team.getDopedAthletes());
+		assertEquals(2, team.getNumberOfDopedAthletes());
+
+		// Athletes that leave the team take their status with them
+		team.removeAthlete(active);
+		assertEquals(List.of(reserve), team.getDopedAthletes());
+		reserve.sell(gameEnvironment.getPlayer());
+		assertFalse(team.hasDopedAthletes());
+
+		// Doped athletes joining the team are tracked straight away
+		team.addAthleteToReserve(active);
+		assertEquals(List.of(active), team.getDopedAthletes());
+	}
 }
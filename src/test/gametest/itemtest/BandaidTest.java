@@ -4,9 +4,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import javax.swing.JFrame;
-
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -16,24 +13,18 @@ import game.Athlete;
 import game.GameEnvironment;
 import game.Player;
 import game.item.Bandaid;
-import userinterface.graphical.GUIEnvironment;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
 
 class BandaidTest {
 	private GameEnvironment gameEnvironment;
 
 	@BeforeEach
 	void setUp() {
-		gameEnvironment = new GameEnvironment(false);
+		gameEnvironment = new GameEnvironment(new HeadlessEnvironment(DecisionProvider.firstOption()));
 		gameEnvironment.setSeed(0);
 	}
 
-	@AfterEach
-	void tearDown() {
-		JFrame frame = ((GUIEnvironment) gameEnvironment.getUIEnvironment()).getFrame();
-		frame.setVisible(false);
-		frame.dispose();
-	}
-
 	@Test
 	void constructorTest() {
 		Bandaid bandaid = new Bandaid("Test", 0, gameEnvironment);
@@ -0,0 +1,194 @@
+package test.gametest.leaguetest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import enumeration.Location;
+import enumeration.Position;
+import enumeration.Statistic;
+import game.Athlete;
+import game.GameEnvironment;
+import game.Team;
+import game.league.League;
+import game.league.Standings;
+import game.location.GameMatch;
+import game.location.GameMatchSelection;
+import game.location.MatchResult;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
+
+/**
+ * Tests the league class
+ */
+class LeagueTest {
+	/**
+	 * The game environment used for testing
+	 */
+	private GameEnvironment gameEnvironment;
+
+	/**
+	 * Sets up a game environment
+	 */
+	@BeforeEach
+	void setUp() {
+		gameEnvironment = new GameEnvironment(new HeadlessEnvironment(DecisionProvider.firstOption()));
+		gameEnvironment.setSeed(0);
+		gameEnvironment.setDifficulty(2);
+		gameEnvironment.setSeasonLength(10);
+	}
+
+	/**
+	 * @param numberOfTeams The number of computer controlled teams
+	 * @param pool          The threads to generate teams on, or null
+	 * @return A league without the player's team
+	 */
+	private League generateLeague(int numberOfTeams, ForkJoinPool pool) {
+		return League.generate(gameEnvironment, null, numberOfTeams, index -> 20 + index, team -> {
+		}, pool);
+	}
+
+	@Test
+	void generateTest() {
+		League serialLeague = generateLeague(12, null);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		League parallelLeague;
+		try {
+			parallelLeague = generateLeague(12, pool);
+		} finally {
+			pool.shutdown();
+		}
+
+		assertFalse(serialLeague.hasPlayerTeam());
+		assertEquals(12, serialLeague.getTeams().size());
+		// The teams are the same whatever the number of threads
+		for (int i = 0; i < 12; ++i) {
+			Team serialTeam = serialLeague.getTeam(i);
+			Team parallelTeam = parallelLeague.getTeam(i);
+			assertEquals(serialTeam.getName(), parallelTeam.getName());
+			for (Position position : Position.values()) {
+				Athlete serialAthlete = serialTeam.getActiveAthletes().get(position);
+				Athlete parallelAthlete = parallelTeam.getActiveAthletes().get(position);
+				assertEquals(serialAthlete.getName(), parallelAthlete.getName());
+				for (Statistic statistic : Statistic.values())
+					assertEquals(serialAthlete.getStatistic(statistic), parallelAthlete.getStatistic(statistic));
+			}
+		}
+	}
+
+	@Test
+	void playRoundTest() {
+		League league = generateLeague(10, null);
+		int[] stamina = new int[10];
+		for (int i = 0; i < 10; ++i)
+			stamina[i] = league.getTeam(i).getActiveAthletes().get(Position.DUNKER).getStamina();
+
+		for (int round = 0; round < league.getScheduler().getRoundsPerCycle(); ++round) {
+			List<MatchResult> results = league.playRound(null);
+			assertEquals(5, results.size());
+		}
+
+		Standings standings = league.getStandings();
+		int totalWins = 0;
+		for (int i = 0; i < 10; ++i) {
+			assertEquals(9, standings.getPlayed(i));
+			totalWins += standings.getWon(i);
+			// Computer controlled teams don't use up stamina
+			assertEquals(stamina[i], league.getTeam(i).getActiveAthletes().get(Position.DUNKER).getStamina());
+		}
+		assertEquals(45, totalWins);
+	}
+
+	@Test
+	void playRoundParallelTest() {
+		League serialLeague = generateLeague(30, null);
+		League parallelLeague = generateLeague(30, null);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			for (int round = 0; round < 10; ++round) {
+				serialLeague.playRound(null);
+				parallelLeague.playRound(pool);
+			}
+		} finally {
+			pool.shutdown();
+		}
+		for (int i = 0; i < 30; ++i) {
+			assertEquals(serialLeague.getStandings().getTeamAt(i), parallelLeague.getStandings().getTeamAt(i));
+			assertEquals(serialLeague.getStandings().getPairingsFor(i),
+					parallelLeague.getStandings().getPairingsFor(i));
+		}
+	}
+
+	@Test
+	void playerForfeitTest() {
+		Team playerTeam = gameEnvironment.getPlayer().getTeam();
+		League league = League.generate(gameEnvironment, playerTeam, 3, index -> 20, team -> {
+		}, null);
+		assertTrue(league.hasPlayerTeam());
+		assertSame(playerTeam, league.getTeam(League.PLAYER_TEAM_INDEX));
+
+		Team opponent = league.getCurrentPlayerOpponent();
+		assertNotNull(opponent);
+		assertFalse(league.recordPlayerMatch(league.getTeam(0), 5, 0, true));
+		league.playRound(null);
+		assertEquals(1, league.getStandings().getPlayed(League.PLAYER_TEAM_INDEX));
+		assertEquals(0, league.getStandings().getWon(League.PLAYER_TEAM_INDEX));
+	}
+
+	@Test
+	void playerMatchTest() {
+		// A player's team that wins every pairing
+		Team playerTeam = gameEnvironment.getPlayer().getTeam();
+		for (Position position : Position.values()) {
+			Athlete athlete = new Athlete("", position, 100, gameEnvironment, 0);
+			for (Statistic statistic : Statistic.values())
+				athlete.setStatistic(statistic, 100);
+			playerTeam.addAthleteToActive(athlete, position);
+		}
+
+		gameEnvironment.startLeague(6);
+		gameEnvironment.progressWeek();
+		League league = gameEnvironment.getLeague();
+		assertEquals(6, league.getTeams().size());
+		assertEquals(0, league.getRoundsPlayed());
+
+		GameMatchSelection matchSelection = (GameMatchSelection) gameEnvironment
+				.getGameLocation(Location.MATCH_SELECTION);
+		List<Team> teams = matchSelection.getTeams();
+		assertEquals(1, teams.size());
+		assertSame(league.getCurrentPlayerOpponent(), teams.get(0));
+
+		matchSelection.playMatch(teams.get(0));
+		GameMatch match = (GameMatch) gameEnvironment.getGameLocation(Location.MATCH);
+		match.play();
+		match.finish();
+
+		// Finishing the match plays the rest of the round
+		assertEquals(1, league.getRoundsPlayed());
+		assertEquals(2, gameEnvironment.getWeek());
+		Standings standings = league.getStandings();
+		assertEquals(1, standings.getWon(League.PLAYER_TEAM_INDEX));
+		assertEquals(5, standings.getPairingsFor(League.PLAYER_TEAM_INDEX));
+		for (int i = 0; i < 6; ++i)
+			assertEquals(1, standings.getPlayed(i));
+	}
+
+	@Test
+	void noLeagueTest() {
+		assertNull(gameEnvironment.getLeague());
+		GameMatchSelection matchSelection = (GameMatchSelection) gameEnvironment
+				.getGameLocation(Location.MATCH_SELECTION);
+		gameEnvironment.progressWeek();
+		assertEquals(3, matchSelection.getTeams().size());
+		assertNull(matchSelection.getLeague());
+	}
+}
@@ -0,0 +1,101 @@
+package test.gametest.leaguetest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import game.league.Fixture;
+import game.league.RoundRobinScheduler;
+
+/**
+ * Tests the round robin scheduler class
+ */
+class RoundRobinSchedulerTest {
+	/**
+	 * Checks that over a cycle every team plays every other team exactly once,
+	 * and no team plays twice in a round.
+	 *
+	 * @param numberOfTeams The number of teams in the league
+	 */
+	private void checkCycle(int numberOfTeams) {
+		RoundRobinScheduler scheduler = new RoundRobinScheduler(numberOfTeams);
+		int[][] meetings = new int[numberOfTeams][numberOfTeams];
+		int[] homeGames = new int[numberOfTeams];
+		for (int round = 0; round < scheduler.getRoundsPerCycle(); ++round) {
+			boolean[] playing = new boolean[numberOfTeams];
+			Fixture[] fixtures = scheduler.getFixtures(round);
+			assertEquals(numberOfTeams / 2, fixtures.length);
+			for (Fixture fixture : fixtures) {
+				assertEquals(round, fixture.getRound());
+				assertFalse(playing[fixture.getHomeTeam()]);
+				assertFalse(playing[fixture.getAwayTeam()]);
+				playing[fixture.getHomeTeam()] = true;
+				playing[fixture.getAwayTeam()] = true;
+				++meetings[fixture.getHomeTeam()][fixture.getAwayTeam()];
+				++meetings[fixture.getAwayTeam()][fixture.getHomeTeam()];
+				++homeGames[fixture.getHomeTeam()];
+			}
+		}
+
+		for (int i = 0; i < numberOfTeams; ++i) {
+			for (int j = 0; j < numberOfTeams; ++j)
+				assertEquals(i == j ? 0 : 1, meetings[i][j]);
+			// Home and away are shared out as evenly as possible
+			assertTrue(Math.abs(2 * homeGames[i] - (numberOfTeams - 1)) <= 2);
+		}
+	}
+
+	@Test
+	void evenCycleTest() {
+		for (int numberOfTeams = 2; numberOfTeams <= 20; numberOfTeams += 2)
+			checkCycle(numberOfTeams);
+		checkCycle(200);
+	}
+
+	@Test
+	void oddCycleTest() {
+		for (int numberOfTeams = 3; numberOfTeams <= 21; numberOfTeams += 2)
+			checkCycle(numberOfTeams);
+		checkCycle(201);
+	}
+
+	@Test
+	void byeTest() {
+		RoundRobinScheduler scheduler = new RoundRobinScheduler(5);
+		assertEquals(5, scheduler.getRoundsPerCycle());
+		int byes = 0;
+		for (int round = 0; round < scheduler.getRoundsPerCycle(); ++round) {
+			if (scheduler.getFixture(round, 0) == null)
+				++byes;
+		}
+		assertEquals(1, byes);
+	}
+
+	@Test
+	void nextCycleTest() {
+		RoundRobinScheduler scheduler = new RoundRobinScheduler(6);
+		int rounds = scheduler.getRoundsPerCycle();
+		for (int round = 0; round < rounds; ++round) {
+			Fixture[] first = scheduler.getFixtures(round);
+			Fixture[] second = scheduler.getFixtures(round + rounds);
+			Fixture[] third = scheduler.getFixtures(round + 2 * rounds);
+			for (int i = 0; i < first.length; ++i) {
+				// Home and away swap in the second cycle, then swap back
+				assertEquals(first[i].getHomeTeam(), second[i].getAwayTeam());
+				assertEquals(first[i].getAwayTeam(), second[i].getHomeTeam());
+				assertEquals(first[i].getHomeTeam(), third[i].getHomeTeam());
+			}
+		}
+	}
+
+	@Test
+	void tooFewTeamsTest() {
+		assertEquals(0, new RoundRobinScheduler(0).getFixtures(0).length);
+		assertEquals(0, new RoundRobinScheduler(1).getFixtures(0).length);
+		assertNull(new RoundRobinScheduler(1).getFixture(0, 0));
+		assertEquals(1, new RoundRobinScheduler(2).getFixtures(5).length);
+	}
+}
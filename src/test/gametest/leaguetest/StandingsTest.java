@@ -0,0 +1,82 @@
+package test.gametest.leaguetest;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import game.league.Standings;
+
+/**
+ * Tests the standings class
+ */
+class StandingsTest {
+	@Test
+	void recordTest() {
+		Standings standings = new Standings(3);
+		assertArrayEquals(new int[] { 0, 1, 2 }, standings.getRanking());
+
+		standings.record(2, 1, 4, 1, true);
+		assertEquals(1, standings.getPlayed(2));
+		assertEquals(1, standings.getWon(2));
+		assertEquals(1, standings.getLost(1));
+		assertEquals(4, standings.getPairingsFor(2));
+		assertEquals(4, standings.getPairingsAgainst(1));
+		assertArrayEquals(new int[] { 2, 0, 1 }, standings.getRanking());
+		assertEquals(0, standings.getRank(2));
+		assertEquals(2, standings.getRank(1));
+
+		// A win by fewer pairings ranks below
+		standings.record(0, 1, 3, 2, true);
+		assertArrayEquals(new int[] { 2, 0, 1 }, standings.getRanking());
+		standings.record(1, 2, 5, 0, true);
+		assertArrayEquals(new int[] { 1, 0, 2 }, standings.getRanking());
+		assertEquals(1, standings.getTeamAt(0));
+	}
+
+	@Test
+	void forfeitTest() {
+		Standings standings = new Standings(2);
+		standings.record(0, 1, 0, 0, false);
+		assertEquals(1, standings.getWon(1));
+		assertEquals(0, standings.getTeamAt(1));
+	}
+
+	@Test
+	void sameAsSortingTest() {
+		int numberOfTeams = 50;
+		Standings standings = new Standings(numberOfTeams);
+		int[] won = new int[numberOfTeams];
+		int[] pairingsFor = new int[numberOfTeams];
+		int[] pairingsAgainst = new int[numberOfTeams];
+		Random rng = new Random(0);
+
+		for (int match = 0; match < 2000; ++match) {
+			int home = rng.nextInt(numberOfTeams);
+			int away = (home + 1 + rng.nextInt(numberOfTeams - 1)) % numberOfTeams;
+			int homeScore = rng.nextInt(6);
+			int awayScore = 5 - homeScore;
+			boolean homeWon = homeScore > awayScore;
+			standings.record(home, away, homeScore, awayScore, homeWon);
+			++won[homeWon ? home : away];
+			pairingsFor[home] += homeScore;
+			pairingsAgainst[home] += awayScore;
+			pairingsFor[away] += awayScore;
+			pairingsAgainst[away] += homeScore;
+
+			Integer[] expected = new Integer[numberOfTeams];
+			for (int i = 0; i < numberOfTeams; ++i)
+				expected[i] = i;
+			Arrays.sort(expected, Comparator.comparingInt((Integer i) -> -won[i])
+					.thenComparingInt(i -> pairingsAgainst[i] - pairingsFor[i]).thenComparingInt(i -> -pairingsFor[i])
+					.thenComparingInt(i -> i));
+			assertArrayEquals(Arrays.stream(expected).mapToInt(i -> i).toArray(), standings.getRanking());
+			for (int rank = 0; rank < numberOfTeams; ++rank)
+				assertEquals(rank, standings.getRank(standings.getTeamAt(rank)));
+		}
+	}
+}
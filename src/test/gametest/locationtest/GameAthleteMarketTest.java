@@ -5,10 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
-import javax.swing.JFrame;
-
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -17,7 +16,8 @@ import game.Athlete;
 import game.GameEnvironment;
 import game.Purchasable;
 import game.location.GameMarket;
-import userinterface.graphical.GUIEnvironment;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
 
 class GameAthleteMarketTest {
 	private GameEnvironment gameEnvironment;
@@ -25,19 +25,13 @@ class GameAthleteMarketTest {
 
 	@BeforeEach
 	void setUp() {
-		gameEnvironment = new GameEnvironment(false);
+		gameEnvironment = new GameEnvironment(new HeadlessEnvironment(DecisionProvider.firstOption()));
 		gameEnvironment.setSeasonLength(5);
 		gameEnvironment.setSeed(0);
+		gameEnvironment.setDifficulty(2);
 		gameMarket = (GameMarket) gameEnvironment.getGameLocation(Location.ATHLETE_MARKET);
 	}
 
-	@AfterEach
-	void tearDown() {
-		JFrame frame = ((GUIEnvironment) gameEnvironment.getUIEnvironment()).getFrame();
-		frame.setVisible(false);
-		frame.dispose();
-	}
-
 	@Test
 	void constructorTest() {
 		new GameMarket(gameEnvironment, Athlete.generateAthlete, gameEnvironment.getPlayer().getTeam().getAllPurchasables, false, 8);
@@ -84,4 +78,44 @@ class GameAthleteMarketTest {
 		assertEquals(0, gameEnvironment.getPlayer().getTeam().getAllAthletes().size());
 		assertFalse(gameEnvironment.getPlayer().getTeam().getAllAthletes().contains(transactionPurchasable));
 	}
+
+	@Test
+	void canAffordCheapestTest() {
+		gameMarket.update(1);
+		List<Integer> prices = new ArrayList<Integer>();
+		for (Purchasable purchasable : gameMarket.getAvailablePurchasables())
+			prices.add(purchasable.getPrice());
+		Collections.sort(prices);
+		int cheapestTwo = prices.get(0) + prices.get(1);
+
+		assertTrue(gameMarket.canAffordCheapest(0, 0));
+		assertTrue(gameMarket.canAffordCheapest(2, cheapestTwo));
+		assertFalse(gameMarket.canAffordCheapest(2, cheapestTwo - 1));
+		assertFalse(gameMarket.canAffordCheapest(prices.size() + 1, Integer.MAX_VALUE));
+
+		// Buying the cheapest athlete removes it from the index, and selling it adds
+		// it back
+		gameEnvironment.getPlayer().giveMoney(100000);
+		Purchasable cheapest = null;
+		for (Purchasable purchasable : gameMarket.getAvailablePurchasables())
+			if (cheapest == null || purchasable.getPrice() < cheapest.getPrice())
+				cheapest = purchasable;
+		gameMarket.purchase(cheapest);
+		// Buying drops the athlete to their resale price, which must not matter
+		assertTrue(cheapest.getPrice() < prices.get(0));
+		int cheapestRemaining = prices.get(1) + prices.get(2);
+		assertTrue(gameMarket.canAffordCheapest(2, cheapestRemaining));
+		assertFalse(gameMarket.canAffordCheapest(2, cheapestRemaining - 1));
+		assertTrue(gameMarket.canAffordCheapest(prices.size() - 1, Integer.MAX_VALUE));
+		assertFalse(gameMarket.canAffordCheapest(prices.size(), Integer.MAX_VALUE));
+
+		// Selling lists the athlete again at the price it sold for
+		gameMarket.sell(cheapest);
+		prices.set(0, cheapest.getPrice());
+		Collections.sort(prices);
+		cheapestTwo = prices.get(0) + prices.get(1);
+		assertTrue(gameMarket.canAffordCheapest(2, cheapestTwo));
+		assertFalse(gameMarket.canAffordCheapest(2, cheapestTwo - 1));
+		assertTrue(gameMarket.canAffordCheapest(prices.size(), Integer.MAX_VALUE));
+	}
 }
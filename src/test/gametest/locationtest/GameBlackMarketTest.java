@@ -6,9 +6,6 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 
-import javax.swing.JFrame;
-
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -17,7 +14,8 @@ import game.GameEnvironment;
 import game.Purchasable;
 import game.item.Steroid;
 import game.location.GameMarket;
-import userinterface.graphical.GUIEnvironment;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
 
 class GameBlackMarketTest {
 	private GameEnvironment gameEnvironment;
@@ -25,19 +23,12 @@ class GameBlackMarketTest {
 
 	@BeforeEach
 	void setUp() {
-		gameEnvironment = new GameEnvironment(false);
+		gameEnvironment = new GameEnvironment(new HeadlessEnvironment(DecisionProvider.firstOption()));
 		gameEnvironment.setSeasonLength(5);
 		gameEnvironment.setSeed(0);
 		gameMarket = (GameMarket) gameEnvironment.getGameLocation(Location.BLACK_MARKET);
 	}
 
-	@AfterEach
-	void tearDown() {
-		JFrame frame = ((GUIEnvironment) gameEnvironment.getUIEnvironment()).getFrame();
-		frame.setVisible(false);
-		frame.dispose();
-	}
-
 	@Test
 	void constructorTest() {
 		new GameMarket(gameEnvironment, Steroid.generateSteroid, gameEnvironment.getPlayer().getPurchasables, true, 8);
@@ -2,9 +2,6 @@ package test.gametest.locationtest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
-import javax.swing.JFrame;
-
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -12,7 +9,8 @@ import enumeration.Location;
 import game.GameEnvironment;
 import game.Team;
 import game.location.GameEnd;
-import userinterface.graphical.GUIEnvironment;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
 
 class GameEndTest {
 	private GameEnvironment gameEnvironment;
@@ -21,19 +19,12 @@ class GameEndTest {
 
 	@BeforeEach
 	void setUp() {
-		gameEnvironment = new GameEnvironment(false);
+		gameEnvironment = new GameEnvironment(new HeadlessEnvironment(DecisionProvider.firstOption()));
 		gameEnvironment.setSeed(0);
 		team = gameEnvironment.getPlayer().getTeam();
 		gameEnd = (GameEnd) gameEnvironment.getGameLocation(Location.END);
 	}
 
-	@AfterEach
-	void tearDown() {
-		JFrame frame = ((GUIEnvironment) gameEnvironment.getUIEnvironment()).getFrame();
-		frame.setVisible(false);
-		frame.dispose();
-	}
-
 	@Test
 	void constructorTest() {
 		gameEnd = new GameEnd(gameEnvironment);
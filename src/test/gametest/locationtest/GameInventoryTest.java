@@ -2,9 +2,6 @@ package test.gametest.locationtest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
-import javax.swing.JFrame;
-
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -14,7 +11,8 @@ import game.Athlete;
 import game.GameEnvironment;
 import game.item.Item;
 import game.location.GameInventory;
-import userinterface.graphical.GUIEnvironment;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
 
 class GameInventoryTest {
 	private GameEnvironment gameEnvironment;
@@ -22,18 +20,11 @@ class GameInventoryTest {
 
 	@BeforeEach
 	void setUp() {
-		gameEnvironment = new GameEnvironment(false);
+		gameEnvironment = new GameEnvironment(new HeadlessEnvironment(DecisionProvider.firstOption()));
 		gameEnvironment.setSeed(0);
 		gameInventory = (GameInventory) gameEnvironment.getGameLocation(Location.INVENTORY);
 	}
 
-	@AfterEach
-	void tearDown() {
-		JFrame frame = ((GUIEnvironment) gameEnvironment.getUIEnvironment()).getFrame();
-		frame.setVisible(false);
-		frame.dispose();
-	}
-
 	@Test
 	void constructorTest() {
 		gameInventory = new GameInventory(gameEnvironment);
@@ -5,10 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.List;
 
-import javax.swing.JFrame;
-
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -17,7 +15,8 @@ import game.GameEnvironment;
 import game.Purchasable;
 import game.item.Item;
 import game.location.GameMarket;
-import userinterface.graphical.GUIEnvironment;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
 
 class GameItemMarketTest {
 	private GameEnvironment gameEnvironment;
@@ -25,19 +24,12 @@ class GameItemMarketTest {
 
 	@BeforeEach
 	void setUp() {
-		gameEnvironment = new GameEnvironment(false);
+		gameEnvironment = new GameEnvironment(new HeadlessEnvironment(DecisionProvider.firstOption()));
 		gameEnvironment.setSeasonLength(5);
 		gameEnvironment.setSeed(0);
 		gameMarket = (GameMarket) gameEnvironment.getGameLocation(Location.ITEM_MARKET);
 	}
 
-	@AfterEach
-	void tearDown() {
-		JFrame frame = ((GUIEnvironment) gameEnvironment.getUIEnvironment()).getFrame();
-		frame.setVisible(false);
-		frame.dispose();
-	}
-
 	@Test
 	void constructorTest() {
 		new GameMarket(gameEnvironment, Item.generateLegalItem, gameEnvironment.getPlayer().getPurchasables, false, 8);
@@ -83,4 +75,35 @@ class GameItemMarketTest {
 		assertEquals(0, gameEnvironment.getPlayer().getInventory().size());
 		assertFalse(gameEnvironment.getPlayer().getInventory().contains(transactionPurchasable));
 	}
+
+	@Test
+	void lazyGenerationTest() {
+		int[] numberGenerated = { 0 };
+		GameMarket countingMarket = new GameMarket(gameEnvironment, (qualityLevel, environment) -> {
+			++numberGenerated[0];
+			return Item.generateLegalItem.apply(qualityLevel, environment);
+		}, gameEnvironment.getPlayer().getPurchasables, false, 8);
+
+		// Nothing is generated until the market is used
+		countingMarket.update(1);
+		countingMarket.update(2);
+		assertEquals(0, numberGenerated[0]);
+		assertEquals(8, countingMarket.getAvailablePurchasables().size());
+		assertEquals(8, numberGenerated[0]);
+		countingMarket.getAvailablePurchasables();
+		assertEquals(8, numberGenerated[0]);
+
+		// Generating the same week again gives the same items
+		List<Integer> prices = new ArrayList<Integer>();
+		for (Purchasable purchasable : countingMarket.getAvailablePurchasables())
+			prices.add(purchasable.getPrice());
+		countingMarket.update(3);
+		countingMarket.getAvailablePurchasables();
+		countingMarket.update(2);
+		List<Integer> regeneratedPrices = new ArrayList<Integer>();
+		for (Purchasable purchasable : countingMarket.getAvailablePurchasables())
+			regeneratedPrices.add(purchasable.getPrice());
+		assertEquals(24, numberGenerated[0]);
+		assertEquals(prices, regeneratedPrices);
+	}
 }
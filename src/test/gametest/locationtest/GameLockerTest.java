@@ -5,9 +5,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import javax.swing.JFrame;
-
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -16,7 +13,8 @@ import enumeration.Position;
 import game.Athlete;
 import game.GameEnvironment;
 import game.location.GameLocker;
-import userinterface.graphical.GUIEnvironment;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
 
 class GameLockerTest {
 	private GameEnvironment gameEnvironment;
@@ -24,18 +22,11 @@ class GameLockerTest {
 
 	@BeforeEach
 	void setUp() {
-		gameEnvironment = new GameEnvironment(false);
+		gameEnvironment = new GameEnvironment(new HeadlessEnvironment(DecisionProvider.firstOption()));
 		gameEnvironment.setSeed(0);
 		gameLocker = (GameLocker) gameEnvironment.getGameLocation(Location.LOCKER_ROOM);
 	}
 
-	@AfterEach
-	void tearDown() {
-		JFrame frame = ((GUIEnvironment) gameEnvironment.getUIEnvironment()).getFrame();
-		frame.setVisible(false);
-		frame.dispose();
-	}
-
 	@Test
 	void constructorTest() {
 		gameLocker = new GameLocker(gameEnvironment);
@@ -99,4 +90,24 @@ class GameLockerTest {
 		gameEnvironment.getPlayer().getTeam().moveToActive(activeAthlete, Position.SHORT_SHOOTER);
 		assertEquals(activeAthlete, gameLocker.getActive().get(Position.SHORT_SHOOTER));
 	}
+
+	@Test
+	void athletesAtRiskTest() {
+		Athlete athlete = (Athlete) Athlete.generateAthlete.apply(0, gameEnvironment);
+		gameEnvironment.getPlayer().getTeam().addAthleteToActive(athlete, Position.DUNKER);
+		assertTrue(gameLocker.getAthletesAtRisk().isEmpty());
+		athlete.setHasUsedSteroids(true);
+		assertEquals(1, gameLocker.getAthletesAtRisk().size());
+		assertTrue(gameLocker.getAthletesAtRisk().contains(athlete));
+	}
+
+	@Test
+	void chooseBestLineupTest() {
+		Athlete athlete = (Athlete) Athlete.generateAthlete.apply(50, gameEnvironment);
+		gameEnvironment.getPlayer().getTeam().addAthleteToReserve(athlete);
+		gameLocker.chooseBestLineup();
+		assertEquals(0, gameLocker.getReserves().size());
+		assertEquals(1, gameLocker.getActive().size());
+		assertTrue(gameLocker.getActive().containsValue(athlete));
+	}
 }
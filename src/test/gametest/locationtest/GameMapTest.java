@@ -2,16 +2,14 @@ package test.gametest.locationtest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
-import javax.swing.JFrame;
-
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import enumeration.Location;
 import game.GameEnvironment;
 import game.location.GameMap;
-import userinterface.graphical.GUIEnvironment;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
 
 class GameMapTest {
 	private GameEnvironment gameEnvironment;
@@ -19,18 +17,11 @@ class GameMapTest {
 
 	@BeforeEach
 	void setUp() {
-		gameEnvironment = new GameEnvironment(false);
+		gameEnvironment = new GameEnvironment(new HeadlessEnvironment(DecisionProvider.firstOption()));
 		gameEnvironment.setSeed(0);
 		gameMap = (GameMap) gameEnvironment.getGameLocation(Location.MAP);
 	}
 
-	@AfterEach
-	void tearDown() {
-		JFrame frame = ((GUIEnvironment) gameEnvironment.getUIEnvironment()).getFrame();
-		frame.setVisible(false);
-		frame.dispose();
-	}
-
 	@Test
 	void constructorTest() {
 		gameMap = new GameMap(gameEnvironment);
@@ -1,15 +1,14 @@
 package test.gametest.locationtest;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.List;
 
-import javax.swing.JFrame;
-
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -19,7 +18,8 @@ import game.Athlete;
 import game.GameEnvironment;
 import game.Team;
 import game.location.GameMatchSelection;
-import userinterface.graphical.GUIEnvironment;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
 
 class GameMatchSelectionTest {
 	private GameEnvironment gameEnvironment;
@@ -28,7 +28,7 @@ class GameMatchSelectionTest {
 
 	@BeforeEach
 	void setUp() throws Exception {
-		gameEnvironment = new GameEnvironment(false);
+		gameEnvironment = new GameEnvironment(new HeadlessEnvironment(DecisionProvider.firstOption()));
 		team = gameEnvironment.getPlayer().getTeam();
 		gameEnvironment.setSeed(0);
 		gameEnvironment.setSeasonLength(7);
@@ -37,13 +37,6 @@ class GameMatchSelectionTest {
 		gameEnvironment.progressWeek();
 	}
 
-	@AfterEach
-	void tearDown() throws Exception {
-		JFrame frame = ((GUIEnvironment) gameEnvironment.getUIEnvironment()).getFrame();
-		frame.setVisible(false);
-		frame.dispose();
-	}
-
 	@Test
 	void constructorTest() {
 		assertNotNull(gameMatchSelection.getTeams());
@@ -95,4 +88,27 @@ class GameMatchSelectionTest {
 		Team opposingTeam = Team.generateTeam(100, gameEnvironment);
 		gameMatchSelection.playMatch(opposingTeam);
 	}
+
+	@Test
+	void opponentStaminaFloorTest() {
+		// Early opposition athletes are generated with less stamina than the floor
+		for (int week = 0; week < 7; ++week) {
+			for (Team opponent : gameMatchSelection.getTeams())
+				for (Athlete athlete : opponent.getActiveAthletes().values())
+					assertTrue(athlete.getStamina() >= GameMatchSelection.MINIMUM_OPPONENT_STAMINA);
+			gameEnvironment.progressWeek();
+		}
+	}
+
+	@Test
+	void opponentAdjustmentTest() {
+		List<Team> adjustedTeams = new ArrayList<Team>();
+		gameMatchSelection.addOpponentAdjustment(opponent -> adjustedTeams.add(opponent));
+		gameEnvironment.progressWeek();
+
+		// Every adjusted team is listed, and no other teams are generated
+		assertEquals(gameMatchSelection.getTeams(), adjustedTeams);
+		gameMatchSelection.getTeams();
+		assertEquals(gameMatchSelection.getTeams().size(), adjustedTeams.size());
+	}
 }
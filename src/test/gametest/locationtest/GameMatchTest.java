@@ -5,21 +5,24 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import javax.swing.JFrame;
+import java.io.StringWriter;
 
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
 import enumeration.Location;
+import enumeration.MatchMode;
 import enumeration.Position;
 import enumeration.Statistic;
 import game.Athlete;
 import game.GameEnvironment;
 import game.Team;
 import game.location.GameMatch;
-import userinterface.graphical.GUIEnvironment;
+import game.location.MatchRecorder;
+import game.location.MatchResult;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
 
 class GameMatchTest {
 	private GameEnvironment gameEnvironment;
@@ -27,19 +30,12 @@ class GameMatchTest {
 
 	@BeforeEach
 	void setUp() {
-		gameEnvironment = new GameEnvironment(false);
+		gameEnvironment = new GameEnvironment(new HeadlessEnvironment(DecisionProvider.firstOption()));
 		gameEnvironment.setSeed(0);
 		gameEnvironment.setSeasonLength(5);
 		gameMatch = (GameMatch) gameEnvironment.getGameLocation(Location.MATCH);
 	}
 
-	@AfterEach
-	void tearDown() {
-		JFrame frame = ((GUIEnvironment) gameEnvironment.getUIEnvironment()).getFrame();
-		frame.setVisible(false);
-		frame.dispose();
-	}
-
 	@Test
 	void constructorTest() {
 		gameMatch = new GameMatch(gameEnvironment);
@@ -88,6 +84,80 @@ class GameMatchTest {
 		assertEquals(week + 1, gameEnvironment.getWeek());
 	}
 
+	@Test
+	void playWholeMatchTest() {
+		Team team1 = Team.generateTeam(50, gameEnvironment);
+		Team team2 = Team.generateTeam(50, gameEnvironment);
+		int[] stamina1 = new int[Position.values().length];
+		int[] stamina2 = new int[Position.values().length];
+		for (Position position : Position.values()) {
+			stamina1[position.ordinal()] = team1.getActiveAthletes().get(position).getStamina();
+			stamina2[position.ordinal()] = team2.getActiveAthletes().get(position).getStamina();
+		}
+		gameMatch.setTeams(team1, team2);
+
+		MatchResult result = gameMatch.play();
+		assertEquals(result.getTeam1Score(), gameMatch.getTeam1Score());
+		assertEquals(result.getTeam2Score(), gameMatch.getTeam2Score());
+		assertEquals(result.getWinningTeam(), gameMatch.getWinningTeam());
+
+		// Only the first team's athletes use up stamina
+		for (Position position : Position.values()) {
+			int expected = Math.max(0, stamina1[position.ordinal()] - result.getTeam1StaminaLost(position));
+			assertEquals(expected, team1.getActiveAthletes().get(position).getStamina());
+			assertEquals(stamina2[position.ordinal()], team2.getActiveAthletes().get(position).getStamina());
+		}
+	}
+
+	@Test
+	void possessionModeTest() {
+		gameEnvironment.setMatchMode(MatchMode.POSSESSIONS);
+		Team team1 = Team.generateTeam(50, gameEnvironment);
+		Team team2 = Team.generateTeam(50, gameEnvironment);
+		for (Athlete athlete : team1.getActiveAthletes().values())
+			athlete.setStamina(100);
+		gameMatch.setTeams(team1, team2);
+
+		int score1 = 0;
+		for (Position position : Position.values()) {
+			Athlete athlete1 = team1.getActiveAthletes().get(position);
+			Athlete winner = gameMatch.getWinningAthlete(athlete1, team2.getActiveAthletes().get(position));
+			assertNotNull(winner);
+			if (winner == athlete1)
+				++score1;
+			assertEquals(100 - athlete1.getStaminaLoss(athlete1 != winner), athlete1.getStamina());
+		}
+		assertEquals(score1, gameMatch.getTeam1Score());
+		assertEquals(Position.values().length - score1, gameMatch.getTeam2Score());
+
+		// A new match is played again rather than reusing the last one
+		gameMatch.setTeams(team1, team2);
+		MatchResult result = gameMatch.play();
+		assertEquals(result.getTeam1Score(), gameMatch.getTeam1Score());
+		assertEquals(result.getWinningTeam(), gameMatch.getWinningTeam());
+	}
+
+	@Test
+	void recordEventsTest() {
+		StringWriter writer = new StringWriter();
+		MatchRecorder recorder = new MatchRecorder(writer);
+		gameMatch.getEvents().subscribe(recorder);
+		Team team1 = Team.generateTeam(50, gameEnvironment);
+		Team team2 = Team.generateTeam(50, gameEnvironment);
+		gameMatch.setTeams(team1, team2);
+
+		// Playing the whole match at once publishes the same events
+		gameMatch.play();
+		gameMatch.finish();
+		assertEquals(3 * Position.values().length + 1, recorder.getEventsRecorded());
+		String[] lines = writer.toString().split(System.lineSeparator());
+		assertEquals(recorder.getEventsRecorded(), lines.length);
+		assertEquals(Position.values()[0] + ": " + team1.getActiveAthletes().get(Position.values()[0]).getName()
+				+ " vs " + team2.getActiveAthletes().get(Position.values()[0]).getName(), lines[0]);
+		assertEquals("Match finished " + gameMatch.getTeam1Score() + " - " + gameMatch.getTeam2Score(),
+				lines[lines.length - 1]);
+	}
+
 	@Test
 	void sameTeamTest() {
 		Team team = Team.generateTeam(50, gameEnvironment);
@@ -0,0 +1,154 @@
+package test.gametest.locationtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import enumeration.Location;
+import enumeration.Position;
+import game.Athlete;
+import game.GameEnvironment;
+import game.Purchasable;
+import game.location.GameMarket;
+import game.location.MarketOptimiser;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
+
+class MarketOptimiserTest {
+	private static final ToIntFunction<Purchasable> ROLE_SCORE = purchasable -> ((Athlete) purchasable)
+			.getRoleMatchScore();
+
+	private GameEnvironment gameEnvironment;
+	private GameMarket athleteMarket;
+	private MarketOptimiser optimiser;
+
+	@BeforeEach
+	void setUp() {
+		gameEnvironment = new GameEnvironment(new HeadlessEnvironment(DecisionProvider.firstOption()));
+		gameEnvironment.setSeasonLength(5);
+		gameEnvironment.setSeed(0);
+		athleteMarket = (GameMarket) gameEnvironment.getGameLocation(Location.ATHLETE_MARKET);
+		athleteMarket.update(1);
+		optimiser = athleteMarket.getOptimiser();
+	}
+
+	private List<Integer> getSortedPrices() {
+		List<Integer> prices = new ArrayList<Integer>();
+		for (Purchasable purchasable : athleteMarket.getAvailablePurchasables())
+			prices.add(purchasable.getPrice());
+		Collections.sort(prices);
+		return prices;
+	}
+
+	@Test
+	void cheapestTest() {
+		List<Integer> prices = getSortedPrices();
+		assertEquals(0, optimiser.getCheapestCost(0));
+		assertEquals(prices.get(0) + prices.get(1), optimiser.getCheapestCost(2));
+		assertEquals(-1, optimiser.getCheapestCost(prices.size() + 1));
+		assertEquals(2, optimiser.getCheapest(2).size());
+		assertEquals((int) prices.get(0), optimiser.getCheapest(2).get(0).getPrice());
+	}
+
+	@Test
+	void maxAffordableTest() {
+		List<Integer> prices = getSortedPrices();
+		assertEquals(0, optimiser.getMaxAffordable(prices.get(0) - 1));
+		assertEquals(1, optimiser.getMaxAffordable(prices.get(0)));
+		assertEquals(2, optimiser.getMaxAffordable(prices.get(0) + prices.get(1)));
+		assertEquals(prices.size(), optimiser.getMaxAffordable(Integer.MAX_VALUE));
+		assertEquals(0, optimiser.getMaxAffordable(-1));
+	}
+
+	/**
+	 * Finds the best total value by trying every subset of the available
+	 * purchasables
+	 */
+	private int bruteForce(List<Purchasable> purchasables, int slots, int budget) {
+		int best = 0;
+		for (int subset = 0; subset < 1 << purchasables.size(); ++subset) {
+			if (Integer.bitCount(subset) > slots)
+				continue;
+			int cost = 0, value = 0;
+			for (int i = 0; i < purchasables.size(); ++i) {
+				if ((subset & 1 << i) != 0) {
+					cost += purchasables.get(i).getPrice();
+					value += ROLE_SCORE.applyAsInt(purchasables.get(i));
+				}
+			}
+			if (cost <= budget)
+				best = Math.max(best, value);
+		}
+		return best;
+	}
+
+	@Test
+	void bestWithinBudgetTest() {
+		List<Purchasable> available = new ArrayList<Purchasable>(athleteMarket.getAvailablePurchasables());
+		List<Integer> prices = getSortedPrices();
+		int total = 0;
+		for (int price : prices)
+			total += price;
+
+		for (int slots = 0; slots <= available.size(); ++slots) {
+			for (int budget : new int[] { 0, prices.get(0), prices.get(1) + prices.get(2), total / 2, total }) {
+				List<Purchasable> chosen = optimiser.getBestWithinBudget(slots, budget, ROLE_SCORE);
+				int cost = 0, value = 0;
+				for (Purchasable purchasable : chosen) {
+					cost += purchasable.getPrice();
+					value += ROLE_SCORE.applyAsInt(purchasable);
+				}
+				assertTrue(chosen.size() <= slots);
+				assertTrue(cost <= budget);
+				assertEquals(bruteForce(available, slots, budget), value);
+			}
+		}
+	}
+
+	@Test
+	void cacheTest() {
+		List<Purchasable> best = optimiser.getBestWithinBudget(2, 100000, ROLE_SCORE);
+		assertSame(best, optimiser.getBestWithinBudget(2, 100000, ROLE_SCORE));
+
+		// Buying changes the market's stock, so the answers are found again
+		gameEnvironment.getPlayer().giveMoney(100000);
+		athleteMarket.purchase(best.get(0));
+		List<Purchasable> newBest = optimiser.getBestWithinBudget(2, 100000, ROLE_SCORE);
+		assertNotSame(best, newBest);
+		assertFalse(newBest.contains(best.get(0)));
+	}
+
+	@Test
+	void recommendedTest() {
+		// An empty team has room for every athlete, so the recommendation is only
+		// limited by money
+		gameEnvironment.getPlayer().giveMoney(100000);
+		assertEquals(athleteMarket.getAvailablePurchasables().size(), optimiser.getRecommendedPurchases().size());
+
+		// A full team has no room for more athletes
+		for (Position position : Position.values())
+			gameEnvironment.getPlayer().getTeam().addAthleteToActive(
+					(Athlete) Athlete.generateAthlete.apply(50, gameEnvironment), position);
+		while (gameEnvironment.getPlayer().getTeam().getNumberOfFreeReserveSlots() > 0)
+			gameEnvironment.getPlayer().getTeam()
+					.addAthleteToReserve((Athlete) Athlete.generateAthlete.apply(50, gameEnvironment));
+		assertTrue(optimiser.getRecommendedPurchases().isEmpty());
+
+		// Markets of items recommend as many items as the player can afford
+		GameMarket itemMarket = (GameMarket) gameEnvironment.getGameLocation(Location.ITEM_MARKET);
+		itemMarket.update(1);
+		int money = gameEnvironment.getPlayer().getMoney();
+		assertEquals(itemMarket.getOptimiser().getMaxAffordable(money),
+				itemMarket.getOptimiser().getRecommendedPurchases().size());
+	}
+}
@@ -0,0 +1,189 @@
+package test.gametest.locationtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import enumeration.PairingOutcome;
+import enumeration.Position;
+import enumeration.Statistic;
+import game.Athlete;
+import game.GameEnvironment;
+import game.Team;
+import game.location.MatchEngine;
+import game.location.MatchEvaluator;
+import game.location.MatchResult;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
+
+/**
+ * Tests the match engine and match result classes
+ */
+class MatchEngineTest {
+	/**
+	 * The game environment used for testing
+	 */
+	private GameEnvironment gameEnvironment;
+
+	/**
+	 * Sets up a game environment
+	 */
+	@BeforeEach
+	void setUp() {
+		gameEnvironment = new GameEnvironment(new HeadlessEnvironment(DecisionProvider.firstOption()));
+		gameEnvironment.setSeed(0);
+	}
+
+	/**
+	 * @param count The number of teams to generate
+	 * @return A list of randomly generated teams
+	 */
+	private List<Team> generateTeams(int count) {
+		List<Team> teams = new ArrayList<Team>();
+		for (int i = 0; i < count; ++i)
+			teams.add(Team.generateTeam(50, gameEnvironment));
+		return teams;
+	}
+
+	/**
+	 * @param team A team
+	 * @return The stamina of the team's active athletes, by position ordinal
+	 */
+	private int[] getStamina(Team team) {
+		int[] stamina = new int[Position.values().length];
+		for (Position position : Position.values())
+			stamina[position.ordinal()] = team.getActiveAthletes().get(position).getStamina();
+		return stamina;
+	}
+
+	@Test
+	void playTest() {
+		List<Team> teams = generateTeams(2);
+		Team team1 = teams.get(0), team2 = teams.get(1);
+		int[] stamina1 = getStamina(team1);
+		int[] stamina2 = getStamina(team2);
+
+		MatchResult result = MatchEngine.play(team1, team2, new Random(0));
+		assertSame(team1, result.getTeam1());
+		assertSame(team2, result.getTeam2());
+		assertEquals(Position.values().length, result.getTeam1Score() + result.getTeam2Score());
+		assertEquals(result.getTeam1Score() > result.getTeam2Score() ? team1 : team2, result.getWinningTeam());
+
+		for (Position position : Position.values()) {
+			Athlete athlete1 = team1.getActiveAthletes().get(position);
+			Athlete athlete2 = team2.getActiveAthletes().get(position);
+			Athlete winner = result.getWinner(position);
+			PairingOutcome outcome = MatchEvaluator.evaluatePairing(athlete1, athlete2);
+			if (outcome == PairingOutcome.TEAM1_WINS)
+				assertSame(athlete1, winner);
+			else if (outcome == PairingOutcome.TEAM2_WINS)
+				assertSame(athlete2, winner);
+			assertEquals(athlete1.getStaminaLoss(athlete1 != winner), result.getTeam1StaminaLost(position));
+			assertEquals(athlete2.getStaminaLoss(athlete2 != winner), result.getTeam2StaminaLost(position));
+		}
+
+		// Nothing changes until the stamina loss is applied
+		for (int i = 0; i < stamina1.length; ++i) {
+			assertEquals(stamina1[i], getStamina(team1)[i]);
+			assertEquals(stamina2[i], getStamina(team2)[i]);
+		}
+
+		result.applyStaminaLoss(team2);
+		for (Position position : Position.values()) {
+			int expected = Math.max(0, stamina2[position.ordinal()] - result.getTeam2StaminaLost(position));
+			assertEquals(expected, team2.getActiveAthletes().get(position).getStamina());
+			assertEquals(stamina1[position.ordinal()], team1.getActiveAthletes().get(position).getStamina());
+		}
+	}
+
+	@Test
+	void injuredTieDrawTest() {
+		Athlete athlete1 = new Athlete("", Position.DUNKER, 100, gameEnvironment, 0);
+		Athlete athlete2 = new Athlete("", Position.DUNKER, 100, gameEnvironment, 0);
+		for (Statistic statistic : Statistic.values()) {
+			athlete1.setStatistic(statistic, 50);
+			athlete2.setStatistic(statistic, 50);
+		}
+		athlete1.setStamina(0);
+
+		// Equal scores flip a coin even though the injury decides the pairing
+		Random rng = new Random(3);
+		Random expected = new Random(3);
+		expected.nextBoolean();
+		assertSame(athlete2, MatchEngine.decidePairing(athlete1, athlete2, rng));
+		assertEquals(expected.nextInt(), rng.nextInt());
+
+		// Different scores don't
+		athlete2.setStatistic(Statistic.HEIGHT, 60);
+		rng = new Random(3);
+		expected = new Random(3);
+		assertSame(athlete2, MatchEngine.decidePairing(athlete1, athlete2, rng));
+		assertEquals(expected.nextInt(), rng.nextInt());
+	}
+
+	@Test
+	void emptyTeamsTest() {
+		Team team1 = new Team(gameEnvironment, "Team 1");
+		Team team2 = new Team(gameEnvironment, "Team 2");
+		MatchResult result = MatchEngine.play(team1, team2, new Random(0));
+		assertEquals(0, result.getTeam1Score());
+		assertEquals(0, result.getTeam2Score());
+		assertSame(team2, result.getWinningTeam());
+		for (Position position : Position.values()) {
+			assertNull(result.getWinner(position));
+			assertEquals(0, result.getTeam1StaminaLost(position));
+		}
+	}
+
+	@Test
+	void playAllTest() {
+		List<Team> teams = generateTeams(40);
+		List<Team> teams1 = teams.subList(0, 20);
+		List<Team> teams2 = teams.subList(20, 40);
+
+		ForkJoinPool serial = new ForkJoinPool(1);
+		ForkJoinPool parallel = new ForkJoinPool(4);
+		try {
+			List<MatchResult> serialResults = MatchEngine.playAll(teams1, teams2, i -> new Random(i), serial);
+			List<MatchResult> parallelResults = MatchEngine.playAll(teams1, teams2, i -> new Random(i), parallel);
+			assertEquals(teams1.size(), parallelResults.size());
+			for (int i = 0; i < teams1.size(); ++i) {
+				MatchResult expected = MatchEngine.play(teams1.get(i), teams2.get(i), new Random(i));
+				for (MatchResult result : List.of(serialResults.get(i), parallelResults.get(i))) {
+					assertSame(teams1.get(i), result.getTeam1());
+					assertEquals(expected.getTeam1Score(), result.getTeam1Score());
+					for (Position position : Position.values())
+						assertSame(expected.getWinner(position), result.getWinner(position));
+				}
+			}
+		} finally {
+			serial.shutdown();
+			parallel.shutdown();
+		}
+	}
+
+	@Test
+	void playAllSameTeamTwiceTest() {
+		List<Team> teams = generateTeams(3);
+		List<Team> teams1 = List.of(teams.get(0), teams.get(1));
+		List<Team> teams2 = List.of(teams.get(2), teams.get(0));
+		ForkJoinPool pool = new ForkJoinPool(1);
+		try {
+			assertThrows(IllegalArgumentException.class,
+					() -> MatchEngine.playAll(teams1, teams2, i -> new Random(i), pool));
+			assertThrows(IllegalArgumentException.class,
+					() -> MatchEngine.playAll(teams1, teams2.subList(0, 1), i -> new Random(i), pool));
+		} finally {
+			pool.shutdown();
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package test.gametest.locationtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import enumeration.PairingOutcome;
+import enumeration.Position;
+import enumeration.Statistic;
+import game.Athlete;
+import game.GameEnvironment;
+import game.Team;
+import game.location.MatchEvaluator;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
+
+/**
+ * Tests the match evaluator class
+ */
+class MatchEvaluatorTest {
+	/**
+	 * The game environment used for testing
+	 */
+	private GameEnvironment gameEnvironment;
+
+	/**
+	 * Sets up a game environment
+	 */
+	@BeforeEach
+	void setUp() {
+		gameEnvironment = new GameEnvironment(new HeadlessEnvironment(DecisionProvider.firstOption()));
+		gameEnvironment.setSeed(0);
+	}
+
+	/**
+	 * @param role    The athlete's role
+	 * @param value   The value of every statistic of the athlete
+	 * @param stamina The athlete's stamina, 0 for injured
+	 * @return A new athlete
+	 */
+	private Athlete createAthlete(Position role, int value, int stamina) {
+		Athlete athlete = new Athlete("Athlete", role, stamina, gameEnvironment, 0);
+		for (Statistic statistic : Statistic.values())
+			athlete.setStatistic(statistic, value);
+		return athlete;
+	}
+
+	/**
+	 * @param values The value of every statistic of the athlete in each position,
+	 *               indexed by position ordinal
+	 * @return A new team with an athlete in every position
+	 */
+	private Team createTeam(int... values) {
+		Team team = new Team(gameEnvironment, "Team");
+		for (Position position : Position.values())
+			team.addAthleteToActive(createAthlete(position, values[position.ordinal()], 100), position);
+		return team;
+	}
+
+	@Test
+	void pairingTest() {
+		Athlete strong = createAthlete(Position.DUNKER, 10, 100);
+		Athlete weak = createAthlete(Position.DUNKER, 5, 100);
+		Athlete alsoWeak = createAthlete(Position.DUNKER, 5, 100);
+		Athlete injured = createAthlete(Position.DUNKER, 10, 0);
+		Athlete alsoInjured = createAthlete(Position.DUNKER, 5, 0);
+
+		assertEquals(PairingOutcome.TEAM1_WINS, MatchEvaluator.evaluatePairing(strong, weak));
+		assertEquals(PairingOutcome.TEAM2_WINS, MatchEvaluator.evaluatePairing(weak, strong));
+		assertEquals(PairingOutcome.TIE, MatchEvaluator.evaluatePairing(weak, alsoWeak));
+
+		// The healthy athlete wins whatever their score
+		assertEquals(PairingOutcome.TEAM2_WINS, MatchEvaluator.evaluatePairing(injured, weak));
+		assertEquals(PairingOutcome.TEAM1_WINS, MatchEvaluator.evaluatePairing(weak, injured));
+		assertEquals(PairingOutcome.TEAM1_WINS, MatchEvaluator.evaluatePairing(injured, alsoInjured));
+
+		assertEquals(PairingOutcome.TEAM1_WINS, MatchEvaluator.evaluatePairing(weak, null));
+		assertEquals(PairingOutcome.TEAM2_WINS, MatchEvaluator.evaluatePairing(null, weak));
+		assertEquals(PairingOutcome.NO_PAIRING, MatchEvaluator.evaluatePairing(null, null));
+	}
+
+	@Test
+	void evaluateTest() {
+		Team team1 = createTeam(10, 5, 5, 1, 5);
+		Team team2 = createTeam(5, 10, 5, 5, 5);
+		team1.getActiveAthletes().get(Position.values()[4]).setStamina(0);
+
+		PairingOutcome[] outcomes = new PairingOutcome[Position.values().length];
+		assertSame(outcomes, MatchEvaluator.evaluate(team1, team2, outcomes));
+		assertEquals(PairingOutcome.TEAM1_WINS, outcomes[0]);
+		assertEquals(PairingOutcome.TEAM2_WINS, outcomes[1]);
+		assertEquals(PairingOutcome.TIE, outcomes[2]);
+		assertEquals(PairingOutcome.TEAM2_WINS, outcomes[3]);
+		assertEquals(PairingOutcome.TEAM2_WINS, outcomes[4]);
+	}
+
+	@Test
+	void winProbabilityTest() {
+		Team strong = createTeam(10, 10, 10, 10, 10);
+		Team weak = createTeam(5, 5, 5, 5, 5);
+		assertEquals(1, MatchEvaluator.getWinProbability(strong, weak));
+		assertEquals(0, MatchEvaluator.getWinProbability(weak, strong));
+
+		// Five ties, won by winning at least three of them
+		assertEquals(0.5, MatchEvaluator.getWinProbability(weak, createTeam(5, 5, 5, 5, 5)));
+
+		// Two wins, a loss and two ties, won by winning at least one of the ties
+		Team mixed = createTeam(10, 10, 1, 5, 5);
+		assertEquals(0.75, MatchEvaluator.getWinProbability(mixed, weak));
+		assertEquals(0.25, MatchEvaluator.getWinProbability(weak, mixed));
+	}
+
+	@Test
+	void allInjuredTest() {
+		Team team1 = createTeam(10, 10, 10, 10, 10);
+		Team team2 = createTeam(5, 5, 5, 5, 5);
+		for (Athlete athlete : team1.getActiveAthletes().values())
+			athlete.setStamina(0);
+		assertEquals(0, MatchEvaluator.getWinProbability(team1, team2));
+	}
+
+	@Test
+	void noChangesTest() {
+		Team team1 = Team.generateTeam(50, gameEnvironment);
+		Team team2 = Team.generateTeam(50, gameEnvironment);
+		int[] stamina = team1.getActiveAthletes().values().stream().mapToInt(Athlete::getStamina).toArray();
+
+		MatchEvaluator.getWinProbability(team1, team2);
+		assertEquals(stamina.length, team1.getActiveAthletes().size());
+		int i = 0;
+		for (Athlete athlete : team1.getActiveAthletes().values())
+			assertEquals(stamina[i++], athlete.getStamina());
+	}
+}
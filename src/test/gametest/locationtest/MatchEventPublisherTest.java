@@ -0,0 +1,276 @@
+package test.gametest.locationtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import enumeration.Location;
+import enumeration.MatchEventType;
+import enumeration.Position;
+import game.GameEnvironment;
+import game.Team;
+import game.location.GameMatch;
+import game.location.MatchEvent;
+import game.location.MatchEventPublisher;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
+
+/**
+ * Tests the match event publisher, with events published by a match
+ */
+class MatchEventPublisherTest {
+	/**
+	 * The match that publishes the events
+	 */
+	private GameMatch gameMatch;
+
+	/**
+	 * The publisher being tested
+	 */
+	private MatchEventPublisher publisher;
+
+	/**
+	 * A subscriber that keeps the events it is sent, requesting a given number
+	 * when it subscribes
+	 */
+	private static class CollectingSubscriber implements Flow.Subscriber<MatchEvent> {
+		/**
+		 * The events sent, in order
+		 */
+		final List<MatchEvent> events = new ArrayList<MatchEvent>();
+
+		/**
+		 * The number of events to request when subscribing
+		 */
+		final long initialRequest;
+
+		/**
+		 * The subscription, once subscribed
+		 */
+		Flow.Subscription subscription;
+
+		/**
+		 * The error sent, or null
+		 */
+		Throwable error;
+
+		/**
+		 * @param initialRequest The number of events to request when subscribing
+		 */
+		CollectingSubscriber(long initialRequest) {
+			this.initialRequest = initialRequest;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+			if (initialRequest > 0)
+				subscription.request(initialRequest);
+		}
+
+		@Override
+		public void onNext(MatchEvent event) {
+			events.add(event);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+		}
+	}
+
+	/**
+	 * Sets up a match between two generated teams
+	 */
+	@BeforeEach
+	void setUp() {
+		GameEnvironment gameEnvironment = new GameEnvironment(
+				new HeadlessEnvironment(DecisionProvider.firstOption()));
+		gameEnvironment.setSeed(0);
+		gameMatch = (GameMatch) gameEnvironment.getGameLocation(Location.MATCH);
+		gameMatch.setTeams(Team.generateTeam(50, gameEnvironment), Team.generateTeam(50, gameEnvironment));
+		publisher = gameMatch.getEvents();
+	}
+
+	/**
+	 * Plays every pairing of the match one at a time, publishing 3 events for
+	 * each.
+	 */
+	private void playPairings() {
+		for (Position position : Position.values())
+			gameMatch.getWinningAthlete(gameMatch.getTeam1().getActiveAthletes().get(position),
+					gameMatch.getTeam2().getActiveAthletes().get(position));
+	}
+
+	@Test
+	void eventsInOrderTest() {
+		assertFalse(publisher.hasSubscribers());
+		CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+		publisher.subscribe(subscriber);
+		assertTrue(publisher.hasSubscribers());
+
+		playPairings();
+		assertEquals(3 * Position.values().length, subscriber.events.size());
+		for (Position position : Position.values()) {
+			MatchEvent started = subscriber.events.get(3 * position.ordinal());
+			MatchEvent decided = subscriber.events.get(3 * position.ordinal() + 1);
+			MatchEvent stamina = subscriber.events.get(3 * position.ordinal() + 2);
+			assertEquals(MatchEventType.PAIRING_STARTED, started.getType());
+			assertEquals(MatchEventType.WINNER_DECIDED, decided.getType());
+			assertEquals(MatchEventType.STAMINA_CHANGED, stamina.getType());
+			assertSame(position, started.getPosition());
+			assertSame(gameMatch.getTeam1().getActiveAthletes().get(position), decided.getAthlete1());
+			assertEquals(started.getTeam1Score() + started.getTeam2Score() + 1,
+					decided.getTeam1Score() + decided.getTeam2Score());
+			assertEquals(decided.getAthlete1().getStamina(), stamina.getStamina());
+		}
+		MatchEvent last = subscriber.events.get(subscriber.events.size() - 1);
+		assertEquals(gameMatch.getTeam1Score(), last.getTeam1Score());
+		assertEquals(gameMatch.getTeam2Score(), last.getTeam2Score());
+
+		subscriber.subscription.cancel();
+		assertFalse(publisher.hasSubscribers());
+		gameMatch.finish();
+		assertEquals(3 * Position.values().length, subscriber.events.size());
+	}
+
+	@Test
+	void slowSubscriberTest() {
+		CollectingSubscriber subscriber = new CollectingSubscriber(0);
+		publisher.subscribe(subscriber, 4, Runnable::run);
+
+		// Nothing is sent until it is requested, and the match doesn't wait
+		playPairings();
+		assertTrue(subscriber.events.isEmpty());
+
+		// Only the newest events are kept, with one stamina event per athlete
+		subscriber.subscription.request(2);
+		assertEquals(2, subscriber.events.size());
+		subscriber.subscription.request(10);
+		assertEquals(4, subscriber.events.size());
+		MatchEvent last = subscriber.events.get(3);
+		assertEquals(MatchEventType.STAMINA_CHANGED, last.getType());
+		assertSame(Position.values()[Position.values().length - 1], last.getPosition());
+
+		// Events published once requested are sent straight away
+		gameMatch.finish();
+		assertEquals(5, subscriber.events.size());
+		assertEquals(MatchEventType.MATCH_FINISHED, subscriber.events.get(4).getType());
+	}
+
+	@Test
+	void staminaCoalescedTest() {
+		CollectingSubscriber subscriber = new CollectingSubscriber(0);
+		publisher.subscribe(subscriber, 100, Runnable::run);
+		Team team1 = gameMatch.getTeam1();
+		for (int i = 0; i < 3; ++i)
+			gameMatch.getWinningAthlete(team1.getActiveAthletes().get(Position.DUNKER),
+					gameMatch.getTeam2().getActiveAthletes().get(Position.DUNKER));
+
+		subscriber.subscription.request(Long.MAX_VALUE);
+		int staminaEvents = 0;
+		for (MatchEvent event : subscriber.events) {
+			if (event.getType() == MatchEventType.STAMINA_CHANGED) {
+				++staminaEvents;
+				assertEquals(team1.getActiveAthletes().get(Position.DUNKER).getStamina(), event.getStamina());
+			}
+		}
+		assertEquals(1, staminaEvents);
+		assertEquals(7, subscriber.events.size());
+	}
+
+	@Test
+	void invalidRequestTest() {
+		CollectingSubscriber subscriber = new CollectingSubscriber(0);
+		publisher.subscribe(subscriber);
+		subscriber.subscription.request(0);
+		assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+		assertFalse(publisher.hasSubscribers());
+
+		CollectingSubscriber twice = new CollectingSubscriber(1);
+		publisher.subscribe(twice);
+		publisher.subscribe(twice);
+		assertInstanceOf(IllegalStateException.class, twice.error);
+	}
+
+	@Test
+	void throwingSubscriberTest() {
+		// Subscribers that throw from onSubscribe, or from onNext and then onError,
+		// are dropped without stopping the match or other subscribers
+		CollectingSubscriber throwsOnSubscribe = new CollectingSubscriber(Long.MAX_VALUE) {
+			@Override
+			public void onSubscribe(Flow.Subscription subscription) {
+				super.onSubscribe(subscription);
+				throw new IllegalStateException();
+			}
+		};
+		CollectingSubscriber throwsOnNext = new CollectingSubscriber(Long.MAX_VALUE) {
+			@Override
+			public void onNext(MatchEvent event) {
+				throw new IllegalStateException();
+			}
+
+			@Override
+			public void onError(Throwable throwable) {
+				throw new IllegalStateException();
+			}
+		};
+		CollectingSubscriber working = new CollectingSubscriber(Long.MAX_VALUE);
+		publisher.subscribe(throwsOnSubscribe);
+		publisher.subscribe(throwsOnNext);
+		publisher.subscribe(working);
+
+		playPairings();
+		gameMatch.finish();
+		assertTrue(throwsOnSubscribe.events.isEmpty());
+		assertEquals(3 * Position.values().length + 1, working.events.size());
+
+		// Only the working subscriber is left
+		working.subscription.cancel();
+		assertFalse(publisher.hasSubscribers());
+	}
+
+	@Test
+	void otherThreadTest() throws InterruptedException {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		CountDownLatch received = new CountDownLatch(3 * Position.values().length + 1);
+		CountDownLatch blocked = new CountDownLatch(1);
+		try {
+			// A subscriber stuck on its own thread doesn't hold up the match
+			publisher.subscribe(new CollectingSubscriber(Long.MAX_VALUE) {
+				@Override
+				public void onNext(MatchEvent event) {
+					try {
+						blocked.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					received.countDown();
+				}
+			}, 64, executor);
+			playPairings();
+			gameMatch.finish();
+			blocked.countDown();
+			assertTrue(received.await(5, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
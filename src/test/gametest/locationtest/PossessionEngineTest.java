@@ -0,0 +1,145 @@
+package test.gametest.locationtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import enumeration.MatchMode;
+import enumeration.Position;
+import enumeration.Statistic;
+import game.Athlete;
+import game.GameEnvironment;
+import game.Team;
+import game.location.MatchEngine;
+import game.location.MatchResult;
+import game.location.PossessionEngine;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
+
+/**
+ * Tests the possession engine
+ */
+class PossessionEngineTest {
+	/**
+	 * The game environment used for testing
+	 */
+	private GameEnvironment gameEnvironment;
+
+	/**
+	 * The engine being tested
+	 */
+	private PossessionEngine engine;
+
+	/**
+	 * Sets up a game environment and an engine
+	 */
+	@BeforeEach
+	void setUp() {
+		gameEnvironment = new GameEnvironment(new HeadlessEnvironment(DecisionProvider.firstOption()));
+		gameEnvironment.setSeed(0);
+		engine = new PossessionEngine();
+	}
+
+	/**
+	 * @param value The value to set every statistic of the team's athletes to
+	 * @return A generated team whose active athletes all have that value for
+	 *         every statistic and full stamina
+	 */
+	private Team generateTeam(int value) {
+		Team team = Team.generateTeam(50, gameEnvironment);
+		for (Athlete athlete : team.getActiveAthletes().values()) {
+			for (Statistic statistic : Statistic.values())
+				athlete.setStatistic(statistic, value);
+			athlete.setStamina(100);
+		}
+		return team;
+	}
+
+	@Test
+	void sameSeedTest() {
+		Team team1 = Team.generateTeam(50, gameEnvironment);
+		Team team2 = Team.generateTeam(50, gameEnvironment);
+		MatchResult result1 = engine.play(team1, team2, new Random(7));
+		MatchResult result2 = new PossessionEngine().play(team1, team2, new Random(7));
+		MatchResult result3 = MatchEngine.play(team1, team2, new Random(7), MatchMode.POSSESSIONS);
+		for (MatchResult result : new MatchResult[] { result2, result3 }) {
+			assertEquals(result1.getTeam1Score(), result.getTeam1Score());
+			for (Position position : Position.values()) {
+				assertSame(result1.getWinner(position), result.getWinner(position));
+				assertEquals(result1.getTeam1StaminaLost(position), result.getTeam1StaminaLost(position));
+				assertEquals(result1.getTeam2StaminaLost(position), result.getTeam2StaminaLost(position));
+			}
+		}
+	}
+
+	@Test
+	void playTest() {
+		Team team1 = generateTeam(50);
+		Team team2 = generateTeam(50);
+		MatchResult result = engine.play(team1, team2, new Random(0));
+		assertSame(team1, result.getTeam1());
+		assertEquals(Position.values().length, result.getTeam1Score() + result.getTeam2Score());
+
+		for (Position position : Position.values()) {
+			Athlete athlete1 = team1.getActiveAthletes().get(position);
+			Athlete athlete2 = team2.getActiveAthletes().get(position);
+			assertSame(athlete1, result.getTeam1Athlete(position));
+			assertSame(athlete2, result.getTeam2Athlete(position));
+
+			// Full stamina lasts the whole match, so it costs the same as a pairing
+			Athlete winner = result.getWinner(position);
+			assertEquals(athlete1.getStaminaLoss(athlete1 != winner), result.getTeam1StaminaLost(position));
+			assertEquals(athlete2.getStaminaLoss(athlete2 != winner), result.getTeam2StaminaLost(position));
+
+			// Nothing changes until the stamina loss is applied
+			assertEquals(100, athlete1.getStamina());
+			assertEquals(100, athlete2.getStamina());
+		}
+	}
+
+	@Test
+	void strongerTeamWinsTest() {
+		Team strong = generateTeam(100);
+		Team weak = generateTeam(0);
+		for (int seed = 0; seed < 20; ++seed) {
+			assertSame(strong, engine.play(strong, weak, new Random(seed)).getWinningTeam());
+			assertSame(strong, engine.play(weak, strong, new Random(seed)).getWinningTeam());
+		}
+	}
+
+	@Test
+	void injuredAthleteTest() {
+		Team team1 = generateTeam(100);
+		Team team2 = generateTeam(0);
+		Athlete injured = team1.getActiveAthletes().get(Position.DEFENDER);
+		injured.setStamina(0);
+
+		MatchResult result = engine.play(team1, team2, new Random(0));
+		assertSame(team2.getActiveAthletes().get(Position.DEFENDER), result.getWinner(Position.DEFENDER));
+		// An injured athlete can't play, so only losing costs them stamina
+		assertEquals(injured.getStaminaLoss(true) - injured.getStaminaLoss(false),
+				result.getTeam1StaminaLost(Position.DEFENDER));
+	}
+
+	@Test
+	void emptyTeamsTest() {
+		Team team1 = new Team(gameEnvironment, "Team 1");
+		Team team2 = new Team(gameEnvironment, "Team 2");
+		MatchResult result = engine.play(team1, team2, new Random(0));
+		assertEquals(0, result.getTeam1Score());
+		assertEquals(0, result.getTeam2Score());
+		for (Position position : Position.values()) {
+			assertNull(result.getWinner(position));
+			assertEquals(0, result.getTeam1StaminaLost(position));
+		}
+
+		// A team with athletes wins every pairing against one without
+		result = engine.play(generateTeam(0), team2, new Random(0));
+		assertEquals(Position.values().length, result.getTeam1Score());
+	}
+}
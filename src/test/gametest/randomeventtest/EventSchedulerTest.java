@@ -0,0 +1,136 @@
+package test.gametest.randomeventtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import enumeration.Position;
+import game.Athlete;
+import game.GameEnvironment;
+import game.Team;
+import game.randomevent.EventScheduler;
+import game.randomevent.RandomEvent;
+import game.randomevent.ScheduledEvent;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
+
+class EventSchedulerTest {
+	private GameEnvironment gameEnvironment;
+	private EventScheduler eventScheduler;
+
+	/**
+	 * The target of a random event with a fixed probability, counting how often
+	 * the event happens to it.
+	 */
+	private static class Counter {
+		float probability;
+		int occurrences = 0;
+
+		Counter(float probability) {
+			this.probability = probability;
+		}
+	}
+
+	/**
+	 * A random event that happens with its target's probability.
+	 */
+	private static class CountingEvent extends RandomEvent<Counter> {
+		@Override
+		protected void occur(GameEnvironment gameEnvironment, Counter target) {
+			++target.occurrences;
+		}
+
+		@Override
+		protected float getProbability(GameEnvironment gameEnvironment, Counter target) {
+			return target.probability;
+		}
+	}
+
+	private static final List<CountingEvent> COUNTING_EVENTS = List.of(new CountingEvent());
+
+	@BeforeEach
+	void setUp() {
+		gameEnvironment = new GameEnvironment(new HeadlessEnvironment(DecisionProvider.firstOption()));
+		gameEnvironment.setSeed(0);
+		gameEnvironment.setSeasonLength(Integer.MAX_VALUE);
+		gameEnvironment.setDifficulty(1);
+		eventScheduler = gameEnvironment.getEventScheduler();
+	}
+
+	@Test
+	void registerTest() {
+		// Only the player's team's own event is scheduled to begin with
+		assertEquals(1, eventScheduler.getNumberOfScheduledEvents());
+
+		Counter counter = new Counter(0.5f);
+		eventScheduler.register(counter, COUNTING_EVENTS);
+		assertEquals(2, eventScheduler.getNumberOfScheduledEvents());
+		ScheduledEvent<?> event = eventScheduler.getEvents(counter).get(0);
+		assertTrue(event.getScheduledWeek() >= 2);
+		assertTrue(event.getTarget() == counter);
+		eventScheduler.cancel(counter);
+		assertEquals(1, eventScheduler.getNumberOfScheduledEvents());
+		assertEquals(-1, event.getScheduledWeek());
+		assertTrue(eventScheduler.getEvents(counter).isEmpty());
+
+		// Events that can't happen aren't scheduled until their probability changes
+		counter.probability = 0;
+		eventScheduler.register(counter, COUNTING_EVENTS);
+		event = eventScheduler.getEvents(counter).get(0);
+		assertEquals(-1, event.getScheduledWeek());
+		counter.probability = 1;
+		eventScheduler.refresh(counter);
+		assertEquals(2, event.getScheduledWeek());
+	}
+
+	@Test
+	void pollDueTest() {
+		Counter counter = new Counter(1);
+		eventScheduler.register(counter, COUNTING_EVENTS);
+		ScheduledEvent<?> event = eventScheduler.getEvents(counter).get(0);
+		assertTrue(eventScheduler.pollDue(1).isEmpty());
+
+		List<ScheduledEvent<?>> dueEvents = eventScheduler.pollDue(2);
+		assertTrue(dueEvents.contains(event));
+		assertEquals(-1, event.getScheduledWeek());
+		eventScheduler.reschedule(dueEvents);
+		assertTrue(event.getScheduledWeek() >= 2);
+	}
+
+	@Test
+	void frequencyTest() {
+		Counter counter = new Counter(0.25f);
+		eventScheduler.register(counter, COUNTING_EVENTS);
+		for (int week = 0; week < 4001; ++week)
+			gameEnvironment.progressWeek();
+
+		// The event happens in about a quarter of the 4000 weeks events can happen in
+		assertTrue(Math.abs(counter.occurrences - 1000) < 100);
+	}
+
+	@Test
+	void teamChangesTest() {
+		Team team = gameEnvironment.getPlayer().getTeam();
+		Athlete athlete = new Athlete("", Position.DUNKER, 50, gameEnvironment, 0);
+
+		// An active athlete can quit, but their statistics only increase as a reserve
+		team.addAthleteToActive(athlete, Position.DUNKER);
+		assertEquals(2, eventScheduler.getNumberOfScheduledEvents());
+		team.moveToReserve(athlete);
+		assertEquals(3, eventScheduler.getNumberOfScheduledEvents());
+		team.moveToActive(athlete, Position.DUNKER);
+		assertEquals(2, eventScheduler.getNumberOfScheduledEvents());
+
+		// Athletes that leave the team have nothing scheduled
+		team.removeAthlete(athlete);
+		assertEquals(1, eventScheduler.getNumberOfScheduledEvents());
+
+		// Athletes on other teams are never scheduled
+		Team.generateTeam(50, gameEnvironment);
+		assertEquals(1, eventScheduler.getNumberOfScheduledEvents());
+	}
+}
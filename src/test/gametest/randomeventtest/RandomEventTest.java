@@ -1,56 +1,95 @@
 package test.gametest.randomeventtest;
 
-import javax.swing.JFrame;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import enumeration.Location;
 import enumeration.Position;
 import game.Athlete;
 import game.GameEnvironment;
-import game.randomevent.AthleteJoins;
-import game.randomevent.AthleteQuits;
+import game.Team;
 import game.randomevent.DrugTest;
-import game.randomevent.RandomEvent;
-import game.randomevent.StatisticIncrease;
-import userinterface.graphical.GUIEnvironment;
+import game.randomevent.RandomEventRegistry;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
 
 class RandomEventTest {
 	GameEnvironment gameEnvironment;
+	HeadlessEnvironment uiEnvironment;
 
 	@BeforeEach
 	void setUp() {
-		gameEnvironment = new GameEnvironment(false);
+		uiEnvironment = new HeadlessEnvironment(DecisionProvider.firstOption());
+		gameEnvironment = new GameEnvironment(uiEnvironment);
 		gameEnvironment.setSeasonLength(2);
 		gameEnvironment.setSeed(0);
 		gameEnvironment.setDifficulty(3);
 		gameEnvironment.progressWeek();
 	}
 
-	@AfterEach
-	void tearDown() {
-		JFrame frame = ((GUIEnvironment) gameEnvironment.getUIEnvironment()).getFrame();
-		frame.setVisible(false);
-		frame.dispose();
-	}
-
 	/**
 	 * Every method in the random events are protected, so the only testing that can
 	 * be done is calling the trigger method.
 	 */
 	@Test
 	void testTrigger() {
-		RandomEvent randomEvent = new DrugTest(gameEnvironment);
-		randomEvent.trigger();
-		randomEvent = new AthleteJoins(gameEnvironment, gameEnvironment.getPlayer().getTeam());
-		randomEvent.trigger();
+		Team team = gameEnvironment.getPlayer().getTeam();
+		RandomEventRegistry.DRUG_TEST.trigger(gameEnvironment, team);
+		RandomEventRegistry.ATHLETE_JOINS.trigger(gameEnvironment, team);
 		Athlete athlete = new Athlete("", Position.DUNKER, 0, gameEnvironment, 0);
-		gameEnvironment.getPlayer().getTeam().addAthleteToReserve(athlete);
-		randomEvent = new AthleteQuits(gameEnvironment, athlete);
-		randomEvent.trigger();
-		randomEvent = new StatisticIncrease(gameEnvironment, athlete);
-		randomEvent.trigger();
+		team.addAthleteToReserve(athlete);
+		RandomEventRegistry.ATHLETE_QUITS.trigger(gameEnvironment, athlete);
+		RandomEventRegistry.STATISTIC_INCREASE.trigger(gameEnvironment, athlete);
+		RandomEventRegistry.triggerAll(gameEnvironment, athlete);
+		RandomEventRegistry.triggerAll(gameEnvironment, team);
+	}
+
+	@Test
+	void testFire() {
+		Team team = gameEnvironment.getPlayer().getTeam();
+		Athlete athlete = new Athlete("", Position.DUNKER, 0, gameEnvironment, 0);
+		team.addAthleteToReserve(athlete);
+
+		// The shared events act on whichever target they are given
+		RandomEventRegistry.ATHLETE_JOINS.fire(gameEnvironment, team);
+		assertEquals(2, team.getRoster().size());
+		RandomEventRegistry.ATHLETE_QUITS.fire(gameEnvironment, athlete);
+		assertEquals(1, team.getRoster().size());
+		assertFalse(team.getRoster().contains(athlete));
 	}
 
+	@Test
+	void testDrugTest() {
+		Team team = gameEnvironment.getPlayer().getTeam();
+		Athlete athlete = new Athlete("", Position.DUNKER, 50, gameEnvironment, 0);
+		team.addAthleteToActive(athlete, Position.DUNKER);
+		RandomEventRegistry.DRUG_TEST.fire(gameEnvironment, team);
+		assertEquals("Your team passed a randomised drug test.", uiEnvironment.getLastMessage());
+
+		athlete.setHasUsedSteroids(true);
+		RandomEventRegistry.DRUG_TEST.fire(gameEnvironment, team);
+		assertTrue(uiEnvironment.getLastMessage().contains("failed a randomised drug test"));
+		assertEquals(Location.END, uiEnvironment.getCurrentLocation());
+	}
+
+	@Test
+	void testDrugTestProbability() {
+		var drugTest = new DrugTest() {
+			@Override
+			protected float getProbability(GameEnvironment gameEnvironment, Team team) {
+				return super.getProbability(gameEnvironment, team);
+			}
+		};
+		gameEnvironment.setSeasonLength(10);
+		while (gameEnvironment.getWeek() < 5)
+			gameEnvironment.progressWeek();
+
+		// Half way through the season, drug tests are half as likely as at the end
+		float probability = drugTest.getProbability(gameEnvironment, gameEnvironment.getPlayer().getTeam());
+		assertEquals(0.2f * 0.5f * 3, probability, 1e-6);
+	}
 }
@@ -0,0 +1,40 @@
+package test.gametest.simtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import game.sim.SeasonResult;
+import game.sim.SeasonSession;
+import game.sim.SeasonSimulator;
+
+class SeasonSimulatorTest {
+
+	@Test
+	void sessionTest() {
+		SeasonResult result = new SeasonSession(7, 1, 5).play();
+		assertEquals(7, result.getSeed());
+		assertEquals(1, result.getDifficulty());
+		assertTrue(result.getWeeksPlayed() <= 5);
+		assertTrue(result.getMatchesWon() <= result.getMatchesPlayed());
+		assertTrue(result.getWinRate() >= 0 && result.getWinRate() <= 1);
+	}
+
+	@Test
+	void reproducibleTest() {
+		List<SeasonResult> serial = SeasonSimulator.simulate(2, 8, 100, 12, 1);
+		List<SeasonResult> parallel = SeasonSimulator.simulate(2, 8, 100, 12, 4);
+		assertEquals(12, serial.size());
+		for (int i = 0; i < serial.size(); ++i) {
+			assertEquals(100 + i, serial.get(i).getSeed());
+			assertEquals(serial.get(i).getSeed(), parallel.get(i).getSeed());
+			assertEquals(serial.get(i).getScore(), parallel.get(i).getScore());
+			assertEquals(serial.get(i).getMoney(), parallel.get(i).getMoney());
+			assertEquals(serial.get(i).getMatchesWon(), parallel.get(i).getMatchesWon());
+			assertEquals(serial.get(i).getWeeksPlayed(), parallel.get(i).getWeeksPlayed());
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package test.userinterfacetest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import enumeration.Location;
+import game.GameEnvironment;
+import userinterface.headless.DecisionProvider;
+import userinterface.headless.HeadlessEnvironment;
+
+class HeadlessEnvironmentTest {
+	private static final String[] OPTIONS = { "a", "b", "c" };
+
+	@Test
+	void scriptedTest() {
+		HeadlessEnvironment headlessEnvironment = new HeadlessEnvironment(DecisionProvider.scripted(2, 1, 7));
+		assertEquals(2, headlessEnvironment.displayPopup("", OPTIONS));
+		assertEquals(1, headlessEnvironment.displayPopup("", OPTIONS));
+		// Out of range decisions and an exhausted script select the first option
+		assertEquals(0, headlessEnvironment.displayPopup("", OPTIONS));
+		assertEquals(0, headlessEnvironment.displayPopup("", OPTIONS));
+		assertEquals(-1, headlessEnvironment.displayPopup("", new String[0]));
+	}
+
+	@Test
+	void randomTest() {
+		HeadlessEnvironment headlessEnvironment = new HeadlessEnvironment(DecisionProvider.random(new Random(0)));
+		for (int i = 0; i < 100; ++i) {
+			int selected = headlessEnvironment.displayPopup("", OPTIONS);
+			assertTrue(selected >= 0 && selected < OPTIONS.length);
+		}
+	}
+
+	@Test
+	void callbackTest() {
+		HeadlessEnvironment headlessEnvironment = new HeadlessEnvironment(
+				(message, options) -> message.equals("last") ? options.length - 1 : 0);
+		assertEquals(2, headlessEnvironment.displayPopup("last", OPTIONS));
+		assertEquals(0, headlessEnvironment.displayPopup("first", OPTIONS));
+	}
+
+	@Test
+	void messagesTest() {
+		HeadlessEnvironment headlessEnvironment = new HeadlessEnvironment(DecisionProvider.firstOption(), 3);
+		assertNull(headlessEnvironment.getLastMessage());
+		assertEquals(0, headlessEnvironment.getMessages().size());
+		headlessEnvironment.displayPopup("1");
+		headlessEnvironment.displayPopup("2", OPTIONS);
+		assertEquals(List.of("1", "2"), headlessEnvironment.getMessages());
+		headlessEnvironment.displayPopup("3");
+		headlessEnvironment.displayPopup("4");
+		headlessEnvironment.displayPopup("5");
+		assertEquals(List.of("3", "4", "5"), headlessEnvironment.getMessages());
+		assertEquals("5", headlessEnvironment.getLastMessage());
+		headlessEnvironment.clearMessages();
+		assertEquals(0, headlessEnvironment.getMessages().size());
+	}
+
+	@Test
+	void gameEnvironmentTest() {
+		HeadlessEnvironment headlessEnvironment = new HeadlessEnvironment(DecisionProvider.firstOption());
+		GameEnvironment gameEnvironment = new GameEnvironment(headlessEnvironment);
+		assertEquals(headlessEnvironment, gameEnvironment.getUIEnvironment());
+		gameEnvironment.changeLocation(Location.MAP);
+		assertEquals(Location.MAP, headlessEnvironment.getCurrentLocation());
+		gameEnvironment.getPlayer().chargeMoney(1);
+		assertEquals("You are unable to afford that!", headlessEnvironment.getLastMessage());
+	}
+}
@@ -1,6 +1,7 @@
 package test.utiltest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
@@ -60,4 +61,12 @@ class MiscUtilTest {
 		assertTrue(random == 17 || random == 18);
 	}
 
+
+	@Test
+	void mixSeedTest() {
+		assertEquals(MiscUtil.mixSeed(1, 2, 3), MiscUtil.mixSeed(1, 2, 3));
+		assertNotEquals(MiscUtil.mixSeed(1, 2, 3), MiscUtil.mixSeed(1, 2, 4));
+		assertNotEquals(MiscUtil.mixSeed(1, 2, 3), MiscUtil.mixSeed(2, 1, 3));
+		assertNotEquals(MiscUtil.mixSeed(0), MiscUtil.mixSeed(0, 0));
+	}
 }
@@ -28,6 +28,18 @@ class NameGeneratorTest {
 		assertTrue(team1 != null);
 	}
 
+	@Test
+	void testRepeatedGenerating() {
+		// Word lists are cached after the first read, so the same seed must still
+		// give the same names
+		Random rng1 = new Random(12);
+		Random rng2 = new Random(12);
+		for (int i = 0; i < 100; ++i) {
+			assertEquals(NameGenerator.generateName("playerFirstNames", "playerLastNames", rng1),
+					NameGenerator.generateName("playerFirstNames", "playerLastNames", rng2));
+		}
+	}
+
 	@Test
 	void testIncorrectFileName() {
 		Random rng = new Random();
@@ -0,0 +1,55 @@
+package test.utiltest;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import enumeration.RandomStream;
+import util.RandomService;
+
+class RandomServiceTest {
+	private static long[] draw(Random rng, int count) {
+		long[] values = new long[count];
+		for (int i = 0; i < count; ++i)
+			values[i] = rng.nextLong();
+		return values;
+	}
+
+	@Test
+	void sameStreamTest() {
+		RandomService randomService = new RandomService(7);
+		long[] first = draw(randomService.getStream(RandomStream.LOCATION, 3, 2), 10);
+		long[] second = draw(new RandomService(7).getStream(RandomStream.LOCATION, 3, 2), 10);
+		assertArrayEquals(first, second);
+	}
+
+	@Test
+	void independentStreamsTest() {
+		RandomService randomService = new RandomService(7);
+		long value = randomService.getStream(RandomStream.LOCATION, 3, 2).nextLong();
+		assertNotEquals(value, randomService.getStream(RandomStream.LOCATION, 3, 3).nextLong());
+		assertNotEquals(value, randomService.getStream(RandomStream.LOCATION, 2, 3).nextLong());
+		assertNotEquals(value, randomService.getStream(RandomStream.OPPONENT_TEAM, 3, 2).nextLong());
+		assertNotEquals(value, new RandomService(8).getStream(RandomStream.LOCATION, 3, 2).nextLong());
+
+		// Drawing from other streams first doesn't change a stream
+		randomService.getStream(RandomStream.GAME).nextLong();
+		assertEquals(value, randomService.getStream(RandomStream.LOCATION, 3, 2).nextLong());
+	}
+
+	@Test
+	void boundsTest() {
+		Random rng = new RandomService(0).getStream(RandomStream.GAME);
+		for (int i = 0; i < 1000; ++i) {
+			int value = rng.nextInt(10);
+			assertTrue(value >= 0 && value < 10);
+			float fraction = rng.nextFloat();
+			assertTrue(fraction >= 0 && fraction < 1);
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package test.utiltest;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import util.WordList;
+
+class WordListTest {
+
+	@Test
+	void loadTest() throws IOException {
+		WordList words = WordList.load("teamNameList1");
+		int total = 0;
+		for (int letter = 0; letter < 26; ++letter) {
+			total += words.getNumberOfWords(letter);
+			for (int i = 0; i < words.getNumberOfWords(letter); ++i) {
+				assertEquals('A' + letter, words.getWord(letter, i).charAt(0));
+			}
+		}
+		assertEquals(words.getNumberOfWords(), total);
+	}
+
+	@Test
+	void missingFileTest() {
+		assertThrows(IOException.class, () -> WordList.load("fake"));
+	}
+
+	/**
+	 * The .dict files must be regenerated with WordList.main whenever a .txt word
+	 * list changes.
+	 */
+	@Test
+	void binaryFilesUpToDateTest() throws IOException {
+		for (String name : new String[] { "playerFirstNames", "playerLastNames", "teamNameList1", "teamNameList2" }) {
+			byte[] expected;
+			try (InputStream in = ClassLoader.getSystemResourceAsStream(name + WordList.TEXT_EXTENSION)) {
+				List<String> lines = Arrays.asList(new String(in.readAllBytes(), StandardCharsets.UTF_8).split("\n"));
+				expected = WordList.encode(lines).array();
+			}
+			try (InputStream in = ClassLoader.getSystemResourceAsStream(name + WordList.BINARY_EXTENSION)) {
+				assertArrayEquals(expected, in.readAllBytes(), name + " is out of date");
+			}
+		}
+	}
+
+	@Test
+	void encodeTest() throws IOException {
+		ByteBuffer buffer = WordList.encode(List.of("Bob", "Alice", "Bill", "Zed"));
+		assertEquals(0, buffer.position());
+		assertEquals(buffer.capacity(), buffer.limit());
+	}
+}
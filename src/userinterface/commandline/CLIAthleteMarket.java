@@ -14,7 +14,7 @@ import game.location.GameMarket;
  * The class that displays the athlete market on the console
  * 
  * @author Jake van Keulen
- * @version 1.1, May 2023.
+ * @version 1.2, May 2023.
  */
 public class CLIAthleteMarket extends CLILocation {
 	/**
@@ -58,6 +58,7 @@ public class CLIAthleteMarket extends CLILocation {
 		while (true) {
 			System.out.println("Athlete Market");
 			System.out.println("Your money: $" + gameLocation.getPlayerMoney());
+			displayRecommendedPurchases(gameLocation);
 			System.out.println("What would you like to do?");
 			String[] options = { "Return to map", "Sell an athlete", "Purchase an athlete" };
 			int selectedIndex = cliEnvironment.displayOptions(options);
@@ -14,7 +14,7 @@ import game.location.GameMarket;
  * The class that displays the black market on the cli.
  * 
  * @author Jake van Keulen
- * @version 1.0, May 2023.
+ * @version 1.1, May 2023.
  */
 public class CLIBlackMarket extends CLILocation {
 	/**
@@ -53,6 +53,7 @@ public class CLIBlackMarket extends CLILocation {
 	public Location display() {
 		while (true) {
 			System.out.println("Black Market");
+			displayRecommendedPurchases(gameLocation);
 			System.out.println("What would you like to do?");
 			String[] options = { "Purchase an item", "Sell an item", "Return to map" };
 			int selectedIndex = cliEnvironment.displayOptions(options);
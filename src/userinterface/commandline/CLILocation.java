@@ -1,13 +1,17 @@
 package userinterface.commandline;
 
+import java.util.List;
+
 import enumeration.Location;
+import game.Purchasable;
+import game.location.GameMarket;
 
 /**
  * The CLILocation interface. Responsible for displaying the correct text on
  * screen and interpreting user input.
  * 
  * @author Findlay Royds, Jake van Keulen
- * @version 1.1, May 2023.
+ * @version 1.2, May 2023.
  */
 public abstract class CLILocation {
 
@@ -31,4 +35,23 @@ public abstract class CLILocation {
 	 * @return An ordered List of options to be displayed on the cli.
 	 */
 	public abstract Location display();
+
+	/**
+	 * Prints the purchases a market recommends the player makes, if there are
+	 * any.
+	 * 
+	 * @param market The market to recommend purchases from
+	 */
+	protected void displayRecommendedPurchases(GameMarket market) {
+		List<Purchasable> recommended = market.getOptimiser().getRecommendedPurchases();
+		if (recommended.isEmpty())
+			return;
+		int totalPrice = 0;
+		String[] names = new String[recommended.size()];
+		for (int i = 0; i < recommended.size(); ++i) {
+			names[i] = recommended.get(i).getName();
+			totalPrice += recommended.get(i).getPrice();
+		}
+		System.out.println("Recommended buys: " + String.join(", ", names) + " ($" + totalPrice + ")");
+	}
 }
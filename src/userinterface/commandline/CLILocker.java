@@ -15,7 +15,7 @@ import game.location.GameLocker;
  * The class that displays the locker screen on the cli
  * 
  * @author Jake van Keulen
- * @version 1.0, May 2023.
+ * @version 1.2, May 2023.
  */
 public class CLILocker extends CLILocation {
 	/**
@@ -52,6 +52,12 @@ public class CLILocker extends CLILocation {
 			String athleteName = (i > reserveAthletes.size() ? "[No athlete]" : reserveAthletes.get(i - 1).getName());
 			System.out.println("Reserve #" + i + ": " + athleteName);
 		}
+
+		List<Athlete> atRisk = gameLocation.getAthletesAtRisk();
+		if (!atRisk.isEmpty()) {
+			String[] names = atRisk.stream().map(athlete -> athlete.getName()).toArray(String[]::new);
+			System.out.println("At risk in a drug test: " + String.join(", ", names));
+		}
 	}
 
 	/**
@@ -113,13 +119,15 @@ public class CLILocker extends CLILocation {
 			System.out.println("Team: \"" + gameLocation.getTeamName() + "\"");
 			displayTeam();
 
-			String[] options = { "Move an athlete", "View athlete details", "Exit to map" };
+			String[] options = { "Move an athlete", "Choose best lineup", "View athlete details", "Exit to map" };
 			int selection = cliEnvironment.displayOptions(options);
 			if (selection == 0) {
 				moveAthlete();
 			} else if (selection == 1) {
-				viewAthleteDetails();
+				gameLocation.chooseBestLineup();
 			} else if (selection == 2) {
+				viewAthleteDetails();
+			} else if (selection == 3) {
 				return Location.MAP;
 			}
 		}
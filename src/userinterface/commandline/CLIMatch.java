@@ -1,6 +1,7 @@
 package userinterface.commandline;
 
 import java.util.Map;
+import java.util.concurrent.Flow;
 
 import enumeration.Location;
 import enumeration.Position;
@@ -8,12 +9,17 @@ import game.Athlete;
 import game.Team;
 import game.location.GameLocation;
 import game.location.GameMatch;
+import game.location.MatchEvent;
+import game.location.MatchEventPublisher;
 
 /**
- * This class displays a match between two teams on the CLI.
+ * This class displays a match between two teams on the CLI. The result of each
+ * pairing is printed as the match publishes it, on the thread playing the
+ * match. The result of the whole match is printed directly, so it is shown even
+ * if printing an event fails.
  * 
  * @author Findlay Royds
- * @version 1.0, May 2023.
+ * @version 1.2, May 2023.
  */
 public class CLIMatch extends CLILocation {
 	/**
@@ -30,6 +36,45 @@ public class CLIMatch extends CLILocation {
 	public CLIMatch(GameLocation gameLocation, CLIEnvironment cliEnvironment) {
 		super(cliEnvironment);
 		this.gameLocation = (GameMatch) gameLocation;
+		this.gameLocation.getEvents().subscribe(new Flow.Subscriber<MatchEvent>() {
+			@Override
+			public void onSubscribe(Flow.Subscription subscription) {
+				subscription.request(Long.MAX_VALUE);
+			}
+
+			@Override
+			public void onNext(MatchEvent event) {
+				printEvent(event);
+			}
+
+			@Override
+			public void onError(Throwable throwable) {
+				// No more pairings will be printed, so say why
+				throwable.printStackTrace();
+			}
+
+			@Override
+			public void onComplete() {
+			}
+		}, MatchEventPublisher.DEFAULT_BUFFER_SIZE, Runnable::run);
+	}
+
+	/**
+	 * Prints the result of a pairing.
+	 * 
+	 * @param event The event published by the match.
+	 */
+	private void printEvent(MatchEvent event) {
+		switch (event.getType()) {
+		case WINNER_DECIDED:
+			System.out.println(event.getWinner().getName() + " Wins!");
+			break;
+		case STAMINA_CHANGED:
+			System.out.println(event.getAthlete1().getName() + " has " + event.getStamina() + " stamina left");
+			break;
+		default:
+			break;
+		}
 	}
 
 	@Override
@@ -44,12 +89,12 @@ public class CLIMatch extends CLILocation {
 		for (Position position : Position.values()) {
 			Athlete athlete1 = team1Athletes.get(position);
 			Athlete athlete2 = team2Athletes.get(position);
-			Athlete winner = gameLocation.getWinningAthlete(athlete1, athlete2);
 
 			System.out.println("---     " + position.name() + " MATCHUP---\n");
 			System.out.println(athlete1.getName() + " vs " + athlete2.getName());
 			cliEnvironment.displayOptions(new String[] { "PLAY!" });
-			System.out.println(winner.getName() + " Wins!");
+			// The winner is printed as the pairing is played
+			gameLocation.getWinningAthlete(athlete1, athlete2);
 			cliEnvironment.displayOptions(new String[] { "Continue" });
 		}
 
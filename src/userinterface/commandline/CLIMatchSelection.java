@@ -6,6 +6,8 @@ import java.util.stream.Collectors;
 
 import enumeration.Location;
 import game.Team;
+import game.league.League;
+import game.league.Standings;
 import game.location.GameLocation;
 import game.location.GameMatchSelection;
 
@@ -14,7 +16,7 @@ import game.location.GameMatchSelection;
  * teams to play against.
  * 
  * @author Findlay Royds
- * @version 1.2, May 2023.
+ * @version 1.4, May 2023.
  */
 public class CLIMatchSelection extends CLILocation {
 	/**
@@ -36,9 +38,20 @@ public class CLIMatchSelection extends CLILocation {
 	@Override
 	public Location display() {
 		System.out.println("Stadium");
+		League league = gameLocation.getLeague();
+		if (league != null && league.hasPlayerTeam()) {
+			Standings standings = league.getStandings();
+			int team = League.PLAYER_TEAM_INDEX;
+			System.out.println(String.format("League position: %d of %d (won %d, lost %d)",
+					standings.getRank(team) + 1, standings.getNumberOfTeams(), standings.getWon(team),
+					standings.getLost(team)));
+			if (league.getCurrentPlayerOpponent() == null)
+				System.out.println("Your team has no league fixture this week.");
+		}
 
 		ArrayList<Team> availableMatches = gameLocation.getTeams();
-		List<String> teamNames = availableMatches.stream().map(team -> team.getName()).collect(Collectors.toList());
+		List<String> teamNames = availableMatches.stream().map(team -> String.format("%s (%d%% to win)",
+				team.getName(), Math.round(gameLocation.getWinProbability(team) * 100))).collect(Collectors.toList());
 		teamNames.add("Exit to map");
 		int selectedOption = cliEnvironment.displayOptions(teamNames.toArray(new String[0]));
 
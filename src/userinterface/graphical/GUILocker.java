@@ -8,6 +8,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.SwingConstants;
 
 import enumeration.Position;
 import game.Athlete;
@@ -26,7 +28,7 @@ import util.MiscUtil;
  * graphical interface for moving players between positions within the team.
  * 
  * @author Jake van Keulen
- * @version 1.0
+ * @version 1.2
  */
 @SuppressWarnings("serial")
 public class GUILocker extends GUILocation {
@@ -46,6 +48,11 @@ public class GUILocker extends GUILocation {
 	 */
 	private Title inventoryTitleLabel;
 
+	/**
+	 * Lists the athletes who would fail a drug test
+	 */
+	private JLabel atRiskLabel;
+
 	/**
 	 * Gets the selected athlete from the athlete explorer and prompts the user
 	 * asking what position to move them to. Then instructs the game location to
@@ -66,6 +73,15 @@ public class GUILocker extends GUILocation {
 		}
 	}
 
+	/**
+	 * Instructs the game location to arrange the player's team into its best
+	 * lineup, then shows the new lineup.
+	 */
+	private void chooseBestLineup() {
+		gameLocation.chooseBestLineup();
+		purchasableExplorer.refresh();
+	}
+
 	/**
 	 * @return A list of the athletes in the player's team.
 	 */
@@ -79,6 +95,11 @@ public class GUILocker extends GUILocation {
 	public void refresh() {
 		purchasableExplorer.refresh();
 		this.inventoryTitleLabel.setText("Locker Room - " + this.gameLocation.getTeamName());
+
+		List<Athlete> atRisk = gameLocation.getAthletesAtRisk();
+		String names = String.join(", ", atRisk.stream().map(athlete -> athlete.getName()).toArray(String[]::new));
+		atRiskLabel.setText(atRisk.isEmpty() ? "" : "At risk in a drug test: " + names);
+		atRiskLabel.setToolTipText(atRisk.isEmpty() ? null : names);
 	}
 
 	/**
@@ -110,6 +131,22 @@ public class GUILocker extends GUILocation {
 
 		add(moveAthleteButton);
 
+		JButton bestLineupButton = new JButton("Best Lineup");
+		bestLineupButton.addActionListener(new ActionListener() {
+			public void actionPerformed(ActionEvent e) {
+				chooseBestLineup();
+			}
+		});
+		bestLineupButton.setBounds(334, 558, 170, 36);
+		bestLineupButton.setBackground(new Color(225, 222, 222));
+		add(bestLineupButton);
+
+		atRiskLabel = new JLabel("");
+		atRiskLabel.setForeground(new Color(180, 30, 30));
+		atRiskLabel.setHorizontalAlignment(SwingConstants.CENTER);
+		atRiskLabel.setBounds(182, 558, 146, 36);
+		add(atRiskLabel);
+
 		purchasableExplorer = new AthleteExplorer(() -> getAthletes());
 		refresh();
 		add(purchasableExplorer);
@@ -5,9 +5,11 @@ import java.awt.Font;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.util.ArrayList;
+import java.util.List;
 
 import javax.swing.JButton;
 import javax.swing.JLabel;
+import javax.swing.SwingConstants;
 
 import game.Purchasable;
 import game.location.GameLocation;
@@ -23,7 +25,7 @@ import userinterface.graphical.components.Title;
  * options.
  * 
  * @author Jake van Keulen
- * @version 1.0
+ * @version 1.1
  */
 @SuppressWarnings("serial")
 public class GUIMarket extends GUILocation {
@@ -68,6 +70,11 @@ public class GUIMarket extends GUILocation {
 	 */
 	private JLabel moneyLabel;
 
+	/**
+	 * The label that displays the purchases the market recommends
+	 */
+	private JLabel recommendedLabel;
+
 	/**
 	 * Refreshes the purchasable explorer to use the latest purchasable data.
 	 */
@@ -78,6 +85,8 @@ public class GUIMarket extends GUILocation {
 
 		moneyLabel.setText("$" + gameLocation.getPlayerMoney());
 
+		refreshRecommended();
+
 		choosePurchasableButton.setText(showSellScreen ? "Sell" : "Buy");
 		for (ActionListener oldListener : choosePurchasableButton.getActionListeners()) {
 			choosePurchasableButton.removeActionListener(oldListener);
@@ -102,6 +111,26 @@ public class GUIMarket extends GUILocation {
 		purchasableExplorer.refresh();
 	}
 
+	/**
+	 * Shows the purchases the market recommends the player makes. Nothing is shown
+	 * on the sell screen.
+	 */
+	private void refreshRecommended() {
+		List<Purchasable> recommended = showSellScreen ? List.of()
+				: gameLocation.getOptimiser().getRecommendedPurchases();
+		if (recommended.isEmpty()) {
+			recommendedLabel.setText("");
+			return;
+		}
+		int totalPrice = 0;
+		String[] names = new String[recommended.size()];
+		for (int i = 0; i < recommended.size(); ++i) {
+			names[i] = recommended.get(i).getName();
+			totalPrice += recommended.get(i).getPrice();
+		}
+		recommendedLabel.setText("Recommended buys: " + String.join(", ", names) + " ($" + totalPrice + ")");
+	}
+
 	/**
 	 * Constructor for the GUIMarket component.
 	 * 
@@ -125,6 +154,11 @@ public class GUIMarket extends GUILocation {
 		moneyLabel.setBounds(16, 8, 200, 50);
 		add(moneyLabel);
 
+		recommendedLabel = new JLabel("");
+		recommendedLabel.setHorizontalAlignment(SwingConstants.CENTER);
+		recommendedLabel.setBounds(6, 522, 788, 30);
+		add(recommendedLabel);
+
 		choosePurchasableButton = new JButton();
 		purchasableExplorer = new PurchasableExplorer(() -> new ArrayList<Purchasable>(), true);
 		add(purchasableExplorer);
@@ -2,11 +2,13 @@ package userinterface.graphical;
 
 import java.awt.Color;
 import java.awt.Dimension;
+import java.awt.EventQueue;
 import java.awt.Font;
 import java.awt.GridLayout;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.util.Map;
+import java.util.concurrent.Flow;
 
 import javax.swing.JButton;
 import javax.swing.JLabel;
@@ -16,20 +18,24 @@ import javax.swing.Timer;
 import javax.swing.border.LineBorder;
 
 import enumeration.Location;
+import enumeration.MatchEventType;
 import enumeration.Position;
 import game.Athlete;
 import game.location.GameLocation;
 import game.location.GameMatch;
+import game.location.MatchEvent;
 import userinterface.graphical.components.PurchasableInfoLarge;
 import userinterface.graphical.components.Title;
 
 /**
  * A class that defines the match GUI location. Displays player match ups one by
  * one before displaying the final result of the match. Waits for user input to
- * continue at each step of the way.
+ * continue at each step of the way. The winner of each pairing flashes as the
+ * match publishes it, on the event dispatch thread. The scores are read from
+ * the match directly, so they stay right even if showing an event fails.
  * 
  * @author Jake van Keulen, Findlay Royds
- * @version 1.0
+ * @version 1.2
  */
 @SuppressWarnings("serial") // We are not using serialization in our project
 public class GUIMatch extends GUILocation {
@@ -67,11 +73,22 @@ public class GUIMatch extends GUILocation {
 	private JLabel team1ScoreLabel;
 	private JLabel team2ScoreLabel;
 
+	/**
+	 * The number of match events kept for the screen while it is busy. Events
+	 * beyond this are dropped rather than holding up the match.
+	 */
+	private final static int EVENT_BUFFER_SIZE = 8;
+
 	/**
 	 * A timer for making the winner border flash
 	 */
 	private Timer flashTimer;
 
+	/**
+	 * The panel of the winner whose border is flashing
+	 */
+	private JPanel flashingPanel;
+
 	/**
 	 * Count the number of times the winner's border has flashed
 	 */
@@ -125,6 +142,66 @@ public class GUIMatch extends GUILocation {
 
 		positionIndex = 0;
 		matchPlayed = false;
+
+		flashTimer = new Timer(250, new ActionListener() {
+			public void actionPerformed(ActionEvent evt) {
+				if (flashingPanel.getBorder() == null)
+					flashingPanel.setBorder(new LineBorder(new Color(184, 134, 11), 3, true));
+				else
+					flashingPanel.setBorder(null);
+				flashCount++;
+				if (flashCount > 5) {
+					flashCount = 0;
+					flashTimer.stop();
+					controlButton.setEnabled(true);
+				}
+			}
+		});
+
+		this.gameLocation.getEvents().subscribe(new Flow.Subscriber<MatchEvent>() {
+			private Flow.Subscription subscription;
+
+			@Override
+			public void onSubscribe(Flow.Subscription subscription) {
+				this.subscription = subscription;
+				subscription.request(1);
+			}
+
+			@Override
+			public void onNext(MatchEvent event) {
+				showEvent(event);
+				subscription.request(1);
+			}
+
+			@Override
+			public void onError(Throwable throwable) {
+				// No more winners will flash, so say why
+				throwable.printStackTrace();
+				controlButton.setEnabled(true);
+			}
+
+			@Override
+			public void onComplete() {
+			}
+		}, EVENT_BUFFER_SIZE, EventQueue::invokeLater);
+	}
+
+	/**
+	 * Shows a published match event by flashing a border around the winner of a
+	 * pairing.
+	 * 
+	 * @param event The event published by the match.
+	 */
+	private void showEvent(MatchEvent event) {
+		int winnerIndex = event.getWinner() == event.getAthlete1() ? 0 : 1;
+		if (event.getType() != MatchEventType.WINNER_DECIDED || athleteInfoPanel.getComponentCount() <= winnerIndex)
+			return;
+		if (flashingPanel != null)
+			flashingPanel.setBorder(null);
+		flashingPanel = (JPanel) athleteInfoPanel.getComponent(winnerIndex);
+		flashCount = 0;
+		controlButton.setEnabled(false);
+		flashTimer.restart();
 	}
 
 	/**
@@ -152,31 +229,10 @@ public class GUIMatch extends GUILocation {
 			titleLabel.setText(positionPlayed.name().replaceAll("_", " ") + " MATCHUP");
 
 			if (matchPlayed) {
-				Athlete winner = gameLocation.getWinningAthlete(athlete1, athlete2);
+				// The winner flashes when the match publishes it
+				gameLocation.getWinningAthlete(athlete1, athlete2);
 				team1ScoreLabel.setText(Integer.toString(gameLocation.getTeam1Score()));
 				team2ScoreLabel.setText(Integer.toString(gameLocation.getTeam2Score()));
-				int winnerIndex = winner == athlete1 ? 0 : 1;
-				JPanel winnerInfoPanel = (JPanel) athleteInfoPanel.getComponent(winnerIndex);
-
-				ActionListener flashBorder = new ActionListener() {
-					public void actionPerformed(ActionEvent evt) {
-						if (winnerInfoPanel.getBorder() == null)
-							winnerInfoPanel.setBorder(new LineBorder(new Color(184, 134, 11), 3, true));
-						else
-							winnerInfoPanel.setBorder(null);
-						flashCount++;
-						if (flashCount > 5) {
-							flashCount = 0;
-							flashTimer.stop();
-							controlButton.setEnabled(true);
-						}
-					}
-				};
-
-				controlButton.setEnabled(false);
-				flashTimer = new Timer(250, flashBorder);
-				flashTimer.start();
-
 				controlButton.setText("CONTINUE");
 				positionIndex += 1;
 			} else {
@@ -15,6 +15,8 @@ import javax.swing.JPanel;
 import javax.swing.SwingConstants;
 
 import game.Team;
+import game.league.League;
+import game.league.Standings;
 import game.location.GameLocation;
 import game.location.GameMatchSelection;
 import userinterface.graphical.components.ReturnToMapButton;
@@ -26,7 +28,7 @@ import userinterface.graphical.components.Title;
  * for the user to select one of to play a match against.
  * 
  * @author Jake van Keulen, Findlay Royds
- * @version 1.0
+ * @version 1.2
  */
 @SuppressWarnings("serial") // We are not using serialization in our project
 public class GUIMatchSelection extends GUILocation {
@@ -108,12 +110,25 @@ public class GUIMatchSelection extends GUILocation {
 		// Show warning if the player's team is not eligible to start
 		canStartWarningLabel.setVisible(!canStart);
 
+		// Show the player's place in the league, if they play in one
+		League league = gameLocation.getLeague();
+		if (league != null && league.hasPlayerTeam()) {
+			Standings standings = league.getStandings();
+			int team = League.PLAYER_TEAM_INDEX;
+			titleLabel.setText(String.format("Stadium - League position %d of %d (won %d, lost %d)",
+					standings.getRank(team) + 1, standings.getNumberOfTeams(), standings.getWon(team),
+					standings.getLost(team)));
+		} else
+			titleLabel.setText("Stadium");
+
 		// Create team displays and play buttons
 		for (int teamIndex = 0; teamIndex < matchTeams.size(); teamIndex++) {
 			// Create a constant of team index to use in play button event listener
 			Team team = matchTeams.get(teamIndex);
 
-			TeamInfo teamDisplay = new TeamInfo(new Rectangle(6, 6 + teamIndex, 254, 538), team);
+			String winChance = String.format("Win chance: %d%%",
+					Math.round(gameLocation.getWinProbability(team) * 100));
+			TeamInfo teamDisplay = new TeamInfo(new Rectangle(6, 6 + teamIndex, 254, 538), team, winChance);
 			teamDisplayPanel.add(teamDisplay);
 
 			if (canStart) {
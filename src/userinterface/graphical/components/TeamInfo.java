@@ -29,6 +29,18 @@ public class TeamInfo extends JPanel {
 	 * @param team   The team whose info is to be displayed.
 	 */
 	public TeamInfo(Rectangle bounds, Team team) {
+		this(bounds, team, null);
+	}
+
+	/**
+	 * Constructor for TeamInfo. Creates a team info component which shows the
+	 * team's name, a line of text under it, and the athletes in the team.
+	 * 
+	 * @param bounds   The position and dimensions of the component.
+	 * @param team     The team whose info is to be displayed.
+	 * @param subtitle The text shown under the team's name, or null for none.
+	 */
+	public TeamInfo(Rectangle bounds, Team team, String subtitle) {
 		setBackground(new Color(238, 238, 238));
 		setBorder(BorderFactory.createLineBorder(new Color(180, 180, 180)));
 		setLayout(null);
@@ -40,6 +52,16 @@ public class TeamInfo extends JPanel {
 		nameLabel.setBounds(6, 6, 238, 64);
 		add(nameLabel);
 
+		if (subtitle != null) {
+			nameLabel.setBounds(6, 6, 238, 56);
+			JLabel subtitleLabel = new JLabel(subtitle);
+			subtitleLabel.setFont(new Font("Lucida Grande", Font.PLAIN, 13));
+			subtitleLabel.setForeground(new Color(90, 90, 90));
+			subtitleLabel.setHorizontalAlignment(SwingConstants.CENTER);
+			subtitleLabel.setBounds(6, 62, 238, 20);
+			add(subtitleLabel);
+		}
+
 		Rectangle listBounds = new Rectangle(6, 86, bounds.width - 12, 330);
 		List<JPanel> athleteInfoComponents = team.getActiveAthletes().values().stream()
 				.map(athlete -> new AthleteInfoSmall(athlete, false)).collect(Collectors.toList());
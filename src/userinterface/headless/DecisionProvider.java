@@ -0,0 +1,59 @@
+package userinterface.headless;
+
+import java.util.Random;
+
+/**
+ * Decides which option to select when the headless UI environment is asked to
+ * display a popup. Any lambda can be used as a callback, and the static methods
+ * create providers for common strategies.
+ * 
+ * @author Findlay Royds
+ * @version 1.0, May 2023.
+ */
+@FunctionalInterface
+public interface DecisionProvider {
+	/**
+	 * Selects one of the options of a popup.
+	 * 
+	 * @param message The message displayed in the popup.
+	 * @param options The text of each option. Always contains at least one option.
+	 * @return The index of the selected option in range: [0, options.length)
+	 */
+	public int decide(String message, String[] options);
+
+	/**
+	 * @return A provider that always selects the first option.
+	 */
+	public static DecisionProvider firstOption() {
+		return (message, options) -> 0;
+	}
+
+	/**
+	 * Creates a provider that selects a random option each time.
+	 * 
+	 * @param rng The Random object used to select options.
+	 * @return A provider that selects random options.
+	 */
+	public static DecisionProvider random(Random rng) {
+		return (message, options) -> rng.nextInt(options.length);
+	}
+
+	/**
+	 * Creates a provider that selects the given option indices in order. Once the
+	 * script has run out, or if a scripted index is out of range for a popup, the
+	 * first option is selected instead.
+	 * 
+	 * @param decisions The indices of the options to select, in order.
+	 * @return A provider that follows the script.
+	 */
+	public static DecisionProvider scripted(int... decisions) {
+		int[] script = decisions.clone();
+		int[] nextDecision = { 0 };
+		return (message, options) -> {
+			if (nextDecision[0] >= script.length)
+				return 0;
+			int decision = script[nextDecision[0]++];
+			return decision >= 0 && decision < options.length ? decision : 0;
+		};
+	}
+}
@@ -0,0 +1,154 @@
+package userinterface.headless;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import enumeration.Location;
+import game.location.GameLocation;
+import userinterface.UIEnvironment;
+
+/**
+ * A UI environment that needs no display and no user input. Popups are answered
+ * by a DecisionProvider, and the most recent popup messages are kept in a
+ * bounded ring buffer so they can be inspected afterwards.
+ * 
+ * @author Findlay Royds
+ * @version 1.0, May 2023.
+ */
+public class HeadlessEnvironment implements UIEnvironment {
+	/**
+	 * The number of messages kept if no capacity is given.
+	 */
+	private static final int DEFAULT_MESSAGE_CAPACITY = 100;
+
+	/**
+	 * Decides which option is selected for each popup.
+	 */
+	private DecisionProvider decisionProvider;
+
+	/**
+	 * Ring buffer of the most recent popup messages.
+	 */
+	private String[] messages;
+
+	/**
+	 * The index in messages that the next message will be written to.
+	 */
+	private int nextMessageIndex;
+
+	/**
+	 * The number of messages currently stored.
+	 */
+	private int numberOfMessages;
+
+	/**
+	 * The location the game is currently at.
+	 */
+	private Location currentLocation;
+
+	/**
+	 * Constructor for the headless environment.
+	 * 
+	 * @param decisionProvider Decides which option is selected for each popup.
+	 * @param messageCapacity  The maximum number of popup messages to keep. Older
+	 *                         messages are discarded first.
+	 */
+	public HeadlessEnvironment(DecisionProvider decisionProvider, int messageCapacity) {
+		this.decisionProvider = decisionProvider;
+		this.messages = new String[Math.max(1, messageCapacity)];
+	}
+
+	/**
+	 * Constructor for the headless environment. Keeps the 100 most recent popup
+	 * messages.
+	 * 
+	 * @param decisionProvider Decides which option is selected for each popup.
+	 */
+	public HeadlessEnvironment(DecisionProvider decisionProvider) {
+		this(decisionProvider, DEFAULT_MESSAGE_CAPACITY);
+	}
+
+	/**
+	 * Records the new location. Nothing is displayed.
+	 */
+	@Override
+	public void changeLocation(Location location, GameLocation gameLocation) {
+		currentLocation = location;
+	}
+
+	/**
+	 * Records the message and asks the decision provider which option to select.
+	 */
+	@Override
+	public int displayPopup(String message, String[] options) {
+		recordMessage(message);
+		// Match the command line interface when there is nothing to select
+		if (options.length == 0)
+			return -1;
+		return decisionProvider.decide(message, options);
+	}
+
+	/**
+	 * Records the message.
+	 */
+	@Override
+	public void displayPopup(String message) {
+		recordMessage(message);
+	}
+
+	/**
+	 * Adds a message to the ring buffer, overwriting the oldest message if it is
+	 * full.
+	 * 
+	 * @param message The message to add.
+	 */
+	private void recordMessage(String message) {
+		messages[nextMessageIndex] = message;
+		nextMessageIndex = (nextMessageIndex + 1) % messages.length;
+		numberOfMessages = Math.min(numberOfMessages + 1, messages.length);
+	}
+
+	/**
+	 * @return The most recent popup messages, from oldest to newest.
+	 */
+	public List<String> getMessages() {
+		List<String> result = new ArrayList<String>(numberOfMessages);
+		int oldestIndex = (nextMessageIndex - numberOfMessages + messages.length) % messages.length;
+		for (int i = 0; i < numberOfMessages; ++i) {
+			result.add(messages[(oldestIndex + i) % messages.length]);
+		}
+		return result;
+	}
+
+	/**
+	 * @return The most recent popup message, or null if there have been none.
+	 */
+	public String getLastMessage() {
+		if (numberOfMessages == 0)
+			return null;
+		return messages[(nextMessageIndex - 1 + messages.length) % messages.length];
+	}
+
+	/**
+	 * Discards all recorded messages.
+	 */
+	public void clearMessages() {
+		nextMessageIndex = 0;
+		numberOfMessages = 0;
+	}
+
+	/**
+	 * @return The location the game is currently at, or null if it hasn't changed
+	 *         location yet.
+	 */
+	public Location getCurrentLocation() {
+		return currentLocation;
+	}
+
+	/**
+	 * @param decisionProvider The new provider used to answer popups.
+	 */
+	public void setDecisionProvider(DecisionProvider decisionProvider) {
+		this.decisionProvider = decisionProvider;
+	}
+}
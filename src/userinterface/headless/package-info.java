@@ -0,0 +1,8 @@
+/**
+ * A package containing a user interface that needs no display or user input,
+ * used for automated games and testing.
+ * 
+ * @author Findlay Royds
+ * @version 1.0, May 2023.
+ */
+package userinterface.headless;
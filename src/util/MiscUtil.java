@@ -70,4 +70,24 @@ public class MiscUtil {
 	public static int nextIntBounds(int lowerBound, int upperBound, Random rng) {
 		return rng.nextInt(upperBound - lowerBound + 1) + lowerBound;
 	}
+
+	/**
+	 * Combines several values into a single well mixed seed. Changing any of the
+	 * values gives an unrelated seed, so it can be used to derive independent
+	 * random streams from a base seed.
+	 * 
+	 * @param values The values to combine, for example a seed, week and key
+	 * @return A seed derived from every value
+	 */
+	public static long mixSeed(long... values) {
+		long seed = 0;
+		for (long value : values) {
+			// SplitMix64 finaliser
+			seed += value + 0x9E3779B97F4A7C15L;
+			seed = (seed ^ (seed >>> 30)) * 0xBF58476D1CE4E5B9L;
+			seed = (seed ^ (seed >>> 27)) * 0x94D049BB133111EBL;
+			seed ^= seed >>> 31;
+		}
+		return seed;
+	}
 }
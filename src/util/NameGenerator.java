@@ -1,96 +1,81 @@
 package util;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Defines static methods for reading words from files and using them to
- * generate names.
- * 
+ * generate names. Each word list is only read once per process, after which it
+ * is shared by every game. Words are only decoded when they are picked.
+ *
  * @author Jake van Keulen
- * @version 1.0
+ * @version 1.2
  */
 public class NameGenerator {
 	/**
-	 * Reads lines (words) from a file and returns them in a 2D ArrayList format,
-	 * where result[i] contains all lines in the file starting with the ith letter
-	 * of the alphabet. The file must be located within the
-	 * /src/game/nameGenerationWords/ directory and all lines must start with a
-	 * capital letter.
-	 * 
-	 * @param filename The name of the text file to be read. Files are accessed
-	 *                 using the following filepath:
-	 *                 "src/game/nameGenerationWords/{filename}.txt"
-	 * @return 2D ArrayList of words, where the ith entry is an ArrayList containing
-	 *         all words beginning with the ith letter of the alphabet
-	 *         (capitalized).
+	 * The number of letters in the alphabet. Words are grouped by their first
+	 * letter.
 	 */
-	private static ArrayList<ArrayList<String>> readWordList(String filename) {
-		final String WORD_LIST_DIR = "";
-		String filepath = WORD_LIST_DIR + filename + ".txt";
+	private static final int ALPHABET_SIZE = 'Z' - 'A' + 1;
 
-		// Build the empty result 2D array
-		ArrayList<ArrayList<String>> result = new ArrayList<ArrayList<String>>(26);
-		for (int i = 0; i <= 'Z' - 'A'; ++i) {
-			result.add(new ArrayList<String>(1));
-		}
+	/**
+	 * Word lists that have already been read, mapped from their filename.
+	 */
+	private static final Map<String, WordList> wordLists = new ConcurrentHashMap<String, WordList>();
 
-		// Attempt to read lines from the file and add them to the result.
+	/**
+	 * Loads the word list for a file. The precompiled binary version of the list
+	 * is used if it exists, otherwise the text version is read.
+	 *
+	 * @param filename The name of the word list to be read, without a file
+	 *                 extension. Files must be located within the resources
+	 *                 directory and all words must start with a capital letter.
+	 * @return The WordList for the file, or null if the file could not be read.
+	 */
+	private static WordList readWordList(String filename) {
 		try {
-			InputStream in = ClassLoader.getSystemResourceAsStream(filepath);
-			BufferedReader reader = new BufferedReader(new InputStreamReader(in));
-			List<String> lines = new ArrayList<String>();
-			String line = reader.readLine();
-			while (line != null) {
-				lines.add(line);
-				line = reader.readLine();
-			}
-			reader.close();
-
-			for (String word : lines) {
-				result.get(word.charAt(0) - 'A').add(word);
-			}
-			return result;
+			return WordList.load(filename);
 		} catch (IOException e) {
-			System.out.println("File " + filepath + " may not exist.");
-			e.printStackTrace();
-			return null;
-		} catch (NullPointerException e) {
-			System.out.println("File " + filepath + " may not exist.");
+			System.out.println("File " + filename + " may not exist.");
 			e.printStackTrace();
 			return null;
 		}
 	}
 
+	/**
+	 * Gets the WordList for a file, reading the file the first time it is asked
+	 * for. Files that fail to read are not cached.
+	 *
+	 * @param filename The name of the text file containing the words.
+	 * @return The WordList for the file, or null if the file could not be read.
+	 */
+	private static WordList getWordList(String filename) {
+		return wordLists.computeIfAbsent(filename, NameGenerator::readWordList);
+	}
+
 	/**
 	 * Generates 2 word alliterative names, where the first word is randomly chosen
 	 * from the file wordList1 and the second word from the file wordList2.
-	 * wordList1 and wordList2 must be located within /src/game/nameGenerationWords/
-	 * with each word on a new line, starting with a capital letter.
-	 * 
+	 * wordList1 and wordList2 must be located within the resources directory with
+	 * each word on a new line, starting with a capital letter.
+	 *
 	 * @param wordList1 The filename to choose the first word from.
 	 * @param wordList2 The filename to choose the second word from.
 	 * @param rng       A Random object used for random number generation.
 	 * @return An alliterative name in the format "word1 word1"
 	 */
 	public static String generateName(String wordList1, String wordList2, Random rng) {
-		ArrayList<ArrayList<String>> words1 = readWordList(wordList1);
-		ArrayList<ArrayList<String>> words2 = readWordList(wordList2);
+		WordList words1 = getWordList(wordList1);
+		WordList words2 = getWordList(wordList2);
 		// detect bad filename
 		if (words1 != null && words2 != null) {
 			// pick a random letter from the alphabet for the words to start with
-			int startLetterIndex = rng.nextInt(26);
-			// get all words from the two lists that start with that letter
-			ArrayList<String> word1Candidates = words1.get(startLetterIndex);
-			ArrayList<String> word2Candidates = words2.get(startLetterIndex);
-			// randomly pick a word from each
-			String word1 = word1Candidates.get(rng.nextInt(word1Candidates.size()));
-			String word2 = word2Candidates.get(rng.nextInt(word2Candidates.size()));
+			int startLetterIndex = rng.nextInt(ALPHABET_SIZE);
+			// randomly pick a word from each list that starts with that letter
+			String word1 = words1.getWord(startLetterIndex, rng.nextInt(words1.getNumberOfWords(startLetterIndex)));
+			String word2 = words2.getWord(startLetterIndex, rng.nextInt(words2.getNumberOfWords(startLetterIndex)));
 			return word1 + " " + word2;
 		} else {
 			return "<name generation error>";
@@ -0,0 +1,130 @@
+package util;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import enumeration.RandomStream;
+
+/**
+ * Hands out independent random streams derived from a single seed. The seed is
+ * split into one SplittableRandom per RandomStream purpose, and each stream for
+ * a purpose is identified by keys such as the week and an index. A stream only
+ * depends on the seed, its purpose and its keys, so streams can be created and
+ * used in any order, on any thread, and still give the same numbers.
+ * 
+ * Streams are returned as Random objects so that they can be passed to
+ * existing code, but are backed by a SplittableRandom, which doesn't
+ * synchronise.
+ * 
+ * @author Findlay Royds
+ * @version 1.0, May 2023.
+ */
+public class RandomService {
+	/**
+	 * The seed of the streams for each purpose, indexed by ordinal.
+	 */
+	private final long[] purposeSeeds;
+
+	/**
+	 * Creates the streams for a seed.
+	 * 
+	 * @param seed The seed every stream is derived from
+	 */
+	public RandomService(long seed) {
+		SplittableRandom root = new SplittableRandom(seed);
+		RandomStream[] purposes = RandomStream.values();
+		purposeSeeds = new long[purposes.length];
+		for (int i = 0; i < purposes.length; ++i) {
+			purposeSeeds[i] = root.split().nextLong();
+		}
+	}
+
+	/**
+	 * Creates the stream for a purpose and keys. Calling this again with the same
+	 * arguments gives a new Random object that produces the same numbers.
+	 * 
+	 * @param purpose What the numbers will be used for
+	 * @param keys    Values identifying the stream within the purpose, such as
+	 *                the week and an index
+	 * @return A Random object producing the stream's numbers
+	 */
+	public Random getStream(RandomStream purpose, long... keys) {
+		long seed = purposeSeeds[purpose.ordinal()];
+		for (long key : keys) {
+			seed = MiscUtil.mixSeed(seed, key);
+		}
+		return new SplittableRandomAdapter(new SplittableRandom(seed));
+	}
+
+	/**
+	 * A Random that takes its numbers from a SplittableRandom instead of its own
+	 * synchronised seed.
+	 */
+	private static class SplittableRandomAdapter extends Random {
+		/**
+		 * Random is Serializable.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The generator numbers are taken from
+		 */
+		private final SplittableRandom source;
+
+		/**
+		 * @param source The generator numbers are taken from
+		 */
+		SplittableRandomAdapter(SplittableRandom source) {
+			this.source = source;
+		}
+
+		/**
+		 * Does nothing, as a stream's seed is fixed when it is created. Random's
+		 * constructor calls this.
+		 */
+		@Override
+		public void setSeed(long seed) {
+			// Streams can't be reseeded
+		}
+
+		@Override
+		protected int next(int bits) {
+			return (int) (source.nextLong() >>> (Long.SIZE - bits));
+		}
+
+		@Override
+		public int nextInt() {
+			return source.nextInt();
+		}
+
+		@Override
+		public int nextInt(int bound) {
+			return source.nextInt(bound);
+		}
+
+		@Override
+		public long nextLong() {
+			return source.nextLong();
+		}
+
+		@Override
+		public boolean nextBoolean() {
+			return source.nextBoolean();
+		}
+
+		@Override
+		public float nextFloat() {
+			return source.nextFloat();
+		}
+
+		@Override
+		public double nextDouble() {
+			return source.nextDouble();
+		}
+
+		@Override
+		public double nextGaussian() {
+			return source.nextGaussian();
+		}
+	}
+}
@@ -0,0 +1,271 @@
+package util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An immutable list of words grouped by the letter they start with, stored in a
+ * compact binary format. Words are only decoded into Strings when they are
+ * picked, so unused words never take up space on the heap.
+ *
+ * The binary format (big endian) is: the magic number, the format version, the
+ * number of words, 27 letter offsets (the index of the first word starting with
+ * each letter, plus the total number of words), one byte offset per word into
+ * the word data (plus the total length), then the UTF-8 bytes of every word
+ * back to back.
+ *
+ * Running the main method converts the text word lists into this format.
+ *
+ * @author Jake van Keulen
+ * @version 1.0
+ */
+public final class WordList {
+	/**
+	 * The file extension of a binary word list.
+	 */
+	public static final String BINARY_EXTENSION = ".dict";
+
+	/**
+	 * The file extension of a text word list.
+	 */
+	public static final String TEXT_EXTENSION = ".txt";
+
+	/**
+	 * The first 4 bytes of every binary word list ("NAME" in ASCII).
+	 */
+	private static final int MAGIC = 0x4E414D45;
+
+	/**
+	 * The version of the binary format.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * The number of letters in the alphabet. Words are grouped by their first
+	 * letter.
+	 */
+	private static final int ALPHABET_SIZE = 'Z' - 'A' + 1;
+
+	/**
+	 * The size in bytes of the header before the letter offsets.
+	 */
+	private static final int HEADER_SIZE = 3 * Integer.BYTES;
+
+	/**
+	 * The buffer containing the binary word list.
+	 */
+	private final ByteBuffer buffer;
+
+	/**
+	 * The index in the buffer of the first word offset.
+	 */
+	private final int wordOffsetsStart;
+
+	/**
+	 * The index in the buffer of the first byte of word data.
+	 */
+	private final int wordDataStart;
+
+	/**
+	 * Wraps a buffer containing a binary word list.
+	 *
+	 * @param buffer The buffer to read the word list from.
+	 * @throws IOException If the buffer doesn't contain a binary word list.
+	 */
+	private WordList(ByteBuffer buffer) throws IOException {
+		if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION)
+			throw new IOException("Not a binary word list");
+
+		int numberOfWords = buffer.getInt(2 * Integer.BYTES);
+		this.buffer = buffer;
+		wordOffsetsStart = HEADER_SIZE + (ALPHABET_SIZE + 1) * Integer.BYTES;
+		wordDataStart = wordOffsetsStart + (numberOfWords + 1) * Integer.BYTES;
+		if (buffer.limit() < wordDataStart || buffer.limit() < wordDataStart + getWordOffset(numberOfWords))
+			throw new IOException("Binary word list is truncated");
+	}
+
+	/**
+	 * @param wordIndex The index of a word in the list.
+	 * @return The index of the word's first byte in the word data.
+	 */
+	private int getWordOffset(int wordIndex) {
+		return buffer.getInt(wordOffsetsStart + wordIndex * Integer.BYTES);
+	}
+
+	/**
+	 * @param letterIndex The index of a letter in the alphabet, or the number of
+	 *                    letters for the end of the list.
+	 * @return The index of the first word starting with that letter.
+	 */
+	private int getLetterOffset(int letterIndex) {
+		return buffer.getInt(HEADER_SIZE + letterIndex * Integer.BYTES);
+	}
+
+	/**
+	 * @return The total number of words in the list.
+	 */
+	public int getNumberOfWords() {
+		return getLetterOffset(ALPHABET_SIZE);
+	}
+
+	/**
+	 * @param letterIndex The index of a letter in the alphabet.
+	 * @return The number of words starting with that letter.
+	 */
+	public int getNumberOfWords(int letterIndex) {
+		return getLetterOffset(letterIndex + 1) - getLetterOffset(letterIndex);
+	}
+
+	/**
+	 * Decodes a single word from the list.
+	 *
+	 * @param letterIndex The index of a letter in the alphabet.
+	 * @param wordIndex   The index of the word among those starting with that
+	 *                    letter.
+	 * @return The selected word.
+	 */
+	public String getWord(int letterIndex, int wordIndex) {
+		int word = getLetterOffset(letterIndex) + wordIndex;
+		int start = getWordOffset(word);
+		byte[] bytes = new byte[getWordOffset(word + 1) - start];
+		buffer.get(wordDataStart + start, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Encodes words into the binary format. Words starting with the same letter
+	 * keep the order they were given in.
+	 *
+	 * @param words The words to encode. Every word must start with a capital
+	 *              letter.
+	 * @return A buffer containing the binary word list.
+	 */
+	public static ByteBuffer encode(List<String> words) {
+		int[] letterOffsets = new int[ALPHABET_SIZE + 1];
+		byte[][] encodedWords = new byte[words.size()][];
+		int totalLength = 0;
+		for (int i = 0; i < words.size(); ++i) {
+			String word = words.get(i);
+			++letterOffsets[word.charAt(0) - 'A' + 1];
+			encodedWords[i] = word.getBytes(StandardCharsets.UTF_8);
+			totalLength += encodedWords[i].length;
+		}
+		for (int i = 0; i < ALPHABET_SIZE; ++i) {
+			letterOffsets[i + 1] += letterOffsets[i];
+		}
+
+		// Group the words by letter
+		byte[][] groupedWords = new byte[words.size()][];
+		int[] nextIndex = letterOffsets.clone();
+		for (int i = 0; i < words.size(); ++i) {
+			groupedWords[nextIndex[words.get(i).charAt(0) - 'A']++] = encodedWords[i];
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(
+				HEADER_SIZE + (letterOffsets.length + words.size() + 1) * Integer.BYTES + totalLength);
+		buffer.putInt(MAGIC).putInt(VERSION).putInt(words.size());
+		for (int letterOffset : letterOffsets) {
+			buffer.putInt(letterOffset);
+		}
+		int wordOffset = 0;
+		for (byte[] word : groupedWords) {
+			buffer.putInt(wordOffset);
+			wordOffset += word.length;
+		}
+		buffer.putInt(wordOffset);
+		for (byte[] word : groupedWords) {
+			buffer.put(word);
+		}
+		return buffer.flip();
+	}
+
+	/**
+	 * Reads the lines of a text word list.
+	 *
+	 * @param in The stream to read from.
+	 * @return Every line in the stream.
+	 * @throws IOException If the stream could not be read.
+	 */
+	private static List<String> readLines(InputStream in) throws IOException {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+			List<String> lines = new ArrayList<String>();
+			String line = reader.readLine();
+			while (line != null) {
+				lines.add(line);
+				line = reader.readLine();
+			}
+			return lines;
+		}
+	}
+
+	/**
+	 * Loads a word list from the classpath. The binary version of the list is
+	 * used if it exists, otherwise the text version is read and encoded. Binary
+	 * lists on the file system are memory mapped, and those inside a jar are read
+	 * into a single byte array.
+	 *
+	 * @param filename The name of the word list, without a file extension.
+	 * @return The loaded word list.
+	 * @throws IOException If neither version of the list exists or could be read.
+	 */
+	public static WordList load(String filename) throws IOException {
+		URL binaryUrl = ClassLoader.getSystemResource(filename + BINARY_EXTENSION);
+		if (binaryUrl != null) {
+			if (binaryUrl.getProtocol().equals("file")) {
+				try (FileChannel channel = FileChannel.open(Paths.get(binaryUrl.toURI()), StandardOpenOption.READ)) {
+					return new WordList(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+				} catch (URISyntaxException e) {
+					throw new IOException(e);
+				}
+			}
+			try (InputStream in = binaryUrl.openStream()) {
+				return new WordList(ByteBuffer.wrap(in.readAllBytes()));
+			}
+		}
+
+		InputStream in = ClassLoader.getSystemResourceAsStream(filename + TEXT_EXTENSION);
+		if (in == null)
+			throw new IOException("File " + filename + TEXT_EXTENSION + " does not exist");
+		return new WordList(encode(readLines(in)));
+	}
+
+	/**
+	 * Converts every text word list in a directory into a binary word list in the
+	 * same directory. This is the build step that generates the .dict files in
+	 * /resources.
+	 *
+	 * @param args The directory containing the word lists. Defaults to
+	 *             "resources".
+	 * @throws IOException If a word list could not be read or written.
+	 */
+	public static void main(String[] args) throws IOException {
+		File directory = new File(args.length > 0 ? args[0] : "resources");
+		File[] textFiles = directory.listFiles((dir, name) -> name.endsWith(TEXT_EXTENSION));
+		if (textFiles == null)
+			throw new IOException(directory + " is not a directory");
+
+		for (File textFile : textFiles) {
+			String name = textFile.getName();
+			Path binaryPath = textFile.toPath()
+					.resolveSibling(name.substring(0, name.length() - TEXT_EXTENSION.length()) + BINARY_EXTENSION);
+			List<String> words = readLines(Files.newInputStream(textFile.toPath()));
+			ByteBuffer buffer = encode(words);
+			Files.write(binaryPath, buffer.array());
+			System.out.println("Wrote " + words.size() + " words to " + binaryPath);
+		}
+	}
+}